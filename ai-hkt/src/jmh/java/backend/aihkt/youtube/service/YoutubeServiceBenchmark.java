@@ -0,0 +1,63 @@
+package backend.aihkt.youtube.service;
+
+import backend.aihkt.youtube.dto.YoutubeUploadRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 경로의 직렬화/파싱 비용. 세션 생성 메타데이터, 완료 응답의 videoId 추출, 308 응답의 Range 헤더 해석.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class YoutubeServiceBenchmark {
+
+    private YoutubeService service;
+    private YoutubeUploadRequest request;
+    private String uploadResponse;
+
+    @Setup
+    public void setUp() throws IOException {
+        service = new YoutubeService(null, null, null, new ObjectMapper(), null, null, null, null);
+        request = new YoutubeUploadRequest(
+                "채식주의자 트레일러",
+                "저자: 한강",
+                List.of("채식주의자", "한강"),
+                null,
+                "public",
+                true,
+                null
+        );
+        try (InputStream in = getClass().getResourceAsStream("/youtube/upload-response.json")) {
+            uploadResponse = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public String buildMetadataPayload() throws JsonProcessingException {
+        return service.buildMetadataPayload(request);
+    }
+
+    @Benchmark
+    public String extractVideoId() {
+        return service.extractVideoId(uploadResponse);
+    }
+
+    @Benchmark
+    public long parseRangeHeader() {
+        return service.parseRangeHeader("bytes=0-41943039", 0);
+    }
+}
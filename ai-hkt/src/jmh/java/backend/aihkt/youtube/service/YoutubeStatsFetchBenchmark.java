@@ -0,0 +1,101 @@
+package backend.aihkt.youtube.service;
+
+import backend.aihkt.infra.google.GoogleApiClient;
+import backend.aihkt.infra.google.GoogleTokenManager;
+import backend.aihkt.infra.http.RetryExecutor;
+import backend.aihkt.infra.http.RetryPolicy;
+import backend.aihkt.youtube.dto.VideoStatResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getVideoStats 한 번의 응답 지연. 요청마다 {@value #STUB_LATENCY_MS}ms 를 쉬는 로컬 스텁을 상대로
+ * 순차 호출(왕복 8번의 합)과 동시 호출(가장 느린 왕복 하나)을 비교한다. 캐시는 끈다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class YoutubeStatsFetchBenchmark {
+
+    private static final long STUB_LATENCY_MS = 100;
+
+    @Param({"false", "true"})
+    public boolean concurrentFetch;
+
+    private HttpServer server;
+    private YoutubeStatsService service;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/youtube/v3/videos", exchange -> respond(exchange,
+                "{\"items\":[{\"statistics\":{\"viewCount\":\"10\",\"likeCount\":\"2\"},"
+                        + "\"contentDetails\":{\"duration\":\"PT1M5S\"}}]}"));
+        server.createContext("/v2/reports", exchange -> respond(exchange, "{\"rows\":[[\"2025-01-01\",5,3,40.0,55.5]]}"));
+        server.start();
+
+        GoogleTokenManager tokenManager = new GoogleTokenManager(null, null, null, null) {
+            @Override
+            public String getAccessToken(Long userId) {
+                return "access-token";
+            }
+        };
+        RetryExecutor retryExecutor = new RetryExecutor(RetryPolicy.defaults(), new SimpleMeterRegistry());
+        GoogleApiClient googleApiClient = new GoogleApiClient(WebClient.create(), retryExecutor);
+
+        service = new YoutubeStatsService(tokenManager, new ObjectMapper(), googleApiClient, new SimpleMeterRegistry(), null);
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        DirectFieldAccessor fields = new DirectFieldAccessor(service);
+        fields.setPropertyValue("dataApiBaseUrl", baseUrl);
+        fields.setPropertyValue("analyticsApiBaseUrl", baseUrl);
+        fields.setPropertyValue("queryTimeout", Duration.ofSeconds(10));
+        fields.setPropertyValue("queryDeadline", Duration.ofSeconds(30));
+        fields.setPropertyValue("concurrentFetch", concurrentFetch);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public VideoStatResponse getVideoStats() {
+        return service.getVideoStats(1L, "video");
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        try {
+            Thread.sleep(STUB_LATENCY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package backend.aihkt.youtube.service;
+
+import backend.aihkt.youtube.dto.VideoAnalyticsResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getVideoStats 한 번이 만드는 Analytics 응답 7개와 채널 전체 getBulkAnalytics 응답을 레코드로 읽는 비용.
+ * <p>
+ * 페이로드는 실제 응답 형식(columnHeaders + rows)에 28일 일별 지표, 60개 국가 등 실제 채널 규모로 맞췄다.
+ * 벌크 응답은 영상 {@value #BULK_ROWS}개 분량을 만들어 쓰고, {@code readBulkAnalyticsTree} 는 비교용으로
+ * 예전처럼 JsonNode 트리를 거쳐 읽는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class YoutubeStatsParsingBenchmark {
+
+    private static final int BULK_ROWS = 5_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonFactory jsonFactory = objectMapper.getFactory();
+    private YoutubeStatsService service;
+
+    private byte[] daily;
+    private byte[] summary;
+    private byte[] country;
+    private byte[] traffic;
+    private byte[] device;
+    private byte[] os;
+    private byte[] ageGender;
+    private byte[] bulk;
+
+    @Setup
+    public void setUp() throws IOException {
+        service = new YoutubeStatsService(null, objectMapper, null, null, null);
+        daily = read("daily.json");
+        summary = read("summary.json");
+        country = read("country.json");
+        traffic = read("traffic.json");
+        device = read("device.json");
+        os = read("os.json");
+        ageGender = read("age-gender.json");
+        bulk = bulkResponse();
+    }
+
+    @Benchmark
+    public long parseDurationSeconds() {
+        return service.parseDurationSeconds("PT1H2M35S");
+    }
+
+    @Benchmark
+    public Object readDailyMetrics() throws IOException {
+        return YoutubeStatsService.DAILY_REPORT.read(jsonFactory, new ByteArrayInputStream(daily));
+    }
+
+    @Benchmark
+    public Object readCountryMetrics() throws IOException {
+        return YoutubeStatsService.COUNTRY_REPORT.read(jsonFactory, new ByteArrayInputStream(country));
+    }
+
+    /**
+     * 한 번의 통계 조회에 해당하는 응답 7개 전체.
+     */
+    @Benchmark
+    public List<Object> readVideoStats() throws IOException {
+        return List.of(
+                YoutubeStatsService.DAILY_REPORT.read(jsonFactory, new ByteArrayInputStream(daily)),
+                YoutubeStatsService.SUMMARY_REPORT.read(jsonFactory, new ByteArrayInputStream(summary)),
+                YoutubeStatsService.COUNTRY_REPORT.read(jsonFactory, new ByteArrayInputStream(country)),
+                YoutubeStatsService.TRAFFIC_REPORT.read(jsonFactory, new ByteArrayInputStream(traffic)),
+                YoutubeStatsService.DEVICE_REPORT.read(jsonFactory, new ByteArrayInputStream(device)),
+                YoutubeStatsService.OS_REPORT.read(jsonFactory, new ByteArrayInputStream(os)),
+                YoutubeStatsService.AGE_GENDER_REPORT.read(jsonFactory, new ByteArrayInputStream(ageGender))
+        );
+    }
+
+    @Benchmark
+    public Object readBulkAnalytics() throws IOException {
+        return YoutubeStatsService.BULK_REPORT.read(jsonFactory, new ByteArrayInputStream(bulk));
+    }
+
+    @Benchmark
+    public Object readBulkAnalyticsTree() throws IOException {
+        JsonNode root = objectMapper.readTree(new String(bulk));
+        List<VideoAnalyticsResponse.Row> rows = new ArrayList<>();
+        for (JsonNode row : root.path("rows")) {
+            rows.add(new VideoAnalyticsResponse.Row(
+                    row.path(0).asText(), row.path(1).asLong(0), row.path(2).asLong(0), row.path(3).asDouble(0)));
+        }
+        return rows;
+    }
+
+    private byte[] bulkResponse() {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder("""
+                {"kind":"youtubeAnalytics#resultTable","columnHeaders":[\
+                {"name":"video","columnType":"DIMENSION","dataType":"STRING"},\
+                {"name":"views","columnType":"METRIC","dataType":"INTEGER"},\
+                {"name":"estimatedMinutesWatched","columnType":"METRIC","dataType":"INTEGER"},\
+                {"name":"averageViewDuration","columnType":"METRIC","dataType":"INTEGER"}],"rows":[""");
+        for (int i = 0; i < BULK_ROWS; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("[\"vid").append(String.format("%08d", i)).append("\",")
+                    .append(random.nextInt(100_000)).append(',')
+                    .append(random.nextInt(50_000)).append(',')
+                    .append(random.nextInt(600)).append(']');
+        }
+        return sb.append("]}").toString().getBytes();
+    }
+
+    private byte[] read(String name) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/analytics/" + name)) {
+            return in.readAllBytes();
+        }
+    }
+}
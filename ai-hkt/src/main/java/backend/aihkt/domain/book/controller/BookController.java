@@ -35,13 +35,24 @@ public class BookController {
         return ResponseEntity.ok(bookService.getRecentBooks(userId));
     }
 
-    @Operation(summary = "모든 책 조회", description = "userId가 없으면 전체, 있으면 해당 사용자의 모든 책을 반환합니다.")
+    @Operation(summary = "책 목록 조회", description = "userId가 없으면 전체, 있으면 해당 사용자의 책을 최신순으로 페이지 단위로 반환합니다. "
+            + "다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회합니다.")
     @ApiResponse(responseCode = "200", description = "조회 성공",
-            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BookResponse.BookInfo.class))))
+            content = @Content(schema = @Schema(implementation = BookResponse.BookPage.class)))
     @GetMapping
-    public ResponseEntity<List<BookResponse.BookInfo>> getAllBooks(
-            @RequestParam(value = "userId", required = false) Long userId) {
-        return ResponseEntity.ok(bookService.getAllBooks(userId));
+    public ResponseEntity<BookResponse.BookPage> getBooks(
+            @RequestParam(value = "userId", required = false) Long userId,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ResponseEntity.ok(bookService.getBooks(userId, cursor, size));
+    }
+
+    @Operation(summary = "여러 책의 유튜브 URL 조회", description = "ids 로 넘긴 책들의 유튜브 URL 을 한 번에 반환합니다. 없는 책은 결과에서 빠집니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BookResponse.BookWithUrls.class))))
+    @GetMapping("/youtube-urls")
+    public ResponseEntity<List<BookResponse.BookWithUrls>> getYoutubeUrlsByBookIds(@RequestParam("ids") List<Long> ids) {
+        return ResponseEntity.ok(bookService.getYoutubeUrlsByBookIds(ids));
     }
 
     @Operation(summary = "책별 유튜브 URL 조회", description = "bookId에 매핑된 모든 유튜브 URL을 반환합니다.")
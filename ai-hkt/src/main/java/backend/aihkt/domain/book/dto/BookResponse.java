@@ -10,6 +10,15 @@ public class BookResponse {
     ) {
     }
 
+    /**
+     * @param nextCursor 다음 페이지 요청에 cursor 로 넘길 값. 마지막 페이지면 null.
+     */
+    public record BookPage(
+            java.util.List<BookInfo> books,
+            Long nextCursor
+    ) {
+    }
+
     public record BookWithUrls(
             Long id,
             String title,
@@ -1,15 +1,64 @@
 package backend.aihkt.domain.book.repository;
 
+import backend.aihkt.domain.book.dto.BookResponse;
 import backend.aihkt.domain.book.entity.Book;
 import backend.aihkt.domain.user.entity.Users;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
     Optional<Book> findFirstByTitleAndAuthorAndUser(String title, String author, Users user);
-    List<Book> findTop4ByOrderByIdDesc();
-    List<Book> findTop4ByUserOrderByIdDesc(Users user);
-    List<Book> findAllByUserOrderByIdDesc(Users user);
+
+    /**
+     * id 내림차순 키셋 페이지. 엔티티 없이 BookInfo 로 바로 읽고, user_id 는 FK 컬럼을 그대로 쓴다(users 조인 없음).
+     */
+    @Query("""
+            select new backend.aihkt.domain.book.dto.BookResponse$BookInfo(b.id, b.title, b.author, b.user.id)
+            from Book b
+            where b.id < :cursor
+            order by b.id desc
+            """)
+    List<BookResponse.BookInfo> findPageBefore(@Param("cursor") long cursor, Limit limit);
+
+    @Query("""
+            select new backend.aihkt.domain.book.dto.BookResponse$BookInfo(b.id, b.title, b.author, b.user.id)
+            from Book b
+            where b.user.id = :userId and b.id < :cursor
+            order by b.id desc
+            """)
+    List<BookResponse.BookInfo> findPageByUserBefore(@Param("userId") Long userId,
+                                                     @Param("cursor") long cursor,
+                                                     Limit limit);
+
+    /**
+     * 책과 영상을 한 번에 읽는다. 책 한 권당 영상 수만큼 행이 나오며, 영상이 없는 책은 영상 컬럼이 null 인 한 행이다.
+     */
+    @Query("""
+            select b.id as bookId, b.title as title, b.author as author, b.user.id as userId,
+                   v.id as videoId, v.youtubeUrl as youtubeUrl
+            from Book b left join Video v on v.book = b
+            where b.id in :bookIds
+            order by b.id, v.id
+            """)
+    List<BookVideoRow> findWithVideos(@Param("bookIds") Collection<Long> bookIds);
+
+    interface BookVideoRow {
+        Long getBookId();
+
+        String getTitle();
+
+        String getAuthor();
+
+        Long getUserId();
+
+        String getVideoId();
+
+        String getYoutubeUrl();
+    }
 }
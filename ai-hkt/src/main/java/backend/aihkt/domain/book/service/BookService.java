@@ -5,13 +5,20 @@ import backend.aihkt.domain.book.entity.Book;
 import backend.aihkt.domain.book.repository.BookRepository;
 import backend.aihkt.domain.user.entity.Users;
 import backend.aihkt.domain.user.repository.UserRepository;
-import backend.aihkt.domain.video.repository.VideoRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Stream;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -19,51 +26,101 @@ public class BookService {
 
     private final BookRepository bookRepository;
     private final UserRepository userRepository;
-    private final VideoRepository videoRepository;
+    private final RecentBooks recentBooks;
 
+    @Value("${book.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${book.page.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${book.youtube-urls.max-ids:100}")
+    private int maxYoutubeUrlIds;
+
+    /**
+     * 랜딩 페이지에서 가장 자주 불리는 조회라 {@link RecentBooks} 메모리 목록으로 답한다.
+     */
     public List<BookResponse.BookInfo> getRecentBooks(Long userId) {
-        List<Book> books = (userId == null)
-                ? bookRepository.findTop4ByOrderByIdDesc()
-                : bookRepository.findTop4ByUserOrderByIdDesc(getUser(userId));
-        return toBookInfoList(books);
+        return userId == null ? recentBooks.global() : recentBooks.forUser(userId);
     }
 
-    public List<BookResponse.BookInfo> getAllBooks(Long userId) {
-        List<Book> books = (userId == null)
-                ? bookRepository.findAll()
-                : bookRepository.findAllByUserOrderByIdDesc(getUser(userId));
-        return toBookInfoList(books);
+    /**
+     * id 내림차순으로 한 페이지씩 반환한다. cursor 는 이전 페이지의 nextCursor 이며, 없으면 첫 페이지다.
+     * size 는 [1, book.page.max-size] 로 맞춘다.
+     */
+    public BookResponse.BookPage getBooks(Long userId, Long cursor, Integer size) {
+        // 책 목록은 BookInfo 프로젝션으로만 읽는다(user_id 는 FK 컬럼). 엔티티를 읽어 getUser() 를 따라가면
+        // 프록시 설정에 따라 책마다 users 조회가 나갈 수 있다.
+        int pageSize = Math.min(Math.max(size == null ? defaultPageSize : size, 1), maxPageSize);
+        long before = cursor == null ? Long.MAX_VALUE : cursor;
+        Limit limit = Limit.of(pageSize + 1); // 한 건 더 읽어 다음 페이지가 있는지 본다.
+        List<BookResponse.BookInfo> books;
+        if (userId == null) {
+            books = bookRepository.findPageBefore(before, limit);
+        } else {
+            if (!userRepository.existsById(userId)) {
+                throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId);
+            }
+            books = bookRepository.findPageByUserBefore(userId, before, limit);
+        }
+        if (books.size() <= pageSize) {
+            return new BookResponse.BookPage(books, null);
+        }
+        List<BookResponse.BookInfo> page = books.subList(0, pageSize);
+        return new BookResponse.BookPage(List.copyOf(page), page.get(pageSize - 1).id());
     }
 
-    public BookResponse.BookWithUrls getYoutubeUrlsByBookId(Long bookId) {
-        Book book = bookRepository.findById(bookId)
-                .orElseThrow(() -> new IllegalArgumentException("책을 찾을 수 없습니다: " + bookId));
-
-        List<BookResponse.VideoInfo> videos = videoRepository.findAllByBook_Id(bookId).stream()
-                .map(v -> new BookResponse.VideoInfo(v.getId(), v.getYoutubeUrl()))
-                .collect(Collectors.toList());
-
-        return new BookResponse.BookWithUrls(
-                book.getId(),
-                book.getTitle(),
-                book.getAuthor(),
-                book.getUser() == null ? null : book.getUser().getId(),
-                videos
-        );
+    /**
+     * (사용자, 제목, 저자) 책을 찾고 없으면 만든다. 동시에 같은 책을 만들면 uk_book_user_title_author 에 막힌 쪽이
+     * 먼저 만들어진 책을 다시 읽어 반환한다. 조회와 insert 가 각자 짧은 트랜잭션으로 도므로 트랜잭션 안에서 부르면 안 된다
+     * (실패한 insert 가 바깥 트랜잭션을 rollback-only 로 만든다).
+     */
+    public Book getOrCreate(Users user, String title, String author) {
+        Optional<Book> existing = bookRepository.findFirstByTitleAndAuthorAndUser(title, author, user);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        try {
+            Book created = bookRepository.save(Book.create(title, author, user));
+            recentBooks.added(created);
+            return created;
+        } catch (DataIntegrityViolationException e) {
+            return bookRepository.findFirstByTitleAndAuthorAndUser(title, author, user)
+                    .orElseThrow(() -> e);
+        }
     }
 
-    private Users getUser(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+    public BookResponse.BookWithUrls getYoutubeUrlsByBookId(Long bookId) {
+        List<BookResponse.BookWithUrls> books = getYoutubeUrlsByBookIds(List.of(bookId));
+        if (books.isEmpty()) {
+            throw new IllegalArgumentException("책을 찾을 수 없습니다: " + bookId);
+        }
+        return books.get(0);
     }
 
-    private List<BookResponse.BookInfo> toBookInfoList(List<Book> books) {
-        return books.stream()
-                .map(b -> new BookResponse.BookInfo(
-                        b.getId(),
-                        b.getTitle(),
-                        b.getAuthor(),
-                        b.getUser() == null ? null : b.getUser().getId()))
-                .collect(Collectors.toList());
+    /**
+     * 여러 책의 유튜브 URL 을 쿼리 한 번으로 조회한다. 요청한 순서대로 반환하며 없는 책은 빠진다.
+     */
+    public List<BookResponse.BookWithUrls> getYoutubeUrlsByBookIds(List<Long> bookIds) {
+        Set<Long> ids = new LinkedHashSet<>(bookIds);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (ids.size() > maxYoutubeUrlIds) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 책은 " + maxYoutubeUrlIds + "권까지입니다.");
+        }
+
+        Map<Long, BookResponse.BookWithUrls> byBookId = new HashMap<>();
+        for (BookRepository.BookVideoRow row : bookRepository.findWithVideos(ids)) {
+            BookResponse.BookWithUrls book = byBookId.computeIfAbsent(row.getBookId(), id -> new BookResponse.BookWithUrls(
+                    id, row.getTitle(), row.getAuthor(), row.getUserId(), new ArrayList<>()));
+            if (row.getVideoId() != null) {
+                book.videos().add(new BookResponse.VideoInfo(row.getVideoId(), row.getYoutubeUrl()));
+            }
+        }
+        return ids.stream()
+                .map(byBookId::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 }
@@ -0,0 +1,129 @@
+package backend.aihkt.domain.book.service;
+
+import backend.aihkt.domain.book.dto.BookResponse;
+import backend.aihkt.domain.book.entity.Book;
+import backend.aihkt.domain.book.repository.BookRepository;
+import backend.aihkt.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 최근 생성된 책 {@value #SIZE}권을 전체/사용자별로 메모리에 들고 DB 없이 답한다.
+ * <p>
+ * 책은 {@link #added} 로 생성 직후(커밋 뒤) 끼워 넣는다. 전체 목록은 기동 시 읽어 두고, 다른 노드에서 만든 책이
+ * 반영되도록 refresh-interval 마다 다시 읽는다. 사용자별 목록은 처음 조회할 때 DB 에서 읽고 user-ttl 뒤 만료된다.
+ * 로딩 중인 사용자에 대한 {@link #added} 는 로딩이 끝날 때까지 기다렸다가 적용되므로 새 책이 빠진 목록이 남지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentBooks {
+
+    static final int SIZE = 4;
+
+    private final BookRepository bookRepository;
+    private final UserRepository userRepository;
+
+    @Value("${book.recent.user-ttl:5m}")
+    private Duration userTtl;
+
+    @Value("${book.recent.user-cache-size:10000}")
+    private long userCacheSize;
+
+    private final Object globalLock = new Object();
+    private volatile List<BookResponse.BookInfo> global; // 기동 전에는 null
+
+    private Cache<Long, List<BookResponse.BookInfo>> byUser;
+
+    @PostConstruct
+    void initCache() {
+        byUser = Caffeine.newBuilder()
+                .expireAfterWrite(userTtl)
+                .maximumSize(userCacheSize)
+                .build();
+    }
+
+    public List<BookResponse.BookInfo> global() {
+        List<BookResponse.BookInfo> books = global;
+        return books != null ? books : loadGlobal();
+    }
+
+    /**
+     * 캐시에 없으면 DB 에서 읽어 채운다. 없는 사용자면 IllegalArgumentException 이며 캐시에 남기지 않는다.
+     */
+    public List<BookResponse.BookInfo> forUser(Long userId) {
+        return byUser.get(userId, this::loadUser);
+    }
+
+    /**
+     * 새로 저장된 책을 목록에 넣는다. 캐시에 없는 사용자는 다음 조회 때 DB 에서 읽으므로 건드리지 않는다.
+     */
+    public void added(Book book) {
+        BookResponse.BookInfo info = new BookResponse.BookInfo(
+                book.getId(),
+                book.getTitle(),
+                book.getAuthor(),
+                book.getUser() == null ? null : book.getUser().getId());
+        synchronized (globalLock) {
+            if (global != null) {
+                global = insert(global, info);
+            }
+        }
+        if (info.userId() != null) {
+            byUser.asMap().computeIfPresent(info.userId(), (id, books) -> insert(books, info));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${book.recent.refresh-interval:30s}",
+            fixedDelayString = "${book.recent.refresh-interval:30s}")
+    public void refresh() {
+        try {
+            loadGlobal();
+        } catch (Exception ex) {
+            log.warn("최근 책 목록 갱신 실패", ex);
+        }
+    }
+
+    private List<BookResponse.BookInfo> loadGlobal() {
+        synchronized (globalLock) {
+            global = List.copyOf(bookRepository.findPageBefore(Long.MAX_VALUE, Limit.of(SIZE)));
+            return global;
+        }
+    }
+
+    private List<BookResponse.BookInfo> loadUser(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId);
+        }
+        return List.copyOf(bookRepository.findPageByUserBefore(userId, Long.MAX_VALUE, Limit.of(SIZE)));
+    }
+
+    /**
+     * 새 책을 id 내림차순 자리에 넣고 {@value #SIZE}권만 남긴 복사본. 동시에 만든 책이 늦게 들어와도 순서가 맞고,
+     * 로딩한 목록에 이미 있으면 그대로 둔다.
+     */
+    private static List<BookResponse.BookInfo> insert(List<BookResponse.BookInfo> books, BookResponse.BookInfo info) {
+        if (books.stream().anyMatch(book -> book.id().equals(info.id()))) {
+            return books;
+        }
+        List<BookResponse.BookInfo> next = new ArrayList<>(books);
+        next.add(info);
+        next.sort(Comparator.comparing(BookResponse.BookInfo::id).reversed());
+        return List.copyOf(next.subList(0, Math.min(SIZE, next.size())));
+    }
+}
@@ -1,7 +1,9 @@
 package backend.aihkt.domain.user.repository;
 
 import backend.aihkt.domain.user.entity.Users;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
 import java.util.Optional;
 
@@ -10,4 +12,10 @@ public interface UserRepository extends JpaRepository<Users, Long> {
     Optional<Users> findByGoogleId(String googleId);
 
     Optional<Users> findByName(String name);
+
+    /**
+     * 사용자 행을 트랜잭션이 끝날 때까지 잠근다(SELECT ... FOR UPDATE). 같은 사용자의 작업 접수를 노드 사이에서 직렬화한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Users> findForUpdateById(Long id);
 }
@@ -2,6 +2,7 @@ package backend.aihkt.domain.user.service;
 
 import backend.aihkt.domain.user.entity.Users;
 import backend.aihkt.domain.user.repository.UserRepository;
+import backend.aihkt.infra.google.GoogleTokenManager;
 import backend.aihkt.infra.google.OAuthService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,6 +15,7 @@ import java.util.Map;
 public class UserService {
     private final UserRepository userRepository;
     private final OAuthService oauthService;
+    private final GoogleTokenManager tokenManager;
 
     @Value("${spring.security.oauth2.client.registration.google.redirect-uri}")
     private String redirectUri;
@@ -29,7 +31,8 @@ public class UserService {
 
         Map<String, Object> userInfo = oauthService.getUserInfo(accessToken);
 
-        findOrCreateUser(userInfo, accessToken, refreshToken);
+        Users user = findOrCreateUser(userInfo, accessToken, refreshToken);
+        tokenManager.store(user.getId(), accessToken, Long.parseLong(tokens.get("expiresIn")));
     }
 
     private Users findOrCreateUser(Map<String, Object> userInfo, String accessToken, String refreshToken) {
@@ -48,11 +51,9 @@ public class UserService {
     }
 
     public String refreshAccessTokenForUser(Long userId) {
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        String newAccessToken = refreshAccessToken(user.getRefreshToken());
-        user.setAccessToken(newAccessToken);
-        userRepository.save(user);
-        return newAccessToken;
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found");
+        }
+        return tokenManager.forceRefresh(userId);
     }
 }
@@ -2,6 +2,7 @@ package backend.aihkt.domain.video.controller;
 
 import backend.aihkt.domain.video.dto.VideoRequest;
 import backend.aihkt.domain.video.dto.VideoResponse;
+import backend.aihkt.domain.video.service.VideoJobAdmission;
 import backend.aihkt.domain.video.service.VideoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,12 +10,20 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,17 +34,45 @@ public class VideoController {
     @Operation(
             summary = "트레일러 생성 작업 시작",
             description = "책 제목/저자를 AI 트레일러 API에 전달해 MP4를 생성하고, 유튜브에 업로드하는 작업을 시작합니다. "
-                    + "즉시 작업 ID를 반환하며, 상태는 /videos/jobs/{jobId} 로 폴링해 확인하세요."
+                    + "즉시 작업 ID를 반환하며, 상태 변경은 /videos/jobs/{jobId}/events (SSE) 로 받을 수 있습니다. "
+                    + "진행 중인 작업이 전체 또는 사용자별 한도에 닿으면 429 와 Retry-After(초)를 반환합니다. "
+                    + "priority(HIGH/NORMAL/LOW, 기본 NORMAL)는 사용자 간 공정 분배 안에서 작업이 차지하는 몫을 정합니다."
     )
     @ApiResponse(responseCode = "202", description = "작업 접수",
             content = @Content(schema = @Schema(implementation = VideoResponse.CreateJob.class)))
+    @ApiResponse(responseCode = "429", description = "접수 한도 초과, Retry-After 뒤 다시 시도",
+            content = @Content(schema = @Schema(implementation = VideoResponse.Rejected.class)))
     @PostMapping("/videos")
     public ResponseEntity<VideoResponse.CreateJob> createVideos(@RequestBody VideoRequest.Create request) {
-        var result = videoService.createVideos(request.userId(), request.title(), request.authorName());
+        var result = videoService.createVideos(request.userId(), request.title(), request.authorName(), request.priority());
 
         return ResponseEntity.accepted().body(result);
     }
 
+    @Operation(
+            summary = "트레일러 생성 작업 일괄 시작",
+            description = "여러 책(title, authorName)의 작업을 한 번에 접수하고 요청 순서대로 작업 ID 를 반환합니다. "
+                    + "한 번에 최대 video.job.batch.max-size 권이며, 한도에 모두 들어가지 않으면 하나도 접수하지 않고 429 를 반환합니다."
+    )
+    @ApiResponse(responseCode = "202", description = "작업 접수",
+            content = @Content(schema = @Schema(implementation = VideoResponse.CreateBatch.class)))
+    @ApiResponse(responseCode = "429", description = "접수 한도 초과, Retry-After 뒤 다시 시도",
+            content = @Content(schema = @Schema(implementation = VideoResponse.Rejected.class)))
+    @PostMapping("/videos/batch")
+    public ResponseEntity<VideoResponse.CreateBatch> createVideosBatch(@RequestBody VideoRequest.CreateBatch request) {
+        var result = videoService.createVideosBatch(request.userId(), request.books(), request.priority());
+
+        return ResponseEntity.accepted().body(result);
+    }
+
+    @ExceptionHandler(VideoJobAdmission.Rejected.class)
+    public ResponseEntity<VideoResponse.Rejected> handleRejected(VideoJobAdmission.Rejected ex) {
+        long retryAfterSeconds = ex.getRetryAfter().toSeconds();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(new VideoResponse.Rejected(ex.getMessage(), retryAfterSeconds));
+    }
+
     @Operation(
             summary = "트레일러 생성 작업 상태 확인",
             description = "jobId 로 현재 상태를 조회합니다. status: PENDING/PROCESSING/SUCCESS/FAILED"
@@ -47,4 +84,29 @@ public class VideoController {
         var result = videoService.getJobStatus(jobId);
         return ResponseEntity.ok(result);
     }
+
+    @Operation(
+            summary = "트레일러 생성 작업 상태 구독 (SSE)",
+            description = "현재 상태를 바로 보내고, 이후 상태가 바뀔 때마다 status 이벤트를 보냅니다. "
+                    + "SUCCESS/FAILED 가 되면 스트림이 닫힙니다."
+    )
+    @ApiResponse(responseCode = "200", description = "구독 시작",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = VideoResponse.JobStatus.class)))
+    @GetMapping(value = "/videos/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeVideoJobEvents(@PathVariable Long jobId) {
+        return videoService.subscribeJobEvents(List.of(jobId));
+    }
+
+    @Operation(
+            summary = "여러 트레일러 생성 작업 상태 구독 (SSE)",
+            description = "jobIds 의 상태 변경을 하나의 스트림으로 받습니다. 모든 작업이 SUCCESS/FAILED 가 되면 스트림이 닫힙니다."
+    )
+    @ApiResponse(responseCode = "200", description = "구독 시작",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = VideoResponse.JobStatus.class)))
+    @GetMapping(value = "/videos/jobs/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeVideoJobsEvents(@RequestParam List<Long> jobIds) {
+        return videoService.subscribeJobEvents(jobIds);
+    }
 }
@@ -1,9 +1,27 @@
 package backend.aihkt.domain.video.dto;
 
+import backend.aihkt.domain.video.entity.VideoJobPriority;
+
+import java.util.List;
+
 public class VideoRequest {
 
     public record Create(
             Long userId,
+            String title,
+            String authorName,
+            VideoJobPriority priority // 없으면 NORMAL
+    ) {
+    }
+
+    public record CreateBatch(
+            Long userId,
+            List<Book> books,
+            VideoJobPriority priority // 없으면 NORMAL, 모든 책에 적용
+    ) {
+    }
+
+    public record Book(
             String title,
             String authorName
     ) {
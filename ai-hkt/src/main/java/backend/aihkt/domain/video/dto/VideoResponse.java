@@ -1,7 +1,11 @@
 package backend.aihkt.domain.video.dto;
 
+import backend.aihkt.domain.video.entity.VideoJobStage;
 import backend.aihkt.domain.video.entity.VideoJobStatus;
 
+import java.time.Instant;
+import java.util.List;
+
 public class VideoResponse {
 
     public record CreateJob(
@@ -10,6 +14,17 @@ public class VideoResponse {
     ) {
     }
 
+    public record CreateBatch(
+            List<CreateJob> jobs // 요청한 책 순서
+    ) {
+    }
+
+    public record Rejected(
+            String message,
+            long retryAfterSeconds
+    ) {
+    }
+
     public record JobStatus(
             Long jobId,
             VideoJobStatus status,
@@ -17,7 +32,16 @@ public class VideoResponse {
             String youtubeUrl,
             String title,
             String authorName,
-            String message
+            String message,
+            VideoJobStage stage,
+            Instant stageStartedAt,
+            Long progressBytes,
+            Long totalBytes
     ) {
+
+        public JobStatus withProgress(VideoJobStage stage, Instant stageStartedAt, Long progressBytes, Long totalBytes) {
+            return new JobStatus(jobId, status, videoId, youtubeUrl, title, authorName, message,
+                    stage, stageStartedAt, progressBytes, totalBytes);
+        }
     }
 }
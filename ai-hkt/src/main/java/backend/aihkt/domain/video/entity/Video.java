@@ -26,7 +26,7 @@ public class Video {
     @Column(name = "resumable_upload_url", length = 2000)
     private String resumableUploadUrl; // 업로드 재개 세션 URL
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "book_id")
     private Book book;
 
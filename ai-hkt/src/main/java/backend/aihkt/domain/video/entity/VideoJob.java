@@ -10,18 +10,32 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
+
+import java.time.Instant;
+import java.util.List;
 
 @Entity
+@Table(name = "video_job", indexes = {
+        @Index(name = "idx_video_job_status_lease", columnList = "status, lease_expires_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class VideoJob {
 
+    // 일괄 접수 시 insert 를 JDBC 배치로 묶도록 ID 를 50개씩 미리 받아 둔다. MySQL 에는 시퀀스가 없어 video_job_seq 테이블을 쓴다.
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "video_job_seq")
+    @SequenceGenerator(name = "video_job_seq", sequenceName = "video_job_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -38,6 +52,10 @@ public class VideoJob {
     @Column(name = "status", nullable = false, length = 20)
     private VideoJobStatus status;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority", nullable = false, length = 10)
+    private VideoJobPriority priority;
+
     @Column(name = "video_id")
     private String videoId;
 
@@ -47,18 +65,77 @@ public class VideoJob {
     @Column(name = "message", length = 1000)
     private String message;
 
-    public static VideoJob pending(Users user, String title, String authorName) {
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner; // 작업을 점유한 워커 노드
+
+    @Column(name = "lease_expires_at")
+    private Instant leaseExpiresAt; // 하트비트가 끊기면 이 시각 이후 다른 워커가 회수
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", length = 20)
+    private VideoJobStage stage;
+
+    @Column(name = "stage_started_at")
+    private Instant stageStartedAt;
+
+    @Column(name = "progress_bytes")
+    private Long progressBytes; // 다운로드/업로드 단계에서 처리한 바이트
+
+    @Column(name = "total_bytes")
+    private Long totalBytes; // 전체 크기. 모르면 null
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean statusChanged; // 다음 save 때 VideoJobStatusChanged 를 발행할지
+
+    public static VideoJob pending(Users user, String title, String authorName, VideoJobPriority priority) {
         VideoJob job = new VideoJob();
         job.user = user;
         job.title = title;
         job.authorName = authorName;
+        job.priority = priority != null ? priority : VideoJobPriority.NORMAL;
         job.status = VideoJobStatus.PENDING;
+        job.createdAt = Instant.now();
+        job.enterStage(VideoJobStage.QUEUED, job.createdAt);
+        job.statusChanged = true;
         return job;
     }
 
+    /**
+     * 워커가 점유한다. 단계는 QUEUED 로 되돌린다. 대기 중이던 작업(첫 시도, 반납된 작업)은 대기 시작 시각을 그대로 두고,
+     * 리스가 만료돼 회수한 작업은 이전 시도의 단계 대신 지금부터 잰다.
+     */
+    public void claim(String owner, Instant leaseExpiresAt) {
+        Instant queuedSince = this.stage == VideoJobStage.QUEUED && this.stageStartedAt != null
+                ? this.stageStartedAt
+                : Instant.now();
+        this.status = VideoJobStatus.PROCESSING;
+        this.leaseOwner = owner;
+        this.leaseExpiresAt = leaseExpiresAt;
+        this.attempts++;
+        enterStage(VideoJobStage.QUEUED, queuedSince);
+        this.statusChanged = true;
+    }
+
+    public void release() {
+        this.status = VideoJobStatus.PENDING;
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+        this.attempts = Math.max(0, this.attempts - 1);
+        enterStage(VideoJobStage.QUEUED, Instant.now());
+        this.statusChanged = true;
+    }
+
     public void markProcessing() {
         this.status = VideoJobStatus.PROCESSING;
         this.message = null;
+        this.statusChanged = true;
     }
 
     public void markSuccess(String videoId, String youtubeUrl) {
@@ -66,11 +143,40 @@ public class VideoJob {
         this.videoId = videoId;
         this.youtubeUrl = youtubeUrl;
         this.message = null;
+        clearLease();
+        this.statusChanged = true;
     }
 
     public void markFailure(String message) {
         this.status = VideoJobStatus.FAILED;
         this.message = truncate(message);
+        clearLease();
+        this.statusChanged = true;
+    }
+
+    /**
+     * 저장(save) 직후 Spring Data 가 발행한다. 신규 작업은 저장 후에야 ID 가 정해지므로 이벤트는 발행 시점의 값으로 만든다.
+     */
+    @DomainEvents
+    List<VideoJobStatusChanged> statusEvents() {
+        return statusChanged ? List.of(VideoJobStatusChanged.of(this)) : List.of();
+    }
+
+    @AfterDomainEventPublication
+    void clearStatusEvents() {
+        this.statusChanged = false;
+    }
+
+    private void enterStage(VideoJobStage stage, Instant startedAt) {
+        this.stage = stage;
+        this.stageStartedAt = startedAt;
+        this.progressBytes = null;
+        this.totalBytes = null;
+    }
+
+    private void clearLease() {
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
     }
 
     private String truncate(String message) {
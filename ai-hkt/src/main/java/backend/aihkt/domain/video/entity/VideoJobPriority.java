@@ -0,0 +1,18 @@
+package backend.aihkt.domain.video.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 작업 우선순위. cost 는 작업 하나가 사용자 몫에서 차지하는 양으로, 작을수록 같은 시간에 더 많이 실행된다
+ * (HIGH 는 LOW 의 4배). 낮은 우선순위도 순서가 밀릴 뿐 굶지는 않는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum VideoJobPriority {
+    HIGH(1),
+    NORMAL(2),
+    LOW(4);
+
+    private final int cost;
+}
@@ -0,0 +1,13 @@
+package backend.aihkt.domain.video.entity;
+
+/**
+ * PROCESSING 안에서 작업이 어디까지 왔는지. 실패한 작업은 실패한 단계가 그대로 남는다.
+ */
+public enum VideoJobStage {
+    QUEUED,       // 워커가 가져가기를 기다리는 중
+    GENERATING,   // 트레일러 API 가 영상을 만드는 중(응답 대기)
+    DOWNLOADING,  // 트레일러 응답 본문을 받는 중
+    UPLOAD_INIT,  // 유튜브 resumable 세션 생성 중
+    UPLOADING,    // 청크 업로드 중(progressBytes/totalBytes)
+    PERSISTING    // Book/Video 저장 중
+}
@@ -0,0 +1,39 @@
+package backend.aihkt.domain.video.entity;
+
+import java.time.Instant;
+
+/**
+ * {@link VideoJob} 상태 전이 시 저장과 함께 발행되는 도메인 이벤트. 전이 시점의 값을 그대로 담는다.
+ */
+public record VideoJobStatusChanged(
+        Long jobId,
+        VideoJobStatus status,
+        String videoId,
+        String youtubeUrl,
+        String title,
+        String authorName,
+        String message,
+        VideoJobStage stage,
+        Instant stageStartedAt,
+        Long progressBytes,
+        Long totalBytes,
+        Instant leaseExpiresAt
+) {
+
+    static VideoJobStatusChanged of(VideoJob job) {
+        return new VideoJobStatusChanged(
+                job.getId(),
+                job.getStatus(),
+                job.getVideoId(),
+                job.getYoutubeUrl(),
+                job.getTitle(),
+                job.getAuthorName(),
+                job.getMessage(),
+                job.getStage(),
+                job.getStageStartedAt(),
+                job.getProgressBytes(),
+                job.getTotalBytes(),
+                job.getLeaseExpiresAt()
+        );
+    }
+}
@@ -1,7 +1,118 @@
 package backend.aihkt.domain.video.repository;
 
 import backend.aihkt.domain.video.entity.VideoJob;
+import backend.aihkt.domain.video.entity.VideoJobPriority;
+import backend.aihkt.domain.video.entity.VideoJobStage;
+import backend.aihkt.domain.video.entity.VideoJobStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 
 public interface VideoJobRepository extends JpaRepository<VideoJob, Long> {
+
+    /**
+     * 대기 중이거나 리스가 만료된 작업 중 사용자마다 앞쪽 perUser 개만 후보로 읽는다. 잠그지 않는다.
+     * 사용자 안에서는 (우선순위, id) 순이고, 모든 사용자의 첫 작업이 두 번째 작업보다 먼저 오도록 순번, id 순으로 자른다.
+     * 작업을 많이 넣은 사용자가 있어도 후보 목록을 혼자 채우지 못한다.
+     */
+    @Query(value = """
+            SELECT id, user_id AS userId, priority, attempts
+            FROM (
+                SELECT id, user_id, priority, attempts,
+                       ROW_NUMBER() OVER (
+                           PARTITION BY user_id
+                           ORDER BY CASE priority WHEN 'HIGH' THEN 0 WHEN 'NORMAL' THEN 1 ELSE 2 END, id
+                       ) AS user_rank
+                FROM video_job
+                WHERE status = 'PENDING'
+                   OR (status = 'PROCESSING' AND (lease_expires_at IS NULL OR lease_expires_at < :now))
+            ) candidate
+            WHERE user_rank <= :perUser
+            ORDER BY user_rank, id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ClaimCandidate> findClaimCandidates(@Param("now") Instant now,
+                                             @Param("perUser") int perUser,
+                                             @Param("limit") int limit);
+
+    /**
+     * 고른 작업만 잠그고 가져온다. 그 사이 다른 노드가 가져갔거나 잠근 행은 건너뛴다(SKIP LOCKED).
+     * 호출하는 쪽 트랜잭션 안에서 실행해야 잠금이 유지된다.
+     */
+    @Query(value = """
+            SELECT * FROM video_job
+            WHERE id IN (:ids)
+              AND (status = 'PENDING'
+                   OR (status = 'PROCESSING' AND (lease_expires_at IS NULL OR lease_expires_at < :now)))
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<VideoJob> lockClaimable(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    /**
+     * 사용자별로 리스가 살아 있는(실행 중인) 작업 수를 우선순위별로 센다.
+     */
+    @Query("""
+            select j.user.id as userId, j.priority as priority, count(j) as running
+            from VideoJob j
+            where j.user.id in :userIds
+              and j.status = backend.aihkt.domain.video.entity.VideoJobStatus.PROCESSING
+              and j.leaseExpiresAt >= :now
+            group by j.user.id, j.priority
+            """)
+    List<RunningJobCount> countRunning(@Param("userIds") Collection<Long> userIds, @Param("now") Instant now);
+
+    long countByStatusIn(Collection<VideoJobStatus> statuses);
+
+    long countByUser_IdAndStatusIn(Long userId, Collection<VideoJobStatus> statuses);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update VideoJob j set j.leaseExpiresAt = :leaseExpiresAt
+            where j.id in :ids and j.leaseOwner = :owner
+              and j.status = backend.aihkt.domain.video.entity.VideoJobStatus.PROCESSING
+            """)
+    int extendLeases(@Param("ids") Collection<Long> ids,
+                     @Param("owner") String owner,
+                     @Param("leaseExpiresAt") Instant leaseExpiresAt);
+
+    /**
+     * 진행 상황만 갱신한다. 엔티티 전체를 merge 하지 않으므로 리스/상태 컬럼을 덮어쓰지 않는다.
+     */
+    @Modifying
+    @Query("""
+            update VideoJob j
+            set j.stage = :stage, j.stageStartedAt = :stageStartedAt,
+                j.progressBytes = :progressBytes, j.totalBytes = :totalBytes
+            where j.id = :id and j.status = backend.aihkt.domain.video.entity.VideoJobStatus.PROCESSING
+            """)
+    int updateProgress(@Param("id") Long id,
+                       @Param("stage") VideoJobStage stage,
+                       @Param("stageStartedAt") Instant stageStartedAt,
+                       @Param("progressBytes") Long progressBytes,
+                       @Param("totalBytes") Long totalBytes);
+
+    interface ClaimCandidate {
+        Long getId();
+
+        Long getUserId();
+
+        VideoJobPriority getPriority();
+
+        int getAttempts();
+    }
+
+    interface RunningJobCount {
+        Long getUserId();
+
+        VideoJobPriority getPriority();
+
+        long getRunning();
+    }
 }
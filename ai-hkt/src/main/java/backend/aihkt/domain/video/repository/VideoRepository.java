@@ -2,9 +2,21 @@ package backend.aihkt.domain.video.repository;
 
 import backend.aihkt.domain.video.entity.Video;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface VideoRepository extends JpaRepository<Video, String> {
-    List<Video> findAllByBook_Id(Long bookId);
+    @Query("""
+            select v.id as videoId, b.user.id as userId
+            from Video v join v.book b
+            where v.isActivated = true and b.user is not null
+            """)
+    List<VideoOwner> findActiveVideoOwners();
+
+    interface VideoOwner {
+        String getVideoId();
+
+        Long getUserId();
+    }
 }
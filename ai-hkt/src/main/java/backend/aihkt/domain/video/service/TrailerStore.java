@@ -0,0 +1,375 @@
+package backend.aihkt.domain.video.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 같은 책(정규화한 제목/저자)과 생성기 버전의 트레일러를 한 번만 만들어 로컬 디스크에 두고 재사용한다.
+ * <p>
+ * 캐시 파일 이름은 (생성기 버전, 제목, 저자)의 SHA-256 이다. 같은 키를 동시에 요청한 작업은 먼저 온 작업의 생성 하나를
+ * 기다렸다가 결과를 같이 쓴다. 캐시는 max-size 를 넘으면 가장 오래 쓰지 않은 파일부터 지우며, 마지막 사용 시각은
+ * 파일 수정 시각에 남겨 재시작 뒤에도 순서가 이어진다.
+ * <p>
+ * 작업은 캐시 파일을 그대로 쓰지 않고 작업 디렉터리로 하드 링크(안 되면 복사)해 쓴다. 업로드 도중 캐시에서 지워지거나
+ * 작업 정리({@link VideoService#cleanupJobFiles(Long)})가 캐시 파일을 지우는 일이 없다.
+ * 생성 합치기는 이 프로세스 안에서만 이뤄진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrailerStore {
+
+    private static final String EXTENSION = ".mp4";
+    private static final String PARTIAL_SUFFIX = ".part";
+
+    /**
+     * target 에 트레일러를 완전히 기록한다. 실패하면 예외를 던진다.
+     */
+    @FunctionalInterface
+    public interface Generator {
+        void writeTo(Path target);
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${video.trailer.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${video.trailer.cache.dir:${java.io.tmpdir}/aihkt-trailer-cache}")
+    private Path cacheDir;
+
+    @Value("${video.trailer.cache.max-size:5GB}")
+    private DataSize maxSize;
+
+    @Value("${video.trailer.generator-version:1}")
+    private String generatorVersion;
+
+    /** 키 → 파일 크기. 접근 순서로 정렬되어 맨 앞이 가장 오래 쓰지 않은 파일이다. */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    /** 링크(복사) 중인 키 → 진행 중인 수. 밀어낼 때 건너뛴다. entries 잠금 안에서만 다룬다. */
+    private final Map<String, Integer> pinned = new HashMap<>();
+
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    private Counter hits;
+    private Counter coalesced;
+    private Counter misses;
+
+    @PostConstruct
+    void init() {
+        hits = result("hit");
+        coalesced = result("coalesced");
+        misses = result("miss");
+        Gauge.builder("video.trailer.cache.size", this, TrailerStore::totalBytes)
+                .description("트레일러 디스크 캐시 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        if (enabled) {
+            load();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 정규화한 제목/저자와 생성기 버전으로 만든 캐시 키. 대소문자, 앞뒤/연속 공백, 전각/반각 차이는 같은 책으로 본다.
+     */
+    public String key(String title, String authorName) {
+        String source = generatorVersion + "\n" + normalize(title) + "\n" + normalize(authorName);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시에 있으면 target 으로 링크하고 true. 생성 없이 재사용할 수 있는지 확인할 때 쓴다.
+     */
+    boolean copyIfCached(String key, Path target) {
+        if (!enabled || !link(key, target)) {
+            return false;
+        }
+        hits.increment();
+        return true;
+    }
+
+    /**
+     * key 의 트레일러를 target 에 둔다. 캐시에 있으면 그대로 쓰고, 같은 키를 만드는 중인 작업이 있으면 그 결과를 기다리며,
+     * 둘 다 아니면 generator 로 만들어 캐시에 넣는다. 기다린 생성이 실패하면 같은 예외로 실패한다.
+     */
+    public void obtain(String key, Path target, Generator generator) {
+        if (!enabled) {
+            generate(generator, partialPath(target), target);
+            return;
+        }
+        while (true) {
+            if (copyIfCached(key, target)) {
+                return;
+            }
+            CompletableFuture<Void> generation = new CompletableFuture<>();
+            CompletableFuture<Void> running = inFlight.putIfAbsent(key, generation);
+            if (running == null) {
+                lead(key, target, generator, generation);
+                return;
+            }
+            await(key, running);
+            if (link(key, target)) {
+                coalesced.increment();
+                return;
+            }
+            // 기다린 결과가 바로 밀려났다(캐시보다 큰 파일 등). 다시 시도한다.
+        }
+    }
+
+    private void lead(String key, Path target, Generator generator, CompletableFuture<Void> generation) {
+        try {
+            // 확인과 등록 사이에 다른 작업의 생성이 끝났을 수 있다.
+            if (link(key, target)) {
+                hits.increment();
+            } else {
+                misses.increment();
+                Files.createDirectories(cacheDir);
+                Path cached = cachePath(key);
+                generate(generator, cacheDir.resolve(key + "." + UUID.randomUUID() + PARTIAL_SUFFIX), cached);
+                add(key, Files.size(cached));
+                if (!link(key, target)) {
+                    throw new IllegalStateException("트레일러 캐시 파일이 사라졌습니다: " + cached);
+                }
+            }
+            generation.complete(null);
+        } catch (IOException e) {
+            generation.completeExceptionally(e);
+            throw new IllegalStateException("트레일러 캐시 저장 중 I/O 오류", e);
+        } catch (RuntimeException e) {
+            generation.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, generation);
+        }
+    }
+
+    private void await(String key, CompletableFuture<Void> running) {
+        log.info("[Trailer] waiting for in-flight generation - key={}", key);
+        try {
+            running.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("트레일러 생성 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("트레일러 생성 실패", e.getCause());
+        }
+    }
+
+    /**
+     * 다 받은 뒤에만 최종 이름으로 옮겨, 최종 경로의 파일은 항상 완전한 파일이 되게 한다.
+     */
+    private static void generate(Generator generator, Path partial, Path target) {
+        try {
+            generator.writeTo(partial);
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new IllegalStateException("트레일러 파일 저장 중 I/O 오류", e);
+        } finally {
+            try {
+                Files.deleteIfExists(partial);
+            } catch (IOException e) {
+                log.warn("[Trailer] 임시 파일 삭제 실패 - path={}", partial, e);
+            }
+        }
+    }
+
+    /**
+     * 캐시 파일을 target 으로 링크한다. 잠금 안에서는 키를 고정만 하고, 링크(안 되면 복사)는 잠금 밖에서 한다.
+     * 고정한 동안에는 밀려나 지워지지 않는다.
+     */
+    private boolean link(String key, Path target) {
+        synchronized (entries) {
+            if (entries.get(key) == null) {
+                return false;
+            }
+            pinned.merge(key, 1, Integer::sum);
+        }
+        Path cached = cachePath(key);
+        try {
+            Files.createDirectories(target.getParent());
+            Files.deleteIfExists(target);
+            try {
+                Files.createLink(target, cached);
+            } catch (UnsupportedOperationException | IOException e) {
+                // 다른 파일 시스템 등 하드 링크가 안 되면 복사한다.
+                Files.copy(cached, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.setLastModifiedTime(cached, FileTime.fromMillis(System.currentTimeMillis()));
+            return true;
+        } catch (NoSuchFileException e) {
+            log.warn("[Trailer] 캐시 파일 없음 - key={}", key);
+            synchronized (entries) {
+                remove(key);
+            }
+            return false;
+        } catch (IOException e) {
+            throw new IllegalStateException("트레일러 캐시 파일 복사 중 I/O 오류", e);
+        } finally {
+            unpin(key);
+        }
+    }
+
+    /**
+     * 고정을 푼다. 고정 때문에 밀어내지 못해 max-size 를 넘어 있었다면 지금 밀어낸다.
+     */
+    private void unpin(String key) {
+        synchronized (entries) {
+            pinned.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+            evict(null);
+        }
+    }
+
+    private void add(String key, long size) {
+        synchronized (entries) {
+            Long previous = entries.put(key, size);
+            totalBytes += size - (previous == null ? 0 : previous);
+            evict(key);
+        }
+    }
+
+    /**
+     * max-size 안으로 들어올 때까지 가장 오래 쓰지 않은 파일부터 지운다. 방금 넣은 keep 과 링크 중인 파일은 남긴다.
+     */
+    private void evict(String keep) {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxSize.toBytes() && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (eldest.getKey().equals(keep) || pinned.containsKey(eldest.getKey())) {
+                continue;
+            }
+            iterator.remove();
+            totalBytes -= eldest.getValue();
+            delete(eldest.getKey());
+            log.info("[Trailer] cache evicted - key={}, sizeBytes={}", eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private void remove(String key) {
+        Long size = entries.remove(key);
+        if (size != null) {
+            totalBytes -= size;
+        }
+    }
+
+    private void delete(String key) {
+        try {
+            Files.deleteIfExists(cachePath(key));
+        } catch (IOException e) {
+            log.warn("[Trailer] 캐시 파일 삭제 실패 - key={}", key, e);
+        }
+    }
+
+    /**
+     * 기동 시 캐시 디렉터리를 읽어 마지막 사용 순서대로 목록을 채운다. 죽은 프로세스가 남긴 임시 파일은 지운다.
+     */
+    private void load() {
+        if (!Files.isDirectory(cacheDir)) {
+            return;
+        }
+        record Entry(String key, long size, FileTime lastUsed) {
+        }
+        List<Entry> found = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDir)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(PARTIAL_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                } else if (name.endsWith(EXTENSION)) {
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    String key = name.substring(0, name.length() - EXTENSION.length());
+                    found.add(new Entry(key, attributes.size(), attributes.lastModifiedTime()));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("[Trailer] 캐시 디렉터리 읽기 실패 - dir={}", cacheDir, e);
+            return;
+        }
+        found.sort(Comparator.comparing(Entry::lastUsed));
+        synchronized (entries) {
+            for (Entry entry : found) {
+                entries.put(entry.key(), entry.size());
+                totalBytes += entry.size();
+            }
+            evict(null);
+            log.info("[Trailer] cache loaded - dir={}, files={}, sizeBytes={}", cacheDir, entries.size(), totalBytes);
+        }
+    }
+
+    private double totalBytes() {
+        synchronized (entries) {
+            return totalBytes;
+        }
+    }
+
+    private Path cachePath(String key) {
+        return cacheDir.resolve(key + EXTENSION);
+    }
+
+    private static Path partialPath(Path target) {
+        return target.resolveSibling(target.getFileName() + PARTIAL_SUFFIX);
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFKC)
+                .strip()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private Counter result(String result) {
+        return Counter.builder("video.trailer.cache")
+                .description("트레일러 요청의 캐시 결과 (hit: 캐시 재사용, coalesced: 진행 중인 생성 대기, miss: 새로 생성)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
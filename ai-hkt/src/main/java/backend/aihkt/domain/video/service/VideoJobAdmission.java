@@ -0,0 +1,181 @@
+package backend.aihkt.domain.video.service;
+
+import backend.aihkt.domain.user.repository.UserRepository;
+import backend.aihkt.domain.video.entity.VideoJobStatus;
+import backend.aihkt.domain.video.entity.VideoJobStatusChanged;
+import backend.aihkt.domain.video.repository.VideoJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 영상 생성 작업 접수 제한. 끝나지 않은(PENDING/PROCESSING) 작업이 전체 또는 사용자별 한도에 닿으면 작업을 저장하지 않고
+ * {@link Rejected} 로 거절하며, 클라이언트가 다시 시도할 시점(Retry-After)을 최근 작업 완료 속도로 계산해 알려 준다.
+ * <p>
+ * 사용자별 한도는 한 사용자가 대기열을 채워 다른 사용자의 작업이 밀리지 않게 한다. 일괄 접수({@link #admitBatch})는
+ * 카탈로그 작업처럼 한 번에 많이 넣는 용도라 별도의 사용자별 한도를 쓰고, 일부만 받지 않고 전부 받거나 전부 거절한다.
+ * 이 한도는 전체 한도보다 작아야 하며(기동 시 확인), 한 사용자가 일괄 접수로 전체 한도를 채워 다른 사용자를 막지 못하게 한다.
+ * 확인과 저장은 사용자 행을 잠근 한 트랜잭션에서 하므로 사용자별 한도는 여러 노드가 동시에 받아도 정확하다. 전체 한도는
+ * 잠그지 않으므로 동시에 접수 중인 요청 수만큼 넘칠 수 있다.
+ * 완료 속도는 이 노드가 본 상태 전이로 재므로 아직 완료를 보지 못했으면 default-retry-after 를 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoJobAdmission {
+
+    private static final List<VideoJobStatus> ACTIVE = List.of(VideoJobStatus.PENDING, VideoJobStatus.PROCESSING);
+
+    private final VideoJobRepository videoJobRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${video.job.admission.max-active:200}")
+    private long maxActive;
+
+    @Value("${video.job.admission.max-active-per-user:5}")
+    private long maxActivePerUser;
+
+    @Value("${video.job.admission.max-active-per-user-batch:50}")
+    private long maxActivePerUserBatch;
+
+    @Value("${video.job.admission.rate-window:5m}")
+    private Duration rateWindow;
+
+    @Value("${video.job.admission.default-retry-after:30s}")
+    private Duration defaultRetryAfter;
+
+    @Value("${video.job.admission.max-retry-after:10m}")
+    private Duration maxRetryAfter;
+
+    /** 최근 rate-window 동안 끝난 작업의 완료 시각(ms). */
+    private final Deque<Long> completions = new ArrayDeque<>();
+
+    @PostConstruct
+    void validateLimits() {
+        if (maxActivePerUserBatch >= maxActive) {
+            throw new IllegalStateException("video.job.admission.max-active-per-user-batch(" + maxActivePerUserBatch
+                    + ") 는 max-active(" + maxActive + ") 보다 작아야 합니다.");
+        }
+    }
+
+    /**
+     * 한도 안이면 create 로 작업을 저장하고 결과를 돌려준다. 한도를 넘으면 create 를 부르지 않고 {@link Rejected} 를 던진다.
+     */
+    public <T> T admit(Long userId, Supplier<T> create) {
+        return admit(userId, 1, maxActivePerUser, create);
+    }
+
+    /**
+     * count 개의 작업을 한 번에 접수한다. 전부 한도 안에 들어갈 때만 create 를 부른다.
+     */
+    public <T> T admitBatch(Long userId, int count, Supplier<T> create) {
+        return admit(userId, count, maxActivePerUserBatch, create);
+    }
+
+    private <T> T admit(Long userId, int count, long perUserLimit, Supplier<T> create) {
+        return transactionTemplate.execute(tx -> {
+            // 커밋할 때까지 같은 사용자의 다른 접수는 여기서 기다린다. 잠금은 DB 가 들고 있으므로 스레드를 고정하지 않는다.
+            userRepository.findForUpdateById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+            long userActive = videoJobRepository.countByUser_IdAndStatusIn(userId, ACTIVE);
+            if (userActive + count > perUserLimit) {
+                throw reject("user", userId, userActive + count - perUserLimit);
+            }
+            long active = videoJobRepository.countByStatusIn(ACTIVE);
+            if (active + count > maxActive) {
+                throw reject("global", userId, active + count - maxActive);
+            }
+            T created = create.get();
+            counter("admitted", "none").increment(count);
+            return created;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(VideoJobStatusChanged event) {
+        if (event.status() != VideoJobStatus.SUCCESS && event.status() != VideoJobStatus.FAILED) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (completions) {
+            completions.addLast(now);
+            trim(now);
+        }
+    }
+
+    /**
+     * 초당 작업 완료 수. 이 노드가 뜬 지 rate-window 가 안 됐어도 창 전체로 나누므로 기동 직후에는 낮게 잡힌다.
+     */
+    double drainRate() {
+        long now = System.currentTimeMillis();
+        synchronized (completions) {
+            trim(now);
+            return completions.size() / (double) rateWindow.toSeconds();
+        }
+    }
+
+    /**
+     * 앞선 excess 개의 작업이 끝날 때까지 걸릴 시간. 한꺼번에 거절된 클라이언트가 같은 순간에 다시 몰리지 않도록 최대 20% 를 더 벌린다.
+     */
+    Duration retryAfter(long excess) {
+        double rate = drainRate();
+        long seconds = rate > 0 ? (long) Math.ceil(excess / rate) : defaultRetryAfter.toSeconds();
+        seconds += ThreadLocalRandom.current().nextLong(seconds / 5 + 1);
+        return Duration.ofSeconds(Math.clamp(seconds, 1, Math.max(1, maxRetryAfter.toSeconds())));
+    }
+
+    private Rejected reject(String reason, Long userId, long excess) {
+        Duration retryAfter = retryAfter(excess);
+        counter("rejected", reason).increment();
+        log.info("영상 생성 작업 접수 거절 - userId={}, reason={}, excess={}, retryAfter={}", userId, reason, excess, retryAfter);
+        String message = "user".equals(reason)
+                ? "진행 중인 영상 생성 작업이 너무 많습니다. 이전 작업이 끝난 뒤 다시 시도해 주세요."
+                : "영상 생성 요청이 많아 잠시 후 다시 시도해 주세요.";
+        return new Rejected(message, retryAfter);
+    }
+
+    private void trim(long now) {
+        long from = now - rateWindow.toMillis();
+        while (!completions.isEmpty() && completions.peekFirst() < from) {
+            completions.pollFirst();
+        }
+    }
+
+    private Counter counter(String result, String reason) {
+        return Counter.builder("video.job.admission")
+                .description("영상 생성 작업 접수 결과 (reason: 거절한 한도)")
+                .tag("result", result)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 접수 한도 초과. 컨트롤러가 429 와 Retry-After 로 바꾼다.
+     */
+    @Getter
+    public static class Rejected extends RuntimeException {
+
+        private final Duration retryAfter;
+
+        Rejected(String message, Duration retryAfter) {
+            super(message);
+            this.retryAfter = retryAfter;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package backend.aihkt.domain.video.service;
+
+import backend.aihkt.domain.video.entity.VideoJobStage;
+import backend.aihkt.domain.video.repository.VideoJobRepository;
+import backend.aihkt.youtube.dto.YoutubeUploadProgress;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 처리 중인 작업의 단계와 바이트 진행 상황을 메모리에 모았다가 주기적으로 한 번에 기록한다.
+ * <p>
+ * 청크마다 save 하지 않도록 바뀐 작업만 flush-interval 마다 하나의 트랜잭션에서 진행 컬럼만 update 한다.
+ * 단계가 끝날 때마다 소요 시간을 video.job.stage.duration 히스토그램에 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoJobProgressTracker {
+
+    private final VideoJobRepository videoJobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, Progress> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * 워커가 작업을 시작할 때 호출한다. queuedSince 부터 지금까지를 QUEUED 단계로 기록한다.
+     */
+    public void begin(Long jobId, Instant queuedSince) {
+        jobs.put(jobId, new Progress(VideoJobStage.QUEUED, queuedSince != null ? queuedSince : Instant.now()));
+    }
+
+    public void stage(Long jobId, VideoJobStage stage) {
+        stage(jobId, stage, null);
+    }
+
+    /**
+     * 다음 단계로 넘어간다. 같은 단계면 아무것도 하지 않는다.
+     */
+    public void stage(Long jobId, VideoJobStage stage, Long totalBytes) {
+        Progress progress = jobs.get(jobId);
+        if (progress == null) {
+            return;
+        }
+        synchronized (progress) {
+            if (progress.stage == stage) {
+                return;
+            }
+            recordStage(progress.stage, progress.stageStartedAt);
+            progress.stage = stage;
+            progress.stageStartedAt = Instant.now();
+            progress.progressBytes = null;
+            progress.totalBytes = totalBytes;
+            progress.dirty = true;
+        }
+    }
+
+    /**
+     * 다운로드한 바이트를 더한다. 첫 바이트가 오면 DOWNLOADING 단계로 넘어간다.
+     */
+    public void downloaded(Long jobId, long bytes) {
+        stage(jobId, VideoJobStage.DOWNLOADING);
+        Progress progress = jobs.get(jobId);
+        if (progress == null) {
+            return;
+        }
+        synchronized (progress) {
+            progress.progressBytes = (progress.progressBytes == null ? 0 : progress.progressBytes) + bytes;
+            progress.dirty = true;
+        }
+    }
+
+    @EventListener
+    public void onUploadProgress(YoutubeUploadProgress event) {
+        Long jobId = event.videoJobId();
+        stage(jobId, VideoJobStage.UPLOADING);
+        Progress progress = jobs.get(jobId);
+        if (progress == null) {
+            return;
+        }
+        synchronized (progress) {
+            progress.progressBytes = event.committedBytes();
+            progress.totalBytes = event.totalBytes() >= 0 ? event.totalBytes() : null;
+            progress.dirty = true;
+        }
+    }
+
+    /**
+     * 작업이 끝났을 때(성공/실패) 호출한다. 마지막 단계를 기록하고 남은 변경을 바로 쓴다.
+     */
+    public void finish(Long jobId) {
+        Progress progress = jobs.remove(jobId);
+        if (progress == null) {
+            return;
+        }
+        ProgressChanged snapshot;
+        synchronized (progress) {
+            recordStage(progress.stage, progress.stageStartedAt);
+            snapshot = progress.dirty ? progress.snapshot(jobId) : null;
+            progress.dirty = false;
+        }
+        if (snapshot != null) {
+            write(List.of(snapshot));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${video.job.progress.flush-interval:2s}")
+    public void flush() {
+        List<ProgressChanged> dirty = new ArrayList<>();
+        jobs.forEach((jobId, progress) -> {
+            synchronized (progress) {
+                if (progress.dirty) {
+                    dirty.add(progress.snapshot(jobId));
+                    progress.dirty = false;
+                }
+            }
+        });
+        if (!dirty.isEmpty()) {
+            write(dirty);
+        }
+    }
+
+    private void write(List<ProgressChanged> snapshots) {
+        try {
+            transactionTemplate.executeWithoutResult(tx -> snapshots.forEach(s -> videoJobRepository.updateProgress(
+                    s.jobId(), s.stage(), s.stageStartedAt(), s.progressBytes(), s.totalBytes())));
+        } catch (Exception ex) {
+            log.warn("작업 진행 상황 기록 실패 - jobs={}", snapshots.size(), ex);
+            return;
+        }
+        snapshots.forEach(eventPublisher::publishEvent);
+    }
+
+    private void recordStage(VideoJobStage stage, Instant startedAt) {
+        Timer.builder("video.job.stage.duration")
+                .description("영상 생성 작업 단계별 소요 시간")
+                .tag("stage", stage.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.between(startedAt, Instant.now()));
+    }
+
+    /**
+     * DB 에 기록한 진행 상황. SSE 구독자에게도 같은 주기로 전달된다.
+     */
+    public record ProgressChanged(Long jobId,
+                                  VideoJobStage stage,
+                                  Instant stageStartedAt,
+                                  Long progressBytes,
+                                  Long totalBytes) {
+    }
+
+    private static final class Progress {
+
+        private VideoJobStage stage;
+        private Instant stageStartedAt;
+        private Long progressBytes;
+        private Long totalBytes;
+        private boolean dirty;
+
+        Progress(VideoJobStage stage, Instant stageStartedAt) {
+            this.stage = stage;
+            this.stageStartedAt = stageStartedAt;
+        }
+
+        ProgressChanged snapshot(Long jobId) {
+            return new ProgressChanged(jobId, stage, stageStartedAt, progressBytes, totalBytes);
+        }
+    }
+}
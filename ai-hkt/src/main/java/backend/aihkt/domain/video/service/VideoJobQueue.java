@@ -0,0 +1,218 @@
+package backend.aihkt.domain.video.service;
+
+import backend.aihkt.domain.video.entity.VideoJob;
+import backend.aihkt.domain.video.entity.VideoJobPriority;
+import backend.aihkt.domain.video.repository.VideoJobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * video_job 테이블을 작업 큐로 사용한다.
+ * <p>
+ * 작업은 {@code SELECT ... FOR UPDATE SKIP LOCKED} 로 점유하고 리스(lease_owner, lease_expires_at)를 건다.
+ * 점유한 노드는 하트비트로 리스를 연장하며, 노드가 죽어 리스가 만료되면 다른 노드가 작업을 다시 가져간다.
+ * <p>
+ * 가져갈 작업은 잠그지 않고 사용자마다 앞쪽 몇 개씩, 모두 합쳐 scan-size 개까지 후보로 읽은 뒤 그 안에서 사용자별로
+ * 공정하게 고르고(가중 공정 큐), 고른 작업만 잠근다. 그 사이 다른 노드가 가져간 작업은 건너뛰고 다음 폴링에서 다시 고른다.
+ * 사용자마다 실행 중이거나 이번에 고른 작업의 우선순위 cost 합을 두고, 다음 작업을 실행했을 때 그 합이 가장 작은
+ * 사용자의 작업부터 고른다. 작업을 많이 넣은 사용자도 한 번에 한 자리씩만 차지하고, HIGH 작업은 같은 몫으로 더 자주 뽑힌다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoJobQueue {
+
+    private final VideoJobRepository videoJobRepository;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final String owner = resolveOwner();
+
+    @Value("${video.job.lease-duration:2m}")
+    private Duration leaseDuration;
+
+    @Value("${video.job.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${video.job.scheduler.scan-size:100}")
+    private int scanSize;
+
+    /**
+     * 최대 limit 개의 작업을 점유하고 ID를 반환한다. 재시도 한도를 넘긴 작업은 실패 처리하고 반환하지 않는다.
+     */
+    @Transactional
+    public List<Long> claim(int limit) {
+        Instant now = Instant.now();
+        // 한 번에 limit 개까지만 가져가므로 사용자당 후보도 limit 개면 충분하다.
+        List<VideoJobRepository.ClaimCandidate> candidates =
+                videoJobRepository.findClaimCandidates(now, limit, Math.max(limit, scanSize));
+        List<Long> exhausted = new ArrayList<>();
+        List<VideoJobRepository.ClaimCandidate> claimable = new ArrayList<>(candidates.size());
+        for (VideoJobRepository.ClaimCandidate candidate : candidates) {
+            if (candidate.getAttempts() >= maxAttempts) {
+                exhausted.add(candidate.getId());
+            } else {
+                claimable.add(candidate);
+            }
+        }
+        List<Long> picked = fairOrder(claimable, runningCost(claimable, now), limit).stream()
+                .map(VideoJobRepository.ClaimCandidate::getId)
+                .toList();
+        if (picked.isEmpty() && exhausted.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> lockIds = new ArrayList<>(exhausted);
+        lockIds.addAll(picked);
+        Map<Long, VideoJob> locked = new HashMap<>();
+        videoJobRepository.lockClaimable(lockIds, now).forEach(job -> locked.put(job.getId(), job));
+
+        List<VideoJob> changed = new ArrayList<>();
+        List<Long> claimed = new ArrayList<>();
+        for (Long jobId : lockIds) {
+            VideoJob job = locked.get(jobId);
+            if (job == null) {
+                continue; // 후보를 읽은 뒤 다른 노드가 가져갔다.
+            }
+            if (job.getAttempts() >= maxAttempts) {
+                job.markFailure("재시도 횟수 초과 (" + job.getAttempts() + "회)");
+                log.warn("영상 생성 작업 재시도 한도 초과 - jobId={}, attempts={}", job.getId(), job.getAttempts());
+                changed.add(job);
+                continue;
+            }
+            if (job.getLeaseOwner() != null) {
+                log.warn("리스 만료 작업 회수 - jobId={}, previousOwner={}", job.getId(), job.getLeaseOwner());
+            }
+            if (job.getAttempts() == 0 && job.getCreatedAt() != null) {
+                queueWaitTimer(job.getPriority()).record(Duration.between(job.getCreatedAt(), now));
+            }
+            job.claim(owner, now.plus(leaseDuration));
+            changed.add(job);
+            claimed.add(job.getId());
+        }
+        // 변경 감지로도 반영되지만, 상태 변경 이벤트를 발행하려면 save 를 거쳐야 한다.
+        videoJobRepository.saveAll(changed);
+        return claimed;
+    }
+
+    /**
+     * candidates 에서 limit 개를 실행할 순서대로 고른다. 사용자마다 (우선순위, id) 순으로 줄을 세우고, 매번
+     * "그 사용자가 이미 쓴 cost + 다음 작업 cost" 가 가장 작은 사용자의 다음 작업을 뽑는다. 같으면 먼저 들어온 작업이 먼저다.
+     *
+     * @param runningCost 사용자별로 이미 실행 중인 작업의 cost 합
+     */
+    static List<VideoJobRepository.ClaimCandidate> fairOrder(List<VideoJobRepository.ClaimCandidate> candidates,
+                                                             Map<Long, Long> runningCost, int limit) {
+        Map<Long, Deque<VideoJobRepository.ClaimCandidate>> queues = new LinkedHashMap<>();
+        candidates.stream()
+                .sorted(Comparator.comparing(VideoJobRepository.ClaimCandidate::getPriority)
+                        .thenComparing(VideoJobRepository.ClaimCandidate::getId))
+                .forEach(job -> queues.computeIfAbsent(job.getUserId(), id -> new ArrayDeque<>()).add(job));
+
+        Map<Long, Long> used = new HashMap<>(runningCost);
+        List<VideoJobRepository.ClaimCandidate> picked = new ArrayList<>(Math.min(limit, candidates.size()));
+        while (picked.size() < limit && !queues.isEmpty()) {
+            Long nextUser = null;
+            long nextFinish = Long.MAX_VALUE;
+            long nextId = Long.MAX_VALUE;
+            for (Map.Entry<Long, Deque<VideoJobRepository.ClaimCandidate>> queue : queues.entrySet()) {
+                VideoJobRepository.ClaimCandidate head = queue.getValue().peekFirst();
+                long finish = used.getOrDefault(queue.getKey(), 0L) + head.getPriority().getCost();
+                if (finish < nextFinish || (finish == nextFinish && head.getId() < nextId)) {
+                    nextUser = queue.getKey();
+                    nextFinish = finish;
+                    nextId = head.getId();
+                }
+            }
+            Deque<VideoJobRepository.ClaimCandidate> queue = queues.get(nextUser);
+            picked.add(queue.pollFirst());
+            used.put(nextUser, nextFinish);
+            if (queue.isEmpty()) {
+                queues.remove(nextUser);
+            }
+        }
+        return picked;
+    }
+
+    private Map<Long, Long> runningCost(List<VideoJobRepository.ClaimCandidate> candidates, Instant now) {
+        if (candidates.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> userIds = candidates.stream().map(VideoJobRepository.ClaimCandidate::getUserId).distinct().toList();
+        Map<Long, Long> cost = new HashMap<>();
+        for (VideoJobRepository.RunningJobCount running : videoJobRepository.countRunning(userIds, now)) {
+            cost.merge(running.getUserId(), running.getRunning() * running.getPriority().getCost(), Long::sum);
+        }
+        return cost;
+    }
+
+    /**
+     * 접수부터 처음 점유될 때까지. 우선순위별 꼬리 지연으로 공정 분배가 잘 되는지 본다.
+     */
+    private Timer queueWaitTimer(VideoJobPriority priority) {
+        return Timer.builder("video.job.queue.wait")
+                .description("영상 생성 작업 접수부터 워커가 처음 가져갈 때까지")
+                .tag("priority", priority.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이 노드가 실행 중인 작업들의 리스를 연장한다. 모두 연장했을 때만 {@link LeasesExtended} 를 발행한다.
+     * 어느 작업을 놓쳤는지는 알 수 없으므로, 하나라도 놓치면 이전 리스가 끝나는 대로 상태를 DB 에서 다시 읽게 둔다.
+     */
+    public void heartbeat(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        Instant leaseExpiresAt = Instant.now().plus(leaseDuration);
+        int extended = videoJobRepository.extendLeases(jobIds, owner, leaseExpiresAt);
+        if (extended < jobIds.size()) {
+            log.warn("일부 작업의 리스를 연장하지 못했습니다 - requested={}, extended={}", jobIds.size(), extended);
+            return;
+        }
+        eventPublisher.publishEvent(new LeasesExtended(List.copyOf(jobIds), leaseExpiresAt));
+    }
+
+    /**
+     * 실행하지 못한 작업을 다시 대기 상태로 돌려 다른 워커가 바로 가져갈 수 있게 한다.
+     */
+    @Transactional
+    public void release(Long jobId) {
+        videoJobRepository.findById(jobId)
+                .filter(job -> owner.equals(job.getLeaseOwner()))
+                .ifPresent(job -> {
+                    job.release();
+                    videoJobRepository.save(job);
+                });
+    }
+
+    /**
+     * 하트비트로 이 노드가 리스를 연장한 작업들.
+     */
+    public record LeasesExtended(List<Long> jobIds, Instant leaseExpiresAt) {
+    }
+
+    private static String resolveOwner() {
+        String host = System.getenv().getOrDefault("HOSTNAME", "local");
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
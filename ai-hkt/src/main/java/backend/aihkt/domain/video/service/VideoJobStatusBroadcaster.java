@@ -0,0 +1,324 @@
+package backend.aihkt.domain.video.service;
+
+import backend.aihkt.domain.video.dto.VideoResponse;
+import backend.aihkt.domain.video.entity.VideoJob;
+import backend.aihkt.domain.video.entity.VideoJobStatus;
+import backend.aihkt.domain.video.entity.VideoJobStatusChanged;
+import backend.aihkt.domain.video.repository.VideoJobRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 영상 생성 작업 상태를 메모리에 들고 SSE 구독자에게 밀어준다.
+ * <p>
+ * 상태는 {@link VideoJob} 저장 시 발행되는 {@link VideoJobStatusChanged} 로 갱신되므로, 이 노드가 처리 중인 작업과
+ * 끝난 작업은 DB 를 읽지 않고 답한다. 처리 중인 작업은 이 노드의 리스가 살아 있는 동안만 믿고, 하트비트로 리스를
+ * 연장하면 그만큼 늘린다. 리스를 잃으면 다른 노드가 가져갔을 수 있으므로 다시 DB 로 맞춘다. 대기(PENDING) 중이거나 다른 노드가 처리하는 작업은 이벤트가 오지 않으므로,
+ * 구독 중인 작업만 모아 주기적으로 한 번에 조회해 맞춘다(클라이언트별 폴링 대신 노드당 쿼리 1회).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoJobStatusBroadcaster {
+
+    private static final String EVENT_NAME = "status";
+
+    private final VideoJobRepository videoJobRepository;
+
+    private final Map<Long, Set<Subscription>> subscribers = new ConcurrentHashMap<>();
+
+    @Value("${video.job.events.timeout:30m}")
+    private Duration emitterTimeout;
+
+    @Value("${video.job.status-cache.ttl:1h}")
+    private Duration statusTtl;
+
+    @Value("${video.job.status-cache.maximum-size:10000}")
+    private long statusMaximumSize;
+
+    private Cache<Long, TrackedStatus> statuses;
+
+    @PostConstruct
+    void initCache() {
+        statuses = Caffeine.newBuilder()
+                .expireAfterWrite(statusTtl)
+                .maximumSize(statusMaximumSize)
+                .build();
+    }
+
+    /**
+     * 메모리의 상태를 믿을 수 있으면 그대로, 아니면 DB 에서 읽어 반환한다.
+     */
+    public VideoResponse.JobStatus getStatus(Long jobId) {
+        TrackedStatus tracked = statuses.getIfPresent(jobId);
+        if (tracked != null && tracked.trusted()) {
+            return tracked.status();
+        }
+        VideoResponse.JobStatus status = videoJobRepository.findById(jobId)
+                .map(VideoJobStatusBroadcaster::toJobStatus)
+                .orElseThrow(() -> new IllegalArgumentException("영상 생성 작업을 찾을 수 없습니다: " + jobId));
+        update(status, null);
+        return status;
+    }
+
+    /**
+     * 작업들의 현재 상태를 바로 보내고 이후 변경을 밀어주는 SSE 스트림을 연다.
+     * 구독한 작업이 모두 SUCCESS/FAILED 가 되면 스트림을 닫는다.
+     */
+    public SseEmitter subscribe(Collection<Long> jobIds) {
+        Set<Long> ids = new LinkedHashSet<>(jobIds);
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("구독할 작업 ID 가 없습니다.");
+        }
+        Map<Long, VideoResponse.JobStatus> initial = currentStatuses(ids);
+
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        Subscription subscription = new Subscription(emitter, ids);
+        emitter.onCompletion(() -> unsubscribe(subscription));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> unsubscribe(subscription));
+
+        // 등록과 초기 전송 사이에 들어온 변경이 초기값보다 먼저 나가지 않도록 구독 단위로 직렬화한다.
+        synchronized (subscription) {
+            ids.forEach(id -> subscribers.computeIfAbsent(id, k -> ConcurrentHashMap.newKeySet()).add(subscription));
+            for (Long id : ids) {
+                TrackedStatus latest = statuses.getIfPresent(id);
+                deliver(subscription, latest != null ? latest.status() : initial.get(id));
+            }
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(VideoJobStatusChanged event) {
+        update(new VideoResponse.JobStatus(
+                event.jobId(),
+                event.status(),
+                event.videoId(),
+                event.youtubeUrl(),
+                event.title(),
+                event.authorName(),
+                event.message(),
+                event.stage(),
+                event.stageStartedAt(),
+                event.progressBytes(),
+                event.totalBytes()
+        ), event.leaseExpiresAt() != null ? event.leaseExpiresAt() : Instant.MIN);
+    }
+
+    /**
+     * 처리 중 진행 상황. {@link VideoJobProgressTracker} 가 모아서 주기적으로 보내므로 청크마다 오지는 않는다.
+     */
+    @EventListener
+    public void onProgress(VideoJobProgressTracker.ProgressChanged event) {
+        TrackedStatus tracked = statuses.getIfPresent(event.jobId());
+        if (tracked == null || tracked.status().status() != VideoJobStatus.PROCESSING) {
+            return;
+        }
+        update(tracked.status().withProgress(
+                event.stage(), event.stageStartedAt(), event.progressBytes(), event.totalBytes()), tracked.trustedUntil());
+    }
+
+    /**
+     * 리스를 연장한 만큼 이 노드가 처리 중인 작업의 상태를 더 믿는다.
+     */
+    @EventListener
+    public void onLeasesExtended(VideoJobQueue.LeasesExtended event) {
+        event.jobIds().forEach(jobId -> statuses.asMap().computeIfPresent(jobId, (id, tracked) ->
+                tracked.trustedUntil() != null && tracked.status().status() == VideoJobStatus.PROCESSING
+                        ? new TrackedStatus(tracked.status(), event.leaseExpiresAt())
+                        : tracked));
+    }
+
+    /**
+     * 이벤트가 오지 않는 구독 작업(대기 중이거나 다른 노드가 처리 중)을 한 번의 쿼리로 맞춘다.
+     */
+    @Scheduled(fixedDelayString = "${video.job.events.resync-interval:5s}")
+    public void resync() {
+        List<Long> untrusted = subscribers.keySet().stream()
+                .filter(id -> {
+                    TrackedStatus tracked = statuses.getIfPresent(id);
+                    return tracked == null || !tracked.trusted();
+                })
+                .toList();
+        if (untrusted.isEmpty()) {
+            return;
+        }
+        try {
+            videoJobRepository.findAllById(untrusted).forEach(job -> update(toJobStatus(job), null));
+        } catch (Exception ex) {
+            log.warn("작업 상태 동기화 실패 - jobs={}", untrusted.size(), ex);
+        }
+    }
+
+    /**
+     * 프록시가 유휴 연결을 끊지 않도록 주석 한 줄을 보낸다.
+     */
+    @Scheduled(fixedDelayString = "${video.job.events.keepalive-interval:15s}")
+    public void keepAlive() {
+        subscribers.values().stream()
+                .flatMap(Set::stream)
+                .distinct()
+                .forEach(subscription -> {
+                    try {
+                        subscription.emitter().send(SseEmitter.event().comment("keepalive"));
+                    } catch (IOException | IllegalStateException ex) {
+                        subscription.emitter().completeWithError(ex);
+                    }
+                });
+    }
+
+    private Map<Long, VideoResponse.JobStatus> currentStatuses(Set<Long> ids) {
+        Map<Long, VideoResponse.JobStatus> result = new HashMap<>();
+        List<Long> missing = ids.stream()
+                .filter(id -> {
+                    TrackedStatus tracked = statuses.getIfPresent(id);
+                    if (tracked == null) {
+                        return true;
+                    }
+                    result.put(id, tracked.status());
+                    return false;
+                })
+                .toList();
+        if (!missing.isEmpty()) {
+            for (VideoJob job : videoJobRepository.findAllById(missing)) {
+                VideoResponse.JobStatus status = toJobStatus(job);
+                result.put(job.getId(), status);
+                update(status, null);
+            }
+        }
+        for (Long id : ids) {
+            if (!result.containsKey(id)) {
+                throw new IllegalArgumentException("영상 생성 작업을 찾을 수 없습니다: " + id);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param trustedUntil 이 노드의 이벤트로 갱신할 때 그 작업의 리스 만료 시각. DB 에서 읽은 값이면 null.
+     */
+    private void update(VideoResponse.JobStatus status, Instant trustedUntil) {
+        boolean local = trustedUntil != null;
+        TrackedStatus next = new TrackedStatus(status, trustedUntil);
+        TrackedStatus[] previous = new TrackedStatus[1];
+        TrackedStatus stored = statuses.asMap().compute(status.jobId(), (id, current) -> {
+            previous[0] = current;
+            // DB 에서 읽은 값이 그 사이 들어온 이 노드의 이벤트를 덮어쓰지 않게 한다.
+            return current != null && current.trusted() && !local ? current : next;
+        });
+        if (stored != next || (previous[0] != null && previous[0].status().equals(status))) {
+            return;
+        }
+        Set<Subscription> subscriptions = subscribers.get(status.jobId());
+        if (subscriptions != null) {
+            subscriptions.forEach(subscription -> {
+                synchronized (subscription) {
+                    deliver(subscription, status);
+                }
+            });
+        }
+    }
+
+    private void deliver(Subscription subscription, VideoResponse.JobStatus status) {
+        if (!subscription.pending().contains(status.jobId())) {
+            return;
+        }
+        try {
+            subscription.emitter().send(SseEmitter.event()
+                    .id(status.jobId() + "-" + status.status())
+                    .name(EVENT_NAME)
+                    .data(status));
+        } catch (IOException | IllegalStateException ex) {
+            subscription.emitter().completeWithError(ex);
+            return;
+        }
+        if (isTerminal(status.status())) {
+            subscription.pending().remove(status.jobId());
+            if (subscription.pending().isEmpty()) {
+                subscription.emitter().complete();
+            }
+        }
+    }
+
+    private void unsubscribe(Subscription subscription) {
+        subscribers.forEach((id, subscriptions) -> subscriptions.remove(subscription));
+        subscribers.entrySet().removeIf(entry -> entry.getValue().isEmpty());
+    }
+
+    private static boolean isTerminal(VideoJobStatus status) {
+        return status == VideoJobStatus.SUCCESS || status == VideoJobStatus.FAILED;
+    }
+
+    static VideoResponse.JobStatus toJobStatus(VideoJob job) {
+        return new VideoResponse.JobStatus(
+                job.getId(),
+                job.getStatus(),
+                job.getVideoId(),
+                job.getYoutubeUrl(),
+                job.getTitle(),
+                job.getAuthorName(),
+                job.getMessage(),
+                job.getStage(),
+                job.getStageStartedAt(),
+                job.getProgressBytes(),
+                job.getTotalBytes()
+        );
+    }
+
+    /**
+     * 구독 하나(SSE 연결 하나). pending 이 바뀌므로 동일성 비교만 쓴다.
+     */
+    private static final class Subscription {
+
+        private final SseEmitter emitter;
+        private final Set<Long> pending = ConcurrentHashMap.newKeySet(); // 아직 끝나지 않은 구독 작업
+
+        Subscription(SseEmitter emitter, Collection<Long> jobIds) {
+            this.emitter = emitter;
+            this.pending.addAll(jobIds);
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        Set<Long> pending() {
+            return pending;
+        }
+    }
+
+    /**
+     * @param trustedUntil 이 노드에서 발행된 이벤트로 갱신됐으면 그 작업의 리스 만료 시각, DB 에서 읽은 값이면 null.
+     *                     DB 에서 읽은 값은 다른 노드가 바꿀 수 있다.
+     */
+    private record TrackedStatus(VideoResponse.JobStatus status, Instant trustedUntil) {
+
+        /** 끝난 작업, 또는 이 노드가 리스를 쥐고 처리 중인 작업만 DB 없이 답해도 된다. */
+        boolean trusted() {
+            return isTerminal(status.status())
+                    || (trustedUntil != null && status.status() == VideoJobStatus.PROCESSING
+                    && Instant.now().isBefore(trustedUntil));
+        }
+    }
+}
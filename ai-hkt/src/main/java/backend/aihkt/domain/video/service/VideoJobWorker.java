@@ -0,0 +1,88 @@
+package backend.aihkt.domain.video.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link VideoJobQueue} 에서 작업을 가져와 videoTaskExecutor 로 실행하는 워커.
+ * 동시에 실행하는 작업 수는 video.job.worker.concurrency 로 제한하고, 실행 중인 작업의 리스는 주기적으로 연장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "video.job.worker.enabled", havingValue = "true", matchIfMissing = true)
+public class VideoJobWorker {
+
+    private final VideoJobQueue videoJobQueue;
+    private final VideoService videoService;
+    @Qualifier("videoTaskExecutor")
+    private final Executor videoTaskExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Value("${video.job.worker.concurrency:4}")
+    private int concurrency;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("video.job.in_flight", inFlight, Set::size)
+                .description("이 노드에서 실행 중인 영상 생성 작업 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${video.job.poll-interval:1s}")
+    public void poll() {
+        int free = concurrency - inFlight.size();
+        if (free <= 0) {
+            return;
+        }
+        List<Long> jobIds;
+        try {
+            jobIds = videoJobQueue.claim(free);
+        } catch (Exception ex) {
+            log.error("영상 생성 작업 점유 실패", ex);
+            return;
+        }
+        jobIds.forEach(this::dispatch);
+    }
+
+    @Scheduled(fixedDelayString = "${video.job.heartbeat-interval:30s}")
+    public void heartbeat() {
+        try {
+            videoJobQueue.heartbeat(Set.copyOf(inFlight));
+        } catch (Exception ex) {
+            log.error("영상 생성 작업 하트비트 실패 - inFlight={}", inFlight.size(), ex);
+        }
+    }
+
+    private void dispatch(Long jobId) {
+        inFlight.add(jobId);
+        try {
+            videoTaskExecutor.execute(() -> {
+                try {
+                    videoService.processVideoJob(jobId);
+                } finally {
+                    inFlight.remove(jobId);
+                }
+            });
+        } catch (Exception ex) {
+            inFlight.remove(jobId);
+            log.error("영상 생성 작업 실행 실패, 대기열로 되돌림 - jobId={}", jobId, ex);
+            videoJobQueue.release(jobId);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package backend.aihkt.domain.video.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 영상 파이프라인이 호출하는 외부 API(트레일러 생성, 유튜브)별 동시 호출 수 제한.
+ * 스레드 수가 아니라 세마포어로 제한하므로 가상 스레드 모드에서도 외부 API에 걸리는 부하가 일정하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VideoPipelineLimiter {
+
+    public enum Stage {
+        TRAILER,
+        YOUTUBE
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Stage, Semaphore> permits = new EnumMap<>(Stage.class);
+    private final Map<Stage, AtomicInteger> inFlight = new EnumMap<>(Stage.class);
+
+    @Value("${video.pipeline.trailer.max-concurrency:4}")
+    private int trailerMaxConcurrency;
+
+    @Value("${video.pipeline.youtube.max-concurrency:4}")
+    private int youtubeMaxConcurrency;
+
+    @PostConstruct
+    void init() {
+        register(Stage.TRAILER, trailerMaxConcurrency);
+        register(Stage.YOUTUBE, youtubeMaxConcurrency);
+    }
+
+    public <T> T run(Stage stage, Supplier<T> task) {
+        Semaphore semaphore = permits.get(stage);
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(stage + " 호출 대기 중 인터럽트가 발생했습니다.", e);
+        }
+        AtomicInteger running = inFlight.get(stage);
+        running.incrementAndGet();
+        try {
+            return task.get();
+        } finally {
+            running.decrementAndGet();
+            semaphore.release();
+        }
+    }
+
+    private void register(Stage stage, int maxConcurrency) {
+        Semaphore semaphore = new Semaphore(maxConcurrency, true);
+        AtomicInteger running = new AtomicInteger();
+        permits.put(stage, semaphore);
+        inFlight.put(stage, running);
+
+        String tag = stage.name().toLowerCase();
+        Gauge.builder("video.pipeline.in_flight", running, AtomicInteger::get)
+                .description("외부 API 호출 중인 영상 작업 수")
+                .tag("stage", tag)
+                .register(meterRegistry);
+        Gauge.builder("video.pipeline.waiting", semaphore, Semaphore::getQueueLength)
+                .description("외부 API 호출 슬롯을 기다리는 영상 작업 수")
+                .tag("stage", tag)
+                .register(meterRegistry);
+    }
+}
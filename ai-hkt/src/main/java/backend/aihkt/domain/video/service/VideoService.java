@@ -2,30 +2,38 @@ package backend.aihkt.domain.video.service;
 
 import backend.aihkt.domain.user.entity.Users;
 import backend.aihkt.domain.user.repository.UserRepository;
+import backend.aihkt.domain.video.dto.VideoRequest;
 import backend.aihkt.domain.video.dto.VideoResponse;
 import backend.aihkt.domain.video.entity.Video;
 import backend.aihkt.domain.video.entity.VideoJob;
+import backend.aihkt.domain.video.entity.VideoJobPriority;
+import backend.aihkt.domain.video.entity.VideoJobStage;
 import backend.aihkt.domain.video.repository.VideoJobRepository;
 import backend.aihkt.domain.video.repository.VideoRepository;
 import backend.aihkt.domain.book.entity.Book;
-import backend.aihkt.domain.book.repository.BookRepository;
+import backend.aihkt.domain.book.service.BookService;
 import backend.aihkt.youtube.dto.YoutubeUploadRequest;
 import backend.aihkt.youtube.dto.YoutubeUploadResponse;
 import backend.aihkt.youtube.service.YoutubeService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
-import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -37,89 +45,134 @@ import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executor;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class VideoService {
     private final WebClient webClient;
-    private final WebClient reactorWebClient = WebClient.builder()
-            .clientConnector(new ReactorClientHttpConnector())
-            .build();
     private final UserRepository userRepository;
     private final VideoRepository videoRepository;
     private final VideoJobRepository videoJobRepository;
-    private final BookRepository bookRepository;
+    private final BookService bookService;
     private final YoutubeService youtubeService;
     private final ObjectMapper objectMapper;
-    @Qualifier("videoTaskExecutor")
-    private final Executor videoTaskExecutor;
+    private final VideoPipelineLimiter pipelineLimiter;
+    private final VideoJobStatusBroadcaster statusBroadcaster;
+    private final VideoJobProgressTracker progressTracker;
+    private final TrailerStore trailerStore;
+    private final VideoJobAdmission admission;
+    private final MeterRegistry meterRegistry;
 
     @Value("${trailer.api.url}")
     private String trailerApiUrl;
 
-    public VideoResponse.CreateJob createVideos(Long userId, String title, String authorName) {
+    @Value("${video.trailer.pipelined-upload:false}")
+    private boolean pipelinedUpload;
+
+    @Value("${video.trailer.work-dir:${java.io.tmpdir}/aihkt-trailers}")
+    private Path trailerWorkDir;
+
+    @Value("${video.job.batch.max-size:50}")
+    private int batchMaxSize;
+
+    public VideoResponse.CreateJob createVideos(Long userId, String title, String authorName, VideoJobPriority priority) {
         Users user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
-        VideoJob job = VideoJob.pending(user, title, authorName);
-        videoJobRepository.save(job);
-        log.info("영상 생성 Job 생성 - jobId={}, userId={}, title={}, author={}", job.getId(), userId, title, authorName);
+        // PENDING 으로 저장만 하면 VideoJobWorker 가 video_job 테이블에서 가져가 실행한다.
+        // 끝나지 않은 작업이 한도에 닿았으면 저장하지 않고 VideoJobAdmission.Rejected 로 거절한다.
+        VideoJob job = admission.admit(userId, () -> videoJobRepository.save(VideoJob.pending(user, title, authorName, priority)));
+        log.info("영상 생성 Job 생성 - jobId={}, userId={}, priority={}, title={}, author={}",
+                job.getId(), userId, job.getPriority(), title, authorName);
 
-        try {
-            videoTaskExecutor.execute(() -> processVideoJob(job.getId()));
-        } catch (Exception ex) {
-            log.error("영상 생성 작업 실행 실패 - jobId={}", job.getId(), ex);
-            job.markFailure("작업 실행 실패: " + ex.getMessage());
-            videoJobRepository.save(job);
-            throw new IllegalStateException("영상 생성 작업 실행에 실패했습니다.", ex);
+        return new VideoResponse.CreateJob(job.getId(), job.getStatus());
+    }
+
+    /**
+     * 여러 책의 작업을 한 번에 접수한다. 사용자는 한 번만 확인하고 작업 행은 한 트랜잭션에서 JDBC 배치로 넣는다.
+     * 한도에 모두 들어가지 않으면 하나도 저장하지 않는다.
+     */
+    public VideoResponse.CreateBatch createVideosBatch(Long userId, List<VideoRequest.Book> books, VideoJobPriority priority) {
+        if (books == null || books.isEmpty()) {
+            throw new IllegalArgumentException("books 가 비어 있습니다.");
+        }
+        if (books.size() > batchMaxSize) {
+            throw new IllegalArgumentException("한 번에 요청할 수 있는 책은 최대 " + batchMaxSize + "권입니다: " + books.size());
         }
+        Users user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
-        return new VideoResponse.CreateJob(job.getId(), job.getStatus());
+        List<VideoJob> jobs = books.stream()
+                .map(book -> VideoJob.pending(user, book.title(), book.authorName(), priority))
+                .toList();
+        List<VideoJob> saved = admission.admitBatch(userId, jobs.size(), () -> videoJobRepository.saveAll(jobs));
+        log.info("영상 생성 Job 일괄 생성 - userId={}, count={}, firstJobId={}", userId, saved.size(), saved.get(0).getId());
+
+        return new VideoResponse.CreateBatch(saved.stream()
+                .map(job -> new VideoResponse.CreateJob(job.getId(), job.getStatus()))
+                .toList());
     }
 
+    /**
+     * 처리 중이거나 끝난 작업은 메모리의 상태로 답한다. 자세한 기준은 {@link VideoJobStatusBroadcaster}.
+     */
     public VideoResponse.JobStatus getJobStatus(Long jobId) {
-        VideoJob job = videoJobRepository.findById(jobId)
-                .orElseThrow(() -> new IllegalArgumentException("영상 생성 작업을 찾을 수 없습니다: " + jobId));
+        return statusBroadcaster.getStatus(jobId);
+    }
 
-        return new VideoResponse.JobStatus(
-                job.getId(),
-                job.getStatus(),
-                job.getVideoId(),
-                job.getYoutubeUrl(),
-                job.getTitle(),
-                job.getAuthorName(),
-                job.getMessage()
-        );
+    public SseEmitter subscribeJobEvents(List<Long> jobIds) {
+        return statusBroadcaster.subscribe(jobIds);
     }
 
-    private void processVideoJob(Long jobId) {
-        MultipartFile multipartFile = null;
+    public void processVideoJob(Long jobId) {
         VideoJob job = null;
         try {
             job = getJob(jobId);
             job.markProcessing();
             videoJobRepository.save(job);
+            progressTracker.begin(jobId, job.getStageStartedAt());
 
             Long userId = job.getUser().getId();
             Users user = userRepository.findById(userId)
                     .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
-            log.info("영상 생성 시작 - jobId={}, userId={}, title={}, author={}", jobId, user.getId(), job.getTitle(), job.getAuthorName());
-
-            multipartFile = requestTrailer(job.getTitle(), job.getAuthorName());
-            log.info("트레일러 생성 완료 - jobId={}, sizeBytes={}", jobId, multipartFile == null ? 0 : multipartFile.getSize());
+            String title = job.getTitle();
+            String authorName = job.getAuthorName();
+            log.info("영상 생성 시작 - jobId={}, userId={}, title={}, author={}", jobId, user.getId(), title, authorName);
+
+            YoutubeUploadRequest youtubeUploadForm = buildUploadRequest(title, authorName);
+            String trailerKey = trailerStore.key(title, authorName);
+            // 이전 실행이 업로드 도중 죽었다면 트레일러를 다시 만들지 않고 커밋된 위치부터 이어 올린다.
+            Optional<YoutubeUploadResponse> resumed = pipelineLimiter.run(VideoPipelineLimiter.Stage.YOUTUBE,
+                    () -> youtubeService.resumeUpload(jobId));
+            YoutubeUploadResponse uploadResponse;
+            if (resumed.isPresent()) {
+                uploadResponse = resumed.get();
+                log.info("중단된 업로드 재개 완료 - jobId={}", jobId);
+            } else if (pipelinedUpload && !trailerStore.isEnabled()) {
+                // 스트림 전송은 TrailerStore 를 거치지 않아 생성 합치기도 캐시 저장도 안 되므로 캐시를 끈 경우에만 쓴다.
+                progressTracker.stage(jobId, VideoJobStage.GENERATING);
+                // 트레일러 수신과 유튜브 전송이 겹치므로 두 외부 API 슬롯을 모두 잡는다(항상 같은 순서로).
+                uploadResponse = pipelineLimiter.run(VideoPipelineLimiter.Stage.TRAILER,
+                        () -> pipelineLimiter.run(VideoPipelineLimiter.Stage.YOUTUBE,
+                                () -> streamTrailerToYoutube(jobId, user.getId(), title, authorName, youtubeUploadForm)));
+            } else {
+                MultipartFile trailer = findDownloadedTrailer(jobId, title)
+                        .orElseGet(() -> prepareTrailer(jobId, title, authorName, trailerKey));
+                log.info("트레일러 준비 완료 - jobId={}, sizeBytes={}", jobId, trailer.getSize());
+                progressTracker.stage(jobId, VideoJobStage.UPLOAD_INIT, trailer.getSize());
 
-            YoutubeUploadRequest youtubeUploadForm = buildUploadRequest(job.getTitle(), job.getAuthorName());
-            YoutubeUploadResponse uploadResponse = youtubeService.upload(
-                    user.getId(),
-                    youtubeUploadForm,
-                    multipartFile
-            );
+                uploadResponse = pipelineLimiter.run(VideoPipelineLimiter.Stage.YOUTUBE,
+                        () -> youtubeService.upload(user.getId(), youtubeUploadForm, trailer, jobId));
+            }
 
-            log.info("유튜브 업로드 완료 - jobId={}, status={}, videoId={}, youtubeUrl={}",
-                    jobId, uploadResponse.statusCode(), uploadResponse.videoId(), uploadResponse.youtubeUrl());
+            log.info("유튜브 업로드 완료 - jobId={}, status={}, videoId={}, youtubeUrl={}, bytes={}, chunks={}, uploadMs={}",
+                    jobId, uploadResponse.statusCode(), uploadResponse.videoId(), uploadResponse.youtubeUrl(),
+                    uploadResponse.uploadedBytes(), uploadResponse.chunkCount(), uploadResponse.uploadMillis());
 
+            progressTracker.stage(jobId, VideoJobStage.PERSISTING);
             String videoId = uploadResponse.videoId();
             String youtubeUrl = uploadResponse.youtubeUrl();
             Book book = upsertBook(user, job.getTitle(), job.getAuthorName());
@@ -134,55 +187,111 @@ public class VideoService {
                 );
                 videoRepository.save(video);
                 log.info("비디오 저장 완료 - jobId={}, videoId={}, bookId={}", jobId, videoId, book.getId());
-                job.markSuccess(videoId, youtubeUrl);
+                VideoJob completed = complete(jobId, done -> done.markSuccess(videoId, youtubeUrl));
+                log.info("작업 상태 저장 - jobId={}, status={}", jobId, completed.getStatus());
             } else {
-                job.markFailure("유튜브 업로드 결과에 videoId/youtubeUrl 없음");
                 log.warn("유튜브 업로드 결과에 videoId/youtubeUrl 없음 - jobId={}", jobId);
+                complete(jobId, failed -> failed.markFailure("유튜브 업로드 결과에 videoId/youtubeUrl 없음"));
             }
-
-            videoJobRepository.save(job);
-            log.info("작업 상태 저장 - jobId={}, status={}", job.getId(), job.getStatus());
         } catch (Exception ex) {
+            if (Thread.currentThread().isInterrupted()) {
+                // 종료 중 인터럽트: 실패로 남기지 않고 리스 만료 후 다른 워커가 이어서 처리하게 둔다.
+                log.warn("영상 생성 작업 중단 - jobId={}", jobId, ex);
+                progressTracker.finish(jobId);
+                return;
+            }
             log.error("영상 생성 작업 실패 - jobId={}", jobId, ex);
             if (job != null) {
-                job.markFailure(ex.getMessage());
-                videoJobRepository.save(job);
+                complete(jobId, failed -> failed.markFailure(ex.getMessage()));
             }
-        } finally {
-            cleanupTempFile(multipartFile);
         }
+        cleanupJobFiles(jobId);
     }
 
-    private VideoJob getJob(Long jobId) {
-        return videoJobRepository.findById(jobId)
-                .orElseThrow(() -> new IllegalArgumentException("영상 생성 작업을 찾을 수 없습니다: " + jobId));
+    /**
+     * 진행 상황을 먼저 기록하고 작업을 다시 읽어 종료 상태로 바꾼다. 처음 읽은 엔티티를 저장하면
+     * 그 사이 따로 갱신한 단계/진행 컬럼을 예전 값으로 덮어쓰게 된다.
+     */
+    private VideoJob complete(Long jobId, Consumer<VideoJob> transition) {
+        progressTracker.finish(jobId);
+        VideoJob job = getJob(jobId);
+        transition.accept(job);
+        return videoJobRepository.save(job);
+    }
+
+    /**
+     * 작업 디렉터리에서 이 작업의 트레일러 파일을 찾는다. 파일이 디렉터리에 없는 작업은 저장이 끝나지 않은 것으로 본다.
+     */
+    Path trailerPath(Long jobId) {
+        return trailerWorkDir.resolve("trailer_" + jobId + ".mp4");
+    }
+
+    /**
+     * 작업이 끝났으니(성공/실패) 재개용으로 남겨 둔 트레일러 파일과 업로드 세션을 정리한다.
+     */
+    void cleanupJobFiles(Long jobId) {
+        try {
+            Files.deleteIfExists(trailerPath(jobId));
+            Files.deleteIfExists(partialTrailerPath(jobId));
+            youtubeService.discardSessions(jobId);
+        } catch (Exception ex) {
+            log.warn("작업 파일 정리 실패 - jobId={}", jobId, ex);
+        }
+    }
+
+    private Path partialTrailerPath(Long jobId) {
+        return trailerWorkDir.resolve("trailer_" + jobId + ".mp4.part");
     }
 
-    private void cleanupTempFile(MultipartFile multipartFile) {
-        if (multipartFile instanceof PathMultipartFile pmf) {
-            pmf.deleteQuietly();
+    private Optional<MultipartFile> findDownloadedTrailer(Long jobId, String title) {
+        Path path = trailerPath(jobId);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
         }
+        log.info("[Trailer] reusing downloaded trailer - jobId={}, path={}", jobId, path);
+        return Optional.of(new PathMultipartFile("file", buildFileName(title), "video/mp4", path));
+    }
+
+    /**
+     * 같은 책의 트레일러를 캐시에서 가져오거나 진행 중인 생성을 기다리고, 둘 다 없을 때만 트레일러 API 를 호출한다.
+     * 호출 슬롯은 실제로 생성하는 작업만 잡는다.
+     */
+    private MultipartFile prepareTrailer(Long jobId, String title, String authorName, String trailerKey) {
+        Path trailerFile = trailerPath(jobId);
+        trailerStore.obtain(trailerKey, trailerFile, target -> pipelineLimiter.run(VideoPipelineLimiter.Stage.TRAILER,
+                () -> requestTrailer(jobId, title, authorName, target)));
+        return new PathMultipartFile("file", buildFileName(title), "video/mp4", trailerFile);
+    }
+
+    private VideoJob getJob(Long jobId) {
+        return videoJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("영상 생성 작업을 찾을 수 없습니다: " + jobId));
     }
 
     private Book upsertBook(Users user, String title, String authorName) {
         String safeTitle = (title == null || title.isBlank()) ? "제목 없음" : title;
         String safeAuthor = (authorName == null || authorName.isBlank()) ? "저자 미상" : authorName;
-        return bookRepository.findFirstByTitleAndAuthorAndUser(safeTitle, safeAuthor, user)
-                .orElseGet(() -> bookRepository.save(Book.create(safeTitle, safeAuthor, user)));
+        return bookService.getOrCreate(user, safeTitle, safeAuthor);
     }
 
-    private MultipartFile requestTrailer(String title, String authorName) {
+    /**
+     * 트레일러 API 응답을 target 에 스트리밍으로 기록한다. 완성된 파일을 최종 경로로 옮기는 것은 {@link TrailerStore} 가 한다.
+     */
+    private Path requestTrailer(Long jobId, String title, String authorName, Path target) {
         if (!StringUtils.hasText(trailerApiUrl)) {
             throw new IllegalStateException("trailer.api.url 설정이 없습니다.");
         }
 
         String filename = buildFileName(title);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
 
         try {
-            Path tempFile = Files.createTempFile("trailer_", ".mp4");
-            log.info("[Trailer] request start - url={}, tempFile={}, filename={}", trailerApiUrl, tempFile, filename);
+            Files.createDirectories(target.getParent());
+            log.info("[Trailer] request start - url={}, tempFile={}, filename={}", trailerApiUrl, target, filename);
+            progressTracker.stage(jobId, VideoJobStage.GENERATING);
 
-            Flux<DataBuffer> bodyFlux = reactorWebClient.post()
+            Flux<DataBuffer> bodyFlux = webClient.post()
                     .uri(trailerApiUrl)
                     .contentType(MediaType.APPLICATION_JSON)
                     .accept(MediaType.valueOf("video/mp4"), MediaType.APPLICATION_JSON)
@@ -194,12 +303,13 @@ public class VideoService {
                                     .defaultIfEmpty("422인데 응답 바디 없음")
                                     .map(body -> new IllegalArgumentException("FastAPI 422: " + body))
                     )
-                    .bodyToFlux(DataBuffer.class);
+                    .bodyToFlux(DataBuffer.class)
+                    .doOnNext(buffer -> progressTracker.downloaded(jobId, buffer.readableByteCount()));
 
             // 스트리밍으로 파일에 기록 (메모리 버퍼 제한 회피)
-            Mono<Path> written = DataBufferUtils.write(bodyFlux, tempFile)
+            Mono<Path> written = DataBufferUtils.write(bodyFlux, target)
                     .timeout(Duration.ofMinutes(10))
-                    .thenReturn(tempFile);
+                    .thenReturn(target);
 
             Path writtenPath = written.block();
             if (writtenPath == null) {
@@ -208,15 +318,96 @@ public class VideoService {
 
             long size = Files.size(writtenPath);
             log.info("[Trailer] saved - path={}, sizeBytes={}", writtenPath, size);
+            recordTrailerSize(size);
+            outcome = "success";
 
-            return new PathMultipartFile("file", filename, "video/mp4", writtenPath);
+            return writtenPath;
         } catch (WebClientResponseException ex) {
             throw new IllegalStateException("트레일러 생성 API 실패: HTTP " + ex.getStatusCode().value(), ex);
         } catch (IOException e) {
             throw new IllegalStateException("트레일러 파일 저장/조회 중 I/O 오류", e);
+        } finally {
+            sample.stop(trailerTimer("file", outcome));
         }
     }
 
+    /**
+     * 트레일러 응답 헤더가 오는 즉시 유튜브 resumable 세션을 열고, 본문을 받는 대로 청크 단위로 올린다.
+     * 임시 파일에 다 받은 뒤 다시 읽어 올리는 방식과 달리 디스크 쓰기/읽기가 없고 두 전송이 겹친다.
+     */
+    private YoutubeUploadResponse streamTrailerToYoutube(Long jobId,
+                                                         Long userId,
+                                                         String title,
+                                                         String authorName,
+                                                         YoutubeUploadRequest uploadRequest) {
+        if (!StringUtils.hasText(trailerApiUrl)) {
+            throw new IllegalStateException("trailer.api.url 설정이 없습니다.");
+        }
+
+        String filename = buildFileName(title);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+
+        try {
+            log.info("[Trailer] pipelined request start - url={}, filename={}", trailerApiUrl, filename);
+            ResponseEntity<Flux<DataBuffer>> response = webClient.post()
+                    .uri(trailerApiUrl)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.valueOf("video/mp4"), MediaType.APPLICATION_JSON)
+                    .bodyValue(Map.of("title", title, "author", authorName))
+                    .retrieve()
+                    .onStatus(
+                            s -> s.value() == 422,
+                            resp -> resp.bodyToMono(String.class)
+                                    .defaultIfEmpty("422인데 응답 바디 없음")
+                                    .map(body -> new IllegalArgumentException("FastAPI 422: " + body))
+                    )
+                    .toEntityFlux(DataBuffer.class)
+                    .block(Duration.ofMinutes(10));
+            if (response == null || response.getBody() == null) {
+                throw new IllegalStateException("트레일러 응답이 비어 있습니다.");
+            }
+
+            long contentLength = response.getHeaders().getContentLength();
+            log.info("[Trailer] headers received - contentLength={}", contentLength);
+            progressTracker.stage(jobId, VideoJobStage.UPLOAD_INIT, contentLength >= 0 ? contentLength : null);
+
+            Flux<DataBuffer> body = response.getBody().timeout(Duration.ofMinutes(10));
+            try (InputStream input = DataBufferUtils.subscriberInputStream(body, 4)) {
+                YoutubeUploadResponse uploaded =
+                        youtubeService.uploadStream(userId, uploadRequest, input, filename, "video/mp4", contentLength, jobId);
+                recordTrailerSize(contentLength >= 0 ? contentLength : uploaded.uploadedBytes());
+                outcome = "success";
+                return uploaded;
+            }
+        } catch (WebClientResponseException ex) {
+            throw new IllegalStateException("트레일러 생성 API 실패: HTTP " + ex.getStatusCode().value(), ex);
+        } catch (IOException e) {
+            throw new IllegalStateException("트레일러 스트림 처리 중 I/O 오류", e);
+        } finally {
+            sample.stop(trailerTimer("pipelined", outcome));
+        }
+    }
+
+    /**
+     * 트레일러 요청부터 본문을 끝까지 받을 때까지. pipelined 는 받는 동안 유튜브 전송이 겹친다.
+     */
+    private Timer trailerTimer(String mode, String outcome) {
+        return Timer.builder("video.trailer.request")
+                .description("트레일러 API 요청부터 본문 수신 완료까지")
+                .tag("mode", mode)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private void recordTrailerSize(long bytes) {
+        DistributionSummary.builder("video.trailer.size")
+                .description("트레일러 응답 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
     private MultipartFile toMultipartFile(byte[] bytes, String filename) {
         return new SimpleMultipartFile("file", filename, "video/mp4", bytes);
     }
@@ -357,11 +548,12 @@ public class VideoService {
             Files.copy(path, dest.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING);
         }
 
-        void deleteQuietly() {
-            try {
-                Files.deleteIfExists(path);
-            } catch (IOException ignored) {
-            }
+        /**
+         * 파일 기반임을 알려 업로더가 스트림 대신 FileChannel 로 구간을 직접 읽게 한다.
+         */
+        @Override
+        public Resource getResource() {
+            return new FileSystemResource(path);
         }
     }
 }
@@ -0,0 +1,74 @@
+package backend.aihkt.domain.video.service;
+
+import backend.aihkt.domain.video.entity.VideoJob;
+import backend.aihkt.domain.video.entity.VideoJobStatus;
+import backend.aihkt.domain.video.repository.VideoJobRepository;
+import backend.aihkt.youtube.entity.YoutubeUploadSession;
+import backend.aihkt.youtube.service.YoutubeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 기동 시 영상 생성 작업에 묶인 업로드 세션을 점검한다.
+ * <p>
+ * 프로세스가 업로드 도중 죽으면 세션과 로컬 트레일러 파일이 남는다. 끝난 작업의 세션은 정리하고,
+ * 아직 끝나지 않은 작업은 유튜브에 커밋된 위치를 다시 조회해 기록해 둔다. 실제 재개는 리스가 만료된 작업을
+ * 워커가 다시 점유했을 때 {@link VideoService#processVideoJob(Long)} 에서 이뤄진다.
+ * 다른 노드가 아직 리스를 쥐고 있는 작업은 그 노드가 올리는 중일 수 있으므로 건드리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoUploadRecovery {
+
+    private final YoutubeService youtubeService;
+    private final VideoJobRepository videoJobRepository;
+    private final VideoService videoService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        List<YoutubeUploadSession> sessions;
+        try {
+            sessions = youtubeService.findVideoJobSessions();
+        } catch (Exception ex) {
+            log.error("업로드 세션 점검 실패", ex);
+            return;
+        }
+        if (sessions.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        int resumable = 0;
+        for (YoutubeUploadSession session : sessions) {
+            Long jobId = session.getVideoJobId();
+            try {
+                VideoJob job = videoJobRepository.findById(jobId).orElse(null);
+                if (job == null || job.getStatus() == VideoJobStatus.SUCCESS || job.getStatus() == VideoJobStatus.FAILED) {
+                    log.info("끝난 작업의 업로드 세션 정리 - jobId={}, sessionId={}", jobId, session.getSessionId());
+                    videoService.cleanupJobFiles(jobId);
+                    continue;
+                }
+                if (job.getLeaseExpiresAt() != null && job.getLeaseExpiresAt().isAfter(now)) {
+                    continue;
+                }
+                if (youtubeService.refreshCommittedOffset(session)) {
+                    resumable++;
+                    log.info("이어 올릴 업로드 세션 확인 - jobId={}, sessionId={}", jobId, session.getSessionId());
+                } else {
+                    log.info("이어 올릴 수 없는 업로드 세션 정리 - jobId={}, localPath={}", jobId, session.getLocalPath());
+                    youtubeService.discardSessions(jobId);
+                }
+            } catch (Exception ex) {
+                log.warn("업로드 세션 점검 실패 - jobId={}, sessionId={}", jobId, session.getSessionId(), ex);
+            }
+        }
+        log.info("업로드 세션 점검 완료 - sessions={}, resumable={}", sessions.size(), resumable);
+    }
+}
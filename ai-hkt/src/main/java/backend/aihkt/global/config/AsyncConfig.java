@@ -1,7 +1,9 @@
 package backend.aihkt.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -11,13 +13,40 @@ import java.util.concurrent.Executor;
 @EnableAsync
 public class AsyncConfig {
 
+    /**
+     * video.executor.mode=virtual 이면 작업마다 가상 스레드를 띄운다. 이때 동시 실행 수는 스레드 풀 크기가 아니라
+     * video.job.worker.concurrency 와 외부 API별 세마포어(VideoPipelineLimiter)가 제한한다.
+     * <p>
+     * platform 모드의 풀은 큐 없이 video.job.worker.concurrency 개 스레드로 바로 실행한다. 큐가 있으면 코어 스레드가 다 찬 뒤
+     * 점유한 작업이 실행되지 않고 큐에서 기다리며(리스는 계속 연장되어 다른 노드도 못 가져간다), 점유 수와 실행 수가 달라진다.
+     * 최대 스레드를 두 배로 두는 것은 끝난 스레드가 풀로 돌아가기 전에 다음 작업이 들어오는 순간을 받기 위해서이며,
+     * 동시에 실행되는 작업 수는 워커가 점유 수로 제한한다.
+     */
     @Bean(name = "videoTaskExecutor")
-    public Executor videoTaskExecutor() {
+    public Executor videoTaskExecutor(@Value("${video.executor.mode:platform}") String mode,
+                                      @Value("${video.job.worker.concurrency:4}") int concurrency) {
+        if ("virtual".equalsIgnoreCase(mode)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("video-job-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency * 2);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("video-job-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "tokenRefreshExecutor")
+    public Executor tokenRefreshExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(4);
-        executor.setQueueCapacity(20);
-        executor.setThreadNamePrefix("video-job-");
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("token-refresh-");
         executor.initialize();
         return executor;
     }
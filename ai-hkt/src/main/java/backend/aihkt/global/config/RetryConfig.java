@@ -0,0 +1,30 @@
+package backend.aihkt.global.config;
+
+import backend.aihkt.infra.http.RetryExecutor;
+import backend.aihkt.infra.http.RetryPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class RetryConfig {
+
+    @Bean
+    public RetryExecutor retryExecutor(
+            @Value("${http.retry.max-attempts:4}") int maxAttempts,
+            @Value("${http.retry.base-delay:200ms}") Duration baseDelay,
+            @Value("${http.retry.max-delay:10s}") Duration maxDelay,
+            @Value("${http.retry.max-retry-after:30s}") Duration maxRetryAfter,
+            @Value("${http.retry.budget.ratio:0.2}") double budgetRatio,
+            @Value("${http.retry.budget.min-retries:10}") int budgetMinRetries,
+            @Value("${http.retry.budget.window:10s}") Duration budgetWindow,
+            MeterRegistry meterRegistry
+    ) {
+        RetryPolicy policy = new RetryPolicy(maxAttempts, baseDelay, maxDelay, maxRetryAfter,
+                budgetRatio, budgetMinRetries, budgetWindow);
+        return new RetryExecutor(policy, meterRegistry);
+    }
+}
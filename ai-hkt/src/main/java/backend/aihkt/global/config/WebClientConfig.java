@@ -1,23 +1,60 @@
 package backend.aihkt.global.config;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
-import java.net.http.HttpClient;
+import java.time.Duration;
 
+/**
+ * 외부 API(구글 OAuth/Data/Analytics/업로드, 트레일러 생성 API) 호출이 모두 함께 쓰는 WebClient.
+ * <p>
+ * 연결 풀 하나를 공유해 호스트별 keep-alive 연결을 재사용하고, 풀이 가득 차면 pending-acquire-max-count 까지만
+ * 스레드를 잡지 않고 대기시킨다. 유휴 연결은 구글 프런트엔드가 먼저 끊기 전에(max-idle-time) 풀에서 정리한다.
+ * 응답 대기 시간은 호출마다 다르므로(트레일러 생성은 수 분) 여기서 정하지 않고 호출하는 쪽이 요청별로 정한다.
+ */
 @Configuration
 public class WebClientConfig {
 
-    @Bean
-    public WebClient webClient() {
-        HttpClient jdkHttpClient = HttpClient.newBuilder()
-                .version(HttpClient.Version.HTTP_2)
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider externalApiConnectionProvider(
+            @Value("${http.client.pool.max-connections:200}") int maxConnections,
+            @Value("${http.client.pool.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+            @Value("${http.client.pool.pending-acquire-timeout:10s}") Duration pendingAcquireTimeout,
+            @Value("${http.client.pool.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${http.client.pool.max-life-time:5m}") Duration maxLifeTime,
+            @Value("${http.client.pool.evict-interval:30s}") Duration evictInterval
+    ) {
+        return ConnectionProvider.builder("external-api")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInterval)
+                .metrics(true)
                 .build();
+    }
+
+    @Bean
+    public WebClient webClient(
+            ConnectionProvider externalApiConnectionProvider,
+            @Value("${http.client.connect-timeout:10s}") Duration connectTimeout,
+            @Value("${http.client.max-in-memory-size:2MB}") DataSize maxInMemorySize
+    ) {
+        HttpClient httpClient = HttpClient.create(externalApiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .compress(true);
 
         return WebClient.builder()
-                .clientConnector(new JdkClientHttpConnector(jdkHttpClient))
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) maxInMemorySize.toBytes()))
                 .build();
     }
 }
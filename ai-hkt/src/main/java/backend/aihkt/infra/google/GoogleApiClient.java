@@ -0,0 +1,185 @@
+package backend.aihkt.infra.google;
+
+import backend.aihkt.infra.http.RetryExecutor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClientRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 구글 API(OAuth 토큰, Data API, Analytics, resumable 업로드) 호출 계층.
+ * <p>
+ * 모든 요청은 공유 연결 풀을 쓰는 {@link WebClient} 로 보내고 {@link Mono} 를 돌려주므로, 응답을 기다리거나 재시도 백오프
+ * 중에도 스레드를 잡지 않는다. 여러 요청을 동시에 보내는 쪽(통계 조회)은 Mono 를 그대로 조합하고, 블로킹 API 를 유지하는
+ * 기존 호출부는 결과를 block 해서 쓴다. 재시도 규칙은 {@link RetryExecutor} 를 따른다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GoogleApiClient {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> JSON_OBJECT = new ParameterizedTypeReference<>() {
+    };
+    private static final int SLICE_SIZE = 64 * 1024;
+    /** reader 가 읽기 전에 미리 받아 두는 본문 버퍼 수. */
+    private static final int PREFETCH_BUFFERS = 16;
+
+    private final WebClient webClient;
+    private final RetryExecutor retryExecutor;
+
+    /**
+     * 폼을 POST 하고 JSON 객체 응답을 받는다(토큰 엔드포인트). 2xx 가 아니면 WebClientResponseException 으로 끝난다.
+     */
+    public Mono<Map<String, Object>> postForm(String uri, MultiValueMap<String, String> form, boolean idempotent) {
+        URI target = URI.create(uri);
+        return retryExecutor.execute(target.getHost(), idempotent, () -> webClient.post()
+                .uri(target)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(form))
+                .retrieve()
+                .bodyToMono(JSON_OBJECT));
+    }
+
+    /**
+     * access token 으로 GET 해 JSON 객체 응답을 받는다.
+     */
+    public Mono<Map<String, Object>> getJson(String uri, String accessToken) {
+        URI target = URI.create(uri);
+        return retryExecutor.execute(target.getHost(), true, () -> webClient.get()
+                .uri(target)
+                .headers(headers -> headers.setBearerAuth(accessToken))
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(JSON_OBJECT));
+    }
+
+    /**
+     * access token 으로 GET 해 본문을 reader 로 읽는다. 본문은 모으지 않고 도착하는 대로 InputStream 으로 넘기며(크기 제한 없음),
+     * reader 는 이벤트 루프 대신 bounded-elastic 스레드에서 돈다. 상태 코드는 본문을 읽기 전에 확인하므로 재시도는
+     * {@link #getJson} 과 같고, reader 가 실패하면 UncheckedIOException 으로 끝난다. timeout 은 시도마다 응답을 기다리는
+     * 최대 시간이다.
+     */
+    public <T> Mono<T> get(String uri, String accessToken, Duration timeout, BodyReader<T> reader) {
+        URI target = URI.create(uri);
+        return retryExecutor.execute(target.getHost(), true, () -> webClient.get()
+                        .uri(target)
+                        .headers(headers -> headers.setBearerAuth(accessToken))
+                        .accept(MediaType.APPLICATION_JSON)
+                        .httpRequest(request -> responseTimeout(request, timeout))
+                        .retrieve()
+                        .toEntityFlux(DataBuffer.class))
+                .publishOn(Schedulers.boundedElastic())
+                .map(response -> {
+                    Flux<DataBuffer> content = response.getBody() != null ? response.getBody() : Flux.empty();
+                    // 닫으면 남은 본문 구독을 취소하고 받아 둔 버퍼를 놓는다.
+                    try (InputStream body = DataBufferUtils.subscriberInputStream(content, PREFETCH_BUFFERS)) {
+                        return reader.read(body);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * 상태 코드와 헤더를 그대로 돌려받는 요청. 408/429/5xx 와 전송 오류는 재시도하되(POST/PATCH 는 서버가 처리하지 않은 경우만),
+     * 그래도 실패하면 마지막 응답을 돌려준다. body 가 null 이면 본문 없이 보내고, timeout 이 null 이면 응답을 기한 없이 기다린다.
+     */
+    public Mono<ResponseEntity<String>> exchange(HttpMethod method,
+                                                 String uri,
+                                                 String accessToken,
+                                                 Consumer<HttpHeaders> headers,
+                                                 String body,
+                                                 Duration timeout) {
+        URI target = URI.create(uri);
+        boolean idempotent = method != HttpMethod.POST && method != HttpMethod.PATCH;
+        return retryExecutor.exchange(target.getHost(), idempotent, () -> {
+            WebClient.RequestBodySpec request = webClient.method(method)
+                    .uri(target)
+                    .headers(requestHeaders -> {
+                        requestHeaders.setBearerAuth(accessToken);
+                        headers.accept(requestHeaders);
+                    })
+                    .httpRequest(nativeRequest -> responseTimeout(nativeRequest, timeout));
+            return (body != null ? request.bodyValue(body) : request)
+                    .exchangeToMono(response -> response.toEntity(String.class));
+        });
+    }
+
+    /**
+     * resumable 업로드 청크 PUT. content 를 64KB 조각으로 나눠 복사 없이 내보내며, 구독마다 새 view 를 쓰므로 다시 보내도
+     * 안전하다. 커밋 위치 확인과 재시도는 업로드 루프가 직접 하므로 여기서는 재시도하지 않는다. timeout 은 청크를 다 보낸 뒤
+     * 응답을 기다리는 최대 시간이다.
+     */
+    public Mono<ResponseEntity<String>> putChunk(String uploadUrl,
+                                                 String accessToken,
+                                                 String contentType,
+                                                 String contentRange,
+                                                 ByteBuffer content,
+                                                 Duration timeout) {
+        BodyInserter<ByteBuffer, ClientHttpRequest> slices =
+                (message, context) -> message.writeWith(slices(content, message.bufferFactory()));
+        return webClient.put()
+                .uri(URI.create(uploadUrl))
+                .headers(headers -> {
+                    headers.setBearerAuth(accessToken);
+                    headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+                    headers.set(HttpHeaders.CONTENT_RANGE, contentRange);
+                    headers.setContentLength(content.remaining());
+                })
+                .httpRequest(request -> responseTimeout(request, timeout))
+                .body(slices)
+                .exchangeToMono(response -> response.toEntity(String.class));
+    }
+
+    private static Flux<DataBuffer> slices(ByteBuffer content, DataBufferFactory bufferFactory) {
+        return Flux.defer(() -> {
+            ByteBuffer view = content.duplicate();
+            return Flux.generate(sink -> {
+                if (!view.hasRemaining()) {
+                    sink.complete();
+                    return;
+                }
+                int length = Math.min(SLICE_SIZE, view.remaining());
+                ByteBuffer slice = view.slice(view.position(), length);
+                view.position(view.position() + length);
+                sink.next(bufferFactory.wrap(slice));
+            });
+        });
+    }
+
+    private static void responseTimeout(ClientHttpRequest request, Duration timeout) {
+        if (timeout != null) {
+            HttpClientRequest nativeRequest = request.getNativeRequest();
+            nativeRequest.responseTimeout(timeout);
+        }
+    }
+
+    @FunctionalInterface
+    public interface BodyReader<T> {
+
+        T read(InputStream body) throws IOException;
+    }
+}
@@ -0,0 +1,10 @@
+package backend.aihkt.infra.google;
+
+/**
+ * 구글 토큰 엔드포인트 응답 중 access token 과 만료까지 남은 시간(초).
+ */
+public record GoogleToken(
+        String accessToken,
+        long expiresInSeconds
+) {
+}
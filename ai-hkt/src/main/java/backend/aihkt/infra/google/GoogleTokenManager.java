@@ -0,0 +1,168 @@
+package backend.aihkt.infra.google;
+
+import backend.aihkt.domain.user.entity.Users;
+import backend.aihkt.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 사용자별 구글 access token 캐시.
+ * <p>
+ * 토큰은 expires_in 기준으로 메모리에 보관하고, 만료 직전(refresh-ahead) 구간에 들어서면 캐시된 토큰을 그대로
+ * 돌려주면서 백그라운드로 갱신한다. 같은 사용자에 대한 동시 갱신 요청은 하나의 토큰 엔드포인트 호출로 합쳐지며,
+ * DB 의 {@code Users.accessToken} 은 실제로 갱신됐을 때만 기록한다. 사용자 조회와 DB 기록은 갱신 실행기에서 하고,
+ * 토큰 엔드포인트 응답을 기다리는 동안에는 어떤 스레드도 잡지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GoogleTokenManager {
+
+    /** 캐시된 토큰을 만료 시각보다 이만큼 일찍 무효로 본다(시계 오차, 전송 지연 대비). */
+    private static final Duration EXPIRY_MARGIN = Duration.ofSeconds(30);
+    /** refresh token 이 없어 갱신할 수 없는 사용자의 토큰을 재조회 없이 쓰는 시간. */
+    private static final Duration UNREFRESHABLE_TTL = Duration.ofMinutes(1);
+
+    private final UserRepository userRepository;
+    private final OAuthService oAuthService;
+    @Qualifier("tokenRefreshExecutor")
+    private final Executor tokenRefreshExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<Long, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, CompletableFuture<CachedToken>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${google.oauth.token.refresh-ahead:5m}")
+    private Duration refreshAhead;
+
+    /**
+     * 유효한 access token 을 반환한다. 캐시가 비었거나 만료됐을 때만 토큰 갱신을 기다린다.
+     */
+    public String getAccessToken(Long userId) {
+        Instant now = Instant.now();
+        CachedToken cached = tokens.get(userId);
+        if (cached != null && cached.isUsableAt(now)) {
+            if (cached.shouldRefreshAt(now, refreshAhead)) {
+                refreshAsync(userId);
+            }
+            return cached.accessToken();
+        }
+        return await(refreshAsync(userId)).accessToken();
+    }
+
+    /**
+     * 캐시와 무관하게 토큰을 새로 발급받는다. 진행 중인 갱신이 있으면 그 결과를 공유한다.
+     */
+    public String forceRefresh(Long userId) {
+        tokens.remove(userId);
+        return await(refreshAsync(userId)).accessToken();
+    }
+
+    /**
+     * 로그인 콜백 등에서 이미 발급받은 토큰을 캐시에 넣는다.
+     */
+    public void store(Long userId, String accessToken, long expiresInSeconds) {
+        if (accessToken == null || accessToken.isBlank()) {
+            return;
+        }
+        tokens.put(userId, CachedToken.of(accessToken, Duration.ofSeconds(expiresInSeconds)));
+    }
+
+    private CompletableFuture<CachedToken> refreshAsync(Long userId) {
+        CompletableFuture<CachedToken> created = new CompletableFuture<>();
+        CompletableFuture<CachedToken> existing = inFlight.putIfAbsent(userId, created);
+        if (existing != null) {
+            return existing;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<CachedToken> refreshed;
+        try {
+            refreshed = CompletableFuture.supplyAsync(() -> findUser(userId), tokenRefreshExecutor)
+                    .thenCompose(user -> refreshFromSource(userId, user));
+        } catch (RuntimeException ex) {
+            refreshed = CompletableFuture.failedFuture(ex);
+        }
+        refreshed.whenComplete((token, ex) -> {
+            sample.stop(Timer.builder("google.oauth.token.refresh")
+                    .description("access token 갱신(사용자 조회 + 토큰 엔드포인트 호출) 소요 시간")
+                    .tag("outcome", ex == null ? "success" : "error")
+                    .register(meterRegistry));
+            if (ex == null) {
+                created.complete(token);
+            } else {
+                created.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+            }
+            inFlight.remove(userId, created);
+        });
+        return created;
+    }
+
+    private Users findUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+    }
+
+    /**
+     * 토큰 엔드포인트 응답은 스레드를 잡지 않고 기다리고, 응답이 오면 DB 기록만 갱신 실행기로 넘긴다.
+     */
+    private CompletableFuture<CachedToken> refreshFromSource(Long userId, Users user) {
+        String refreshToken = user.getRefreshToken();
+        if (refreshToken == null || refreshToken.isBlank()) {
+            String accessToken = user.getAccessToken();
+            if (accessToken == null || accessToken.isBlank()) {
+                throw new IllegalStateException("액세스 토큰이 없습니다. 다시 로그인해주세요.");
+            }
+            CachedToken token = CachedToken.of(accessToken, UNREFRESHABLE_TTL);
+            tokens.put(userId, token);
+            return CompletableFuture.completedFuture(token);
+        }
+
+        return oAuthService.refreshTokenAsync(refreshToken).toFuture().thenApplyAsync(refreshed -> {
+            CachedToken token = CachedToken.of(refreshed.accessToken(), Duration.ofSeconds(refreshed.expiresInSeconds()));
+            tokens.put(userId, token);
+
+            user.setAccessToken(refreshed.accessToken());
+            userRepository.save(user);
+            log.info("[Token] refreshed - userId={}, expiresIn={}s", userId, refreshed.expiresInSeconds());
+            return token;
+        }, tokenRefreshExecutor);
+    }
+
+    private CachedToken await(CompletableFuture<CachedToken> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("토큰 갱신 중 오류가 발생했습니다.", ex.getCause());
+        }
+    }
+
+    private record CachedToken(String accessToken, Instant expiresAt) {
+
+        static CachedToken of(String accessToken, Duration expiresIn) {
+            return new CachedToken(accessToken, Instant.now().plus(expiresIn));
+        }
+
+        boolean isUsableAt(Instant now) {
+            return now.isBefore(expiresAt.minus(EXPIRY_MARGIN));
+        }
+
+        boolean shouldRefreshAt(Instant now, Duration refreshAhead) {
+            return !now.isBefore(expiresAt.minus(refreshAhead));
+        }
+    }
+}
@@ -2,11 +2,11 @@ package backend.aihkt.infra.google;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
@@ -14,7 +14,7 @@ import java.util.Map;
 @Service
 @RequiredArgsConstructor
 public class OAuthService {
-    private final WebClient webClient;
+    private final GoogleApiClient googleApiClient;
 
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
     private String clientId;
@@ -22,6 +22,9 @@ public class OAuthService {
     @Value("${spring.security.oauth2.client.registration.google.client-secret}")
     private String clientSecret;
 
+    private static final long DEFAULT_EXPIRES_IN_SECONDS = 3599;
+    private static final String TOKEN_URI = "https://oauth2.googleapis.com/token";
+
     private static final List<String> SCOPES = List.of(
             "openid",
             "profile",
@@ -45,45 +48,60 @@ public class OAuthService {
     }
 
     public Map<String, String> exchangeCodeForTokens(String code, String redirectUri) {
-        Map response = webClient.post()
-                .uri("https://oauth2.googleapis.com/token")
-                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                .body(BodyInserters.fromFormData("client_id", clientId)
-                        .with("client_secret", clientSecret)
-                        .with("code", code)
-                        .with("grant_type", "authorization_code")
-                        .with("redirect_uri", redirectUri))
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
-
-        return Map.of(
-                "accessToken", (String) response.get("access_token"),
-                "refreshToken", (String) response.get("refresh_token")
-        );
+        return exchangeCodeForTokensAsync(code, redirectUri).block();
+    }
+
+    public Mono<Map<String, String>> exchangeCodeForTokensAsync(String code, String redirectUri) {
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("client_id", clientId);
+        form.add("client_secret", clientSecret);
+        form.add("code", code);
+        form.add("grant_type", "authorization_code");
+        form.add("redirect_uri", redirectUri);
+
+        // authorization code 는 한 번만 쓸 수 있으므로 서버가 처리하지 않은 실패(연결 실패, 429)만 재시도한다.
+        return googleApiClient.postForm(TOKEN_URI, form, false)
+                .map(response -> Map.of(
+                        "accessToken", (String) response.get("access_token"),
+                        "refreshToken", (String) response.get("refresh_token"),
+                        "expiresIn", String.valueOf(response.getOrDefault("expires_in", DEFAULT_EXPIRES_IN_SECONDS))
+                ));
     }
 
     public String refreshAccessToken(String refreshToken) {
-        Map response = webClient.post()
-                .uri("https://oauth2.googleapis.com/token")
-                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                .body(BodyInserters.fromFormData("client_id", clientId)
-                        .with("client_secret", clientSecret)
-                        .with("refresh_token", refreshToken)
-                        .with("grant_type", "refresh_token"))
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
-
-        return (String) response.get("access_token");
+        return refreshToken(refreshToken).accessToken();
+    }
+
+    /**
+     * refresh token 으로 새 access token 과 만료까지 남은 시간(expires_in)을 받아온다.
+     */
+    public GoogleToken refreshToken(String refreshToken) {
+        return refreshTokenAsync(refreshToken).block();
+    }
+
+    public Mono<GoogleToken> refreshTokenAsync(String refreshToken) {
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("client_id", clientId);
+        form.add("client_secret", clientSecret);
+        form.add("refresh_token", refreshToken);
+        form.add("grant_type", "refresh_token");
+
+        // 같은 refresh token 으로 다시 요청해도 새 access token 을 받을 뿐이므로 멱등하게 취급한다.
+        return googleApiClient.postForm(TOKEN_URI, form, true)
+                .map(response -> {
+                    Object expiresIn = response.get("expires_in");
+                    return new GoogleToken(
+                            (String) response.get("access_token"),
+                            expiresIn instanceof Number n ? n.longValue() : DEFAULT_EXPIRES_IN_SECONDS
+                    );
+                });
+    }
+
+    public Map<String, Object> getUserInfo(String accessToken) {
+        return getUserInfoAsync(accessToken).block();
     }
 
-    public Map getUserInfo(String accessToken) {
-        return webClient.get()
-                .uri("https://www.googleapis.com/oauth2/v2/userinfo")
-                .header("Authorization", "Bearer " + accessToken)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
+    public Mono<Map<String, Object>> getUserInfoAsync(String accessToken) {
+        return googleApiClient.getJson("https://www.googleapis.com/oauth2/v2/userinfo", accessToken);
     }
 }
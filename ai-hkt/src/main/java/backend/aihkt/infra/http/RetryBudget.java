@@ -0,0 +1,45 @@
+package backend.aihkt.infra.http;
+
+/**
+ * 호스트 하나의 재시도 예산. 윈도 안에서 재시도는 (최소 횟수 + 요청 수 × 비율) 까지만 허용한다.
+ * 상대 서버가 장애일 때 재시도가 부하를 몇 배로 키우는 것을 막는다.
+ */
+final class RetryBudget {
+
+    private final double ratio;
+    private final int minRetries;
+    private final long windowNanos;
+
+    private long windowStart = System.nanoTime();
+    private long requests;
+    private long retries;
+
+    RetryBudget(RetryPolicy policy) {
+        this.ratio = policy.budgetRatio();
+        this.minRetries = policy.budgetMinRetries();
+        this.windowNanos = policy.budgetWindow().toNanos();
+    }
+
+    synchronized void recordRequest() {
+        roll();
+        requests++;
+    }
+
+    synchronized boolean tryAcquireRetry() {
+        roll();
+        if (retries >= minRetries + (long) (requests * ratio)) {
+            return false;
+        }
+        retries++;
+        return true;
+    }
+
+    private void roll() {
+        long now = System.nanoTime();
+        if (now - windowStart >= windowNanos) {
+            windowStart = now;
+            requests = 0;
+            retries = 0;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package backend.aihkt.infra.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.handler.timeout.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 호출을 지수 백오프(full jitter)로 재시도한다. 호출은 WebClient 의 {@link Mono} 로 받고, 백오프는
+ * 타이머로 기다리므로 재시도 중에도 스레드를 잡지 않는다.
+ * <p>
+ * <ul>
+ *     <li>408/429/5xx 와 전송 오류만 재시도하며, 응답에 Retry-After 가 있으면 그 시간 이상 기다린다.</li>
+ *     <li>멱등하지 않은 요청(POST 등)은 서버가 처리하지 않았다고 확신할 수 있는 경우(연결 실패, 429)에만 재시도한다.</li>
+ *     <li>호스트별 재시도 예산({@link RetryBudget})을 넘으면 바로 포기한다.</li>
+ * </ul>
+ * 재시도 횟수는 {@code http.client.retries}, 포기한 횟수는 {@code http.client.retries.exhausted} 로 남긴다.
+ */
+@Slf4j
+public class RetryExecutor {
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(408, 429, 500, 502, 503, 504);
+
+    private final RetryPolicy policy;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, RetryBudget> budgets = new ConcurrentHashMap<>();
+
+    public RetryExecutor(RetryPolicy policy, MeterRegistry meterRegistry) {
+        this.policy = policy;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * WebClient 호출을 재시도한다. 실패 응답은 {@link WebClientResponseException}, 전송 오류는
+     * {@link WebClientRequestException} 으로 온다고 보고, 재시도를 다 쓰면 마지막 예외를 그대로 낸다.
+     * 백오프 동안 스레드를 잡지 않으며 action 은 시도마다 새로 구독한다.
+     */
+    public <T> Mono<T> execute(String host, boolean idempotent, Supplier<Mono<T>> action) {
+        recordRequest(host);
+        return attempt(host, idempotent, action, (value, attempt) -> null, 1);
+    }
+
+    /**
+     * 상태 코드를 예외 대신 응답으로 받는 호출(exchangeToMono)을 재시도한다. 재시도를 다 써도 실패하면 마지막 응답을
+     * 그대로 돌려준다. 상태 코드 해석은 호출하는 쪽 몫이다.
+     */
+    public <T> Mono<ResponseEntity<T>> exchange(String host, boolean idempotent, Supplier<Mono<ResponseEntity<T>>> action) {
+        recordRequest(host);
+        return attempt(host, idempotent, action, (response, attempt) -> delayAfterStatus(host, attempt,
+                response.getStatusCode().value(), idempotent,
+                Optional.ofNullable(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER))), 1);
+    }
+
+    /**
+     * 직접 재시도 루프를 도는 호출부(청크 업로드 등)용. 재시도할 수 있으면 백오프만큼 기다린 뒤 true 를,
+     * 시도 횟수나 예산을 다 썼으면 false 를 돌려준다. attempt 는 방금 실패한 시도가 몇 번째였는지다.
+     */
+    public boolean awaitRetry(String host, int attempt, String reason, Optional<String> retryAfter) throws InterruptedException {
+        Duration delay = nextDelay(host, attempt, reason, parseRetryAfter(retryAfter));
+        if (delay == null) {
+            return false;
+        }
+        Thread.sleep(delay.toMillis());
+        return true;
+    }
+
+    /**
+     * 재시도 예산 계산에 쓰도록 첫 시도를 기록한다. {@link #awaitRetry} 를 쓰는 호출부가 요청마다 부른다.
+     */
+    public void recordRequest(String host) {
+        budget(host).recordRequest();
+    }
+
+    public static boolean isRetryableStatus(int status) {
+        return RETRYABLE_STATUSES.contains(status);
+    }
+
+    private <T> Mono<T> attempt(String host,
+                                boolean idempotent,
+                                Supplier<Mono<T>> action,
+                                BiFunction<T, Integer, Duration> delayAfterValue,
+                                int attempt) {
+        return Mono.defer(action)
+                .map(Outcome::success)
+                .onErrorResume(error -> Mono.just(Outcome.failure(error)))
+                .flatMap(outcome -> {
+                    Duration delay = outcome.error() == null
+                            ? delayAfterValue.apply(outcome.value(), attempt)
+                            : delayAfterFailure(host, attempt, outcome.error(), idempotent);
+                    if (delay == null) {
+                        return outcome.error() == null ? Mono.just(outcome.value()) : Mono.error(outcome.error());
+                    }
+                    return Mono.delay(delay).then(attempt(host, idempotent, action, delayAfterValue, attempt + 1));
+                });
+    }
+
+    private Duration delayAfterFailure(String host, int attempt, Throwable error, boolean idempotent) {
+        if (error instanceof WebClientResponseException e) {
+            return delayAfterStatus(host, attempt, e.getStatusCode().value(), idempotent,
+                    Optional.ofNullable(e.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)));
+        }
+        if (error instanceof WebClientRequestException e) {
+            return delayAfterError(host, attempt, e.getCause() == null ? e : e.getCause(), idempotent);
+        }
+        return null;
+    }
+
+    private Duration delayAfterStatus(String host, int attempt, int status, boolean idempotent, Optional<String> retryAfter) {
+        if (!isRetryableStatus(status) || (!idempotent && status != 429)) {
+            return null;
+        }
+        return nextDelay(host, attempt, "status_" + status, parseRetryAfter(retryAfter));
+    }
+
+    private Duration delayAfterError(String host, int attempt, Throwable error, boolean idempotent) {
+        // 연결 실패(연결 타임아웃 포함)는 ConnectException 이고, 응답 대기 타임아웃은 Netty 의 TimeoutException 으로 온다.
+        boolean notSent = error instanceof ConnectException;
+        boolean transport = error instanceof IOException || error instanceof TimeoutException;
+        if (!transport || (!idempotent && !notSent)) {
+            return null;
+        }
+        return nextDelay(host, attempt, error.getClass().getSimpleName(), null);
+    }
+
+    private Duration nextDelay(String host, int attempt, String reason, Duration retryAfter) {
+        String exhausted = null;
+        if (attempt >= policy.maxAttempts()) {
+            exhausted = "attempts";
+        } else if (retryAfter != null && retryAfter.compareTo(policy.maxRetryAfter()) > 0) {
+            exhausted = "retry_after";
+        } else if (!budget(host).tryAcquireRetry()) {
+            exhausted = "budget";
+        }
+        if (exhausted != null) {
+            Counter.builder("http.client.retries.exhausted")
+                    .description("재시도를 포기한 횟수")
+                    .tag("host", host)
+                    .tag("cause", exhausted)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("[Retry] giving up - host={}, attempt={}, reason={}, cause={}", host, attempt, reason, exhausted);
+            return null;
+        }
+
+        long cap = Math.min(policy.maxDelay().toMillis(), policy.baseDelay().toMillis() << Math.min(attempt - 1, 20));
+        Duration delay = Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap + 1));
+        if (retryAfter != null && retryAfter.compareTo(delay) > 0) {
+            delay = retryAfter;
+        }
+        Counter.builder("http.client.retries")
+                .description("외부 API 재시도 횟수")
+                .tag("host", host)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        log.info("[Retry] retrying - host={}, attempt={}, reason={}, delayMs={}", host, attempt, reason, delay.toMillis());
+        return delay;
+    }
+
+    private RetryBudget budget(String host) {
+        return budgets.computeIfAbsent(host, key -> new RetryBudget(policy));
+    }
+
+    /**
+     * Retry-After 는 초 단위 숫자나 HTTP-date 로 온다.
+     */
+    static Duration parseRetryAfter(Optional<String> header) {
+        if (header == null || header.isEmpty() || header.get().isBlank()) {
+            return null;
+        }
+        String value = header.get().trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식
+        }
+        try {
+            Instant at = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            Duration until = Duration.between(Instant.now(), at);
+            return until.isNegative() ? Duration.ZERO : until;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private record Outcome<T>(T value, Throwable error) {
+
+        static <T> Outcome<T> success(T value) {
+            return new Outcome<>(value, null);
+        }
+
+        static <T> Outcome<T> failure(Throwable error) {
+            return new Outcome<>(null, error);
+        }
+    }
+}
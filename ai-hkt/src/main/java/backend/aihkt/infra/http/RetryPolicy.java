@@ -0,0 +1,30 @@
+package backend.aihkt.infra.http;
+
+import java.time.Duration;
+
+/**
+ * 외부 API 호출 재시도 정책.
+ *
+ * @param maxAttempts      첫 시도를 포함한 최대 시도 횟수
+ * @param baseDelay        지수 백오프의 시작 대기 시간
+ * @param maxDelay         백오프 대기 시간 상한
+ * @param maxRetryAfter    이보다 긴 Retry-After 는 기다리지 않고 포기한다
+ * @param budgetRatio      호스트별로 윈도 안의 요청 수 대비 허용하는 재시도 비율
+ * @param budgetMinRetries 요청이 적을 때도 윈도마다 허용하는 최소 재시도 횟수
+ * @param budgetWindow     재시도 예산을 다시 채우는 주기
+ */
+public record RetryPolicy(
+        int maxAttempts,
+        Duration baseDelay,
+        Duration maxDelay,
+        Duration maxRetryAfter,
+        double budgetRatio,
+        int budgetMinRetries,
+        Duration budgetWindow
+) {
+
+    public static RetryPolicy defaults() {
+        return new RetryPolicy(4, Duration.ofMillis(200), Duration.ofSeconds(10), Duration.ofSeconds(30),
+                0.2, 10, Duration.ofSeconds(10));
+    }
+}
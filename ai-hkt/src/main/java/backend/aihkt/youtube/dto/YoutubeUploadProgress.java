@@ -0,0 +1,13 @@
+package backend.aihkt.youtube.dto;
+
+/**
+ * 영상 생성 작업에서 시작한 업로드의 진행 상황. 세션을 연 직후와 청크가 커밋될 때마다 발행된다.
+ *
+ * @param totalBytes 전체 크기. 길이를 모르는 스트림이면 -1
+ */
+public record YoutubeUploadProgress(
+        Long videoJobId,
+        long committedBytes,
+        long totalBytes
+) {
+}
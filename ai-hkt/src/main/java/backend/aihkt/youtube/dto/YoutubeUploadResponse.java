@@ -7,6 +7,9 @@ public record YoutubeUploadResponse(
         String videoId,
         String youtubeUrl,
         String resumableUploadUrl,
-        int statusCode
+        int statusCode,
+        long uploadedBytes,
+        int chunkCount,
+        long uploadMillis
 ) {
 }
@@ -0,0 +1,65 @@
+package backend.aihkt.youtube.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 영상별 일별 지표. 수집할 때마다 최근 구간을 덮어쓰므로 지난 날짜는 계속 남아 기간 조회에 쓰인다.
+ */
+@Entity
+@Table(name = "video_daily_metric", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_video_daily_metric_video_date", columnNames = {"video_id", "metric_date"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class VideoDailyMetric {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "video_id", nullable = false, length = 64)
+    private String videoId;
+
+    @Column(name = "metric_date", nullable = false)
+    private LocalDate metricDate;
+
+    @Column(name = "views", nullable = false)
+    private long views;
+
+    @Column(name = "estimated_minutes_watched", nullable = false)
+    private long estimatedMinutesWatched;
+
+    @Column(name = "average_view_duration_seconds", nullable = false)
+    private double averageViewDurationSeconds;
+
+    @Column(name = "average_view_percentage", nullable = false)
+    private double averageViewPercentage;
+
+    public static VideoDailyMetric create(String videoId, LocalDate metricDate) {
+        VideoDailyMetric metric = new VideoDailyMetric();
+        metric.videoId = videoId;
+        metric.metricDate = metricDate;
+        return metric;
+    }
+
+    public void update(long views,
+                       long estimatedMinutesWatched,
+                       double averageViewDurationSeconds,
+                       double averageViewPercentage) {
+        this.views = views;
+        this.estimatedMinutesWatched = estimatedMinutesWatched;
+        this.averageViewDurationSeconds = averageViewDurationSeconds;
+        this.averageViewPercentage = averageViewPercentage;
+    }
+}
@@ -0,0 +1,88 @@
+package backend.aihkt.youtube.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 수집 작업이 마지막으로 적재한 영상별 통계 스냅샷. 일별 지표는 {@link VideoDailyMetric} 에 따로 쌓는다.
+ */
+@Entity
+@Table(name = "video_stat_snapshot", indexes = {
+        @Index(name = "idx_video_stat_snapshot_user", columnList = "user_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class VideoStatSnapshot {
+
+    @Id
+    @Column(name = "video_id", nullable = false, length = 64)
+    private String videoId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId; // 채널 소유자
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @Column(name = "like_count", nullable = false)
+    private long likeCount;
+
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount;
+
+    @Column(name = "favorite_count", nullable = false)
+    private long favoriteCount;
+
+    @Column(name = "duration_seconds", nullable = false)
+    private long durationSeconds;
+
+    @Column(name = "window_start", nullable = false)
+    private LocalDate windowStart; // 요약/분포 지표의 집계 구간
+
+    @Column(name = "window_end", nullable = false)
+    private LocalDate windowEnd;
+
+    @Lob
+    @Column(name = "breakdowns", nullable = false, length = 16 * 1024 * 1024 - 1) // MySQL mediumtext
+    private String breakdowns; // 요약, 국가, 유입경로, 기기, OS, 연령/성별 지표(JSON)
+
+    @Column(name = "fetched_at", nullable = false)
+    private Instant fetchedAt;
+
+    public static VideoStatSnapshot create(String videoId, Long userId) {
+        VideoStatSnapshot snapshot = new VideoStatSnapshot();
+        snapshot.videoId = videoId;
+        snapshot.userId = userId;
+        return snapshot;
+    }
+
+    public void update(long viewCount,
+                       long likeCount,
+                       long commentCount,
+                       long favoriteCount,
+                       long durationSeconds,
+                       LocalDate windowStart,
+                       LocalDate windowEnd,
+                       String breakdowns,
+                       Instant fetchedAt) {
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+        this.favoriteCount = favoriteCount;
+        this.durationSeconds = durationSeconds;
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.breakdowns = breakdowns;
+        this.fetchedAt = fetchedAt;
+    }
+}
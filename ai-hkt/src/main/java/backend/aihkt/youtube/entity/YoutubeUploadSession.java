@@ -5,6 +5,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -13,7 +14,9 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "youtube_upload_session")
+@Table(name = "youtube_upload_session", indexes = {
+        @Index(name = "idx_youtube_upload_session_video_job", columnList = "video_job_id")
+})
 public class YoutubeUploadSession {
 
     @Id
@@ -35,6 +38,15 @@ public class YoutubeUploadSession {
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
+    @Column(name = "committed_offset", nullable = false)
+    private long committedOffset; // 유튜브가 마지막으로 확인해 준 커밋 위치
+
+    @Column(name = "local_path", length = 1000)
+    private String localPath; // 이어 올릴 원본 파일. 스트림 업로드는 null
+
+    @Column(name = "video_job_id")
+    private Long videoJobId; // 영상 생성 작업에서 시작한 업로드면 그 작업 ID
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private Users user;
@@ -49,6 +61,8 @@ public class YoutubeUploadSession {
                                  long contentLength,
                                  String contentType,
                                  Users user,
+                                 String localPath,
+                                 Long videoJobId,
                                  Instant createdAt) {
         this.sessionId = sessionId;
         this.uploadUrl = uploadUrl;
@@ -56,6 +70,8 @@ public class YoutubeUploadSession {
         this.contentLength = contentLength;
         this.contentType = contentType;
         this.user = user;
+        this.localPath = localPath;
+        this.videoJobId = videoJobId;
         this.createdAt = createdAt;
     }
 
@@ -64,6 +80,16 @@ public class YoutubeUploadSession {
                                               long contentLength,
                                               String contentType,
                                               Users user) {
+        return create(uploadUrl, fileName, contentLength, contentType, user, null, null);
+    }
+
+    public static YoutubeUploadSession create(String uploadUrl,
+                                              String fileName,
+                                              long contentLength,
+                                              String contentType,
+                                              Users user,
+                                              String localPath,
+                                              Long videoJobId) {
         return new YoutubeUploadSession(
                 UUID.randomUUID().toString(),
                 uploadUrl,
@@ -71,6 +97,8 @@ public class YoutubeUploadSession {
                 contentLength,
                 contentType,
                 user,
+                localPath,
+                videoJobId,
                 Instant.now()
         );
     }
@@ -102,4 +130,23 @@ public class YoutubeUploadSession {
     public Users getUser() {
         return user;
     }
+
+    public long getCommittedOffset() {
+        return committedOffset;
+    }
+
+    public String getLocalPath() {
+        return localPath;
+    }
+
+    public Long getVideoJobId() {
+        return videoJobId;
+    }
+
+    /**
+     * 로컬 원본이 남아 있어 프로세스가 죽은 뒤에도 이어 올릴 수 있는 세션인지.
+     */
+    public boolean isResumable() {
+        return localPath != null && contentLength >= 0;
+    }
 }
@@ -0,0 +1,62 @@
+package backend.aihkt.youtube.repository;
+
+import backend.aihkt.youtube.entity.VideoDailyMetric;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface VideoDailyMetricRepository extends JpaRepository<VideoDailyMetric, Long> {
+
+    List<VideoDailyMetric> findByVideoIdAndMetricDateBetweenOrderByMetricDate(String videoId, LocalDate start, LocalDate end);
+
+    /**
+     * 영상별로 기간 안에 적재된 일별 행 수. (영상, 날짜)가 유니크하므로 기간의 날짜 수와 같으면 빠진 날이 없다.
+     */
+    @Query("""
+            select d.videoId as videoId, count(d) as days
+            from VideoDailyMetric d
+            where d.videoId in :videoIds and d.metricDate between :start and :end
+            group by d.videoId
+            """)
+    List<Coverage> findCoverage(@Param("videoIds") Collection<String> videoIds,
+                                @Param("start") LocalDate start,
+                                @Param("end") LocalDate end);
+
+    /**
+     * 기간 합계. 평균 시청 시간은 일별 조회수로 가중 평균한다.
+     */
+    @Query("""
+            select d.videoId as videoId,
+                   sum(d.views) as views,
+                   sum(d.estimatedMinutesWatched) as estimatedMinutesWatched,
+                   sum(d.averageViewDurationSeconds * d.views) as weightedViewDurationSeconds
+            from VideoDailyMetric d
+            where d.videoId in :videoIds and d.metricDate between :start and :end
+            group by d.videoId
+            """)
+    List<Totals> sumByVideo(@Param("videoIds") Collection<String> videoIds,
+                            @Param("start") LocalDate start,
+                            @Param("end") LocalDate end);
+
+    interface Coverage {
+        String getVideoId();
+
+        long getDays();
+    }
+
+    interface Totals {
+        String getVideoId();
+
+        Long getViews();
+
+        Long getEstimatedMinutesWatched();
+
+        Double getWeightedViewDurationSeconds();
+    }
+}
@@ -0,0 +1,9 @@
+package backend.aihkt.youtube.repository;
+
+import backend.aihkt.youtube.entity.VideoStatSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface VideoStatSnapshotRepository extends JpaRepository<VideoStatSnapshot, String> {
+}
@@ -2,8 +2,34 @@ package backend.aihkt.youtube.repository;
 
 import backend.aihkt.youtube.entity.YoutubeUploadSession;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Repository
 public interface YoutubeUploadSessionRepository extends JpaRepository<YoutubeUploadSession, String> {
+
+    @Query("""
+            select s from YoutubeUploadSession s join fetch s.user
+            where s.videoJobId = :videoJobId
+            order by s.createdAt desc
+            """)
+    List<YoutubeUploadSession> findByVideoJobId(@Param("videoJobId") Long videoJobId);
+
+    @Query("select s from YoutubeUploadSession s join fetch s.user where s.videoJobId is not null")
+    List<YoutubeUploadSession> findAllForVideoJobs();
+
+    @Transactional
+    @Modifying
+    @Query("update YoutubeUploadSession s set s.committedOffset = :offset where s.sessionId = :sessionId")
+    int updateCommittedOffset(@Param("sessionId") String sessionId, @Param("offset") long offset);
+
+    @Transactional
+    @Modifying
+    @Query("delete from YoutubeUploadSession s where s.videoJobId = :videoJobId")
+    int deleteByVideoJobId(@Param("videoJobId") Long videoJobId);
 }
@@ -0,0 +1,194 @@
+package backend.aihkt.youtube.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Analytics API 리포트 응답({@code columnHeaders} + {@code rows})을 트리 없이 스트림에서 바로 레코드로 읽는다.
+ * <p>
+ * columnHeaders 로 응답 컬럼 위치를 요청 컬럼 위치에 한 번만 대응시키고, 행마다 재사용하는 {@link Row} 에 셀을 채운 뒤
+ * mapper 로 넘긴다. 숫자 셀은 문자열이나 박싱 없이 읽으므로 행당 할당은 결과 레코드와 차원 문자열뿐이다.
+ * columnHeaders 가 rows 보다 뒤에 오거나 없으면 응답 컬럼이 요청한 순서대로 온다고 본다.
+ */
+final class AnalyticsReport<T> {
+
+    /** 정확히 표현되는 10의 거듭제곱. 이 범위 안에서는 가수 / 10^n 나눗셈 한 번이 Double.parseDouble 과 같은 값을 낸다. */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private final List<String> columns;
+    private final Function<Row, T> mapper;
+
+    private AnalyticsReport(List<String> columns, Function<Row, T> mapper) {
+        this.columns = columns;
+        this.mapper = mapper;
+    }
+
+    /**
+     * @param mapper  행 하나를 레코드로 만든다. Row 는 다음 행에서 재사용되므로 mapper 밖으로 넘기면 안 된다.
+     * @param columns 읽을 컬럼 이름. mapper 는 이 순서의 인덱스로 셀을 꺼낸다.
+     */
+    static <T> AnalyticsReport<T> of(Function<Row, T> mapper, String... columns) {
+        return new AnalyticsReport<>(List.of(columns), mapper);
+    }
+
+    List<T> read(JsonFactory jsonFactory, InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Analytics 응답이 JSON 객체가 아닙니다.");
+            }
+            int[] positions = null;
+            List<T> rows = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("columnHeaders".equals(field) && value == JsonToken.START_ARRAY) {
+                    positions = readHeaders(parser);
+                } else if ("rows".equals(field) && value == JsonToken.START_ARRAY) {
+                    readRows(parser, positions != null ? positions : defaultPositions(), rows);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * 응답 컬럼 위치 → 요청 컬럼 위치. 요청하지 않은 컬럼은 -1.
+     */
+    private int[] readHeaders(JsonParser parser) throws IOException {
+        List<Integer> positions = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            int position = -1;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("name".equals(field)) {
+                    position = columns.indexOf(parser.getText());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            positions.add(position);
+        }
+        return positions.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private int[] defaultPositions() {
+        int[] positions = new int[columns.size()];
+        Arrays.setAll(positions, i -> i);
+        return positions;
+    }
+
+    private void readRows(JsonParser parser, int[] positions, List<T> rows) throws IOException {
+        Row row = new Row(columns.size());
+        while (parser.nextToken() == JsonToken.START_ARRAY) {
+            row.clear();
+            int index = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                int column = index < positions.length ? positions[index] : -1;
+                if (column < 0) {
+                    parser.skipChildren();
+                } else {
+                    row.set(column, token, parser);
+                }
+                index++;
+            }
+            rows.add(mapper.apply(row));
+        }
+    }
+
+    /**
+     * 간단한 소수(지수 없음, 유효숫자 15자리 이하)는 파서 버퍼에서 바로 계산하고, 나머지만 Jackson 에 맡긴다.
+     * Jackson 2 의 getDoubleValue 는 셀마다 문자열을 만든다.
+     */
+    private static double readDouble(JsonParser parser) throws IOException {
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int end = offset + parser.getTextLength();
+        boolean negative = chars[offset] == '-';
+        long mantissa = 0;
+        int scale = -1;
+        for (int i = negative ? offset + 1 : offset; i < end; i++) {
+            char c = chars[i];
+            if (c == '.' && scale < 0) {
+                scale = 0;
+            } else if (c >= '0' && c <= '9' && mantissa < MAX_EXACT_MANTISSA / 10) {
+                mantissa = mantissa * 10 + (c - '0');
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else {
+                return parser.getDoubleValue();
+            }
+        }
+        if (scale >= POWERS_OF_TEN.length) {
+            return parser.getDoubleValue();
+        }
+        double value = mantissa / POWERS_OF_TEN[Math.max(scale, 0)];
+        return negative ? -value : value;
+    }
+
+    /**
+     * 행 하나의 셀. 없거나 형식이 맞지 않는 셀은 0 / 빈 문자열로 읽힌다. 차원은 문자열, 지표는 숫자로 오므로
+     * 문자열 셀을 숫자로 바꿔 보지 않는다(날짜 같은 차원 값마다 NumberFormatException 이 난다).
+     */
+    static final class Row {
+
+        private final String[] texts;
+        private final long[] longs;
+        private final double[] doubles;
+
+        private Row(int columns) {
+            this.texts = new String[columns];
+            this.longs = new long[columns];
+            this.doubles = new double[columns];
+        }
+
+        String text(int column) {
+            return texts[column] != null ? texts[column] : "";
+        }
+
+        long longValue(int column) {
+            return longs[column];
+        }
+
+        double doubleValue(int column) {
+            return doubles[column];
+        }
+
+        private void clear() {
+            Arrays.fill(texts, null);
+            Arrays.fill(longs, 0);
+            Arrays.fill(doubles, 0);
+        }
+
+        private void set(int column, JsonToken token, JsonParser parser) throws IOException {
+            switch (token) {
+                case VALUE_NUMBER_INT -> {
+                    longs[column] = parser.getLongValue();
+                    doubles[column] = longs[column];
+                }
+                case VALUE_NUMBER_FLOAT -> {
+                    doubles[column] = readDouble(parser);
+                    longs[column] = (long) doubles[column];
+                }
+                case VALUE_STRING -> texts[column] = parser.getText();
+                default -> parser.skipChildren();
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package backend.aihkt.youtube.service;
+
+import java.time.Duration;
+
+/**
+ * 측정한 전송 속도에 맞춰 resumable 업로드 청크 크기를 정한다.
+ * <p>
+ * 크기는 항상 256KB 배수이며, 청크 하나가 목표 시간 안에 끝나도록 [256KB, 상한] 범위에서 조정한다.
+ * 한 번에 두 배 넘게 키우지 않고, 청크가 실패하거나 일부만 커밋되면 절반으로 줄인다.
+ */
+final class ChunkSizer {
+
+    /** resumable 프로토콜이 요구하는 청크 단위(마지막 청크 제외). */
+    static final int GRANULARITY = 256 * 1024;
+
+    private final int maxChunkSize;
+    private final long targetNanos;
+    private int current = GRANULARITY;
+
+    ChunkSizer(long maxChunkSize, Duration targetChunkDuration) {
+        this.maxChunkSize = align(Math.min(maxChunkSize, Integer.MAX_VALUE - 1));
+        this.targetNanos = targetChunkDuration.toNanos();
+    }
+
+    int next() {
+        return current;
+    }
+
+    /**
+     * 온전히 커밋된 청크의 크기와 소요 시간으로 다음 청크 크기를 정한다.
+     * 요청한 크기보다 짧은 마지막 청크는 처리량 측정이 부정확하므로 반영하지 않는다.
+     */
+    void onCommitted(int bytes, long elapsedNanos) {
+        if (bytes < current) {
+            return;
+        }
+        double bytesPerNano = bytes / (double) Math.max(elapsedNanos, 1);
+        long ideal = (long) (bytesPerNano * targetNanos);
+        current = clamp(Math.min(ideal, (long) current * 2));
+    }
+
+    void onFailure() {
+        current = clamp(current / 2);
+    }
+
+    private int clamp(long size) {
+        return align(Math.min(Math.max(size, GRANULARITY), maxChunkSize));
+    }
+
+    private static int align(long size) {
+        return (int) Math.max(GRANULARITY, size - size % GRANULARITY);
+    }
+}
@@ -0,0 +1,73 @@
+package backend.aihkt.youtube.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * 통계 지표 그룹 하나의 응답 캐시.
+ * <p>
+ * ttl 이 지난 항목은 다음 조회 때 그대로 반환하면서 백그라운드로 다시 가져온다(stale-while-revalidate).
+ * maxStale 동안 다시 쓰이지 않은 항목과, 일부 쿼리가 실패해 불완전한 항목(failureTtl)은 만료된다.
+ * 다시 가져온 값이 불완전하면 기존의 완전한 값을 유지한다. 전체 크기는 항목별 추정 바이트로 제한하고,
+ * 적중/미적중은 {@code cache.gets{cache=name}} 로 남긴다.
+ */
+final class StatsGroupCache<K, V> {
+
+    private final AsyncLoadingCache<K, V> cache;
+
+    StatsGroupCache(String name,
+                    Settings settings,
+                    Duration ttl,
+                    BiFunction<K, Executor, CompletableFuture<V>> loader,
+                    Predicate<V> complete,
+                    ToIntFunction<V> weigher,
+                    MeterRegistry meterRegistry) {
+        AsyncCacheLoader<K, V> cacheLoader = new AsyncCacheLoader<>() {
+            @Override
+            public CompletableFuture<V> asyncLoad(K key, Executor executor) {
+                return loader.apply(key, executor);
+            }
+
+            @Override
+            public CompletableFuture<V> asyncReload(K key, V oldValue, Executor executor) {
+                return loader.apply(key, executor)
+                        .thenApply(fresh -> complete.test(fresh) || !complete.test(oldValue) ? fresh : oldValue);
+            }
+        };
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry,
+                Caffeine.newBuilder()
+                        .maximumWeight(settings.maximumWeightBytes())
+                        .weigher((K key, V value) -> weigher.applyAsInt(value))
+                        .expireAfter(Expiry.writing((K key, V value) ->
+                                complete.test(value) ? settings.maxStale() : settings.failureTtl()))
+                        .refreshAfterWrite(ttl)
+                        .recordStats()
+                        .buildAsync(cacheLoader),
+                name);
+    }
+
+    CompletableFuture<V> get(K key) {
+        return cache.get(key);
+    }
+
+    /**
+     * 그룹 공통 설정.
+     *
+     * @param maxStale           ttl 이 지난 뒤에도 백그라운드 갱신을 기다리며 제공할 수 있는 최대 기간
+     * @param failureTtl         일부 쿼리가 실패한 항목을 보관하는 시간
+     * @param maximumWeightBytes 캐시 하나가 차지할 수 있는 추정 바이트 수
+     */
+    record Settings(Duration maxStale, Duration failureTtl, long maximumWeightBytes) {
+    }
+}
@@ -0,0 +1,191 @@
+package backend.aihkt.youtube.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * resumable 업로드의 원본 바이트.
+ * <p>
+ * 유튜브가 청크 일부만 커밋했다고 응답하면 그 위치부터 다시 보내야 하므로, 아직 커밋되지 않은 구간은
+ * 언제든 다시 읽을 수 있어야 한다. 파일은 {@link FileChannel} 의 해당 구간을 매핑해 그대로 내보내고,
+ * 스트림은 마지막으로 읽은 청크를 버퍼에 보관한다.
+ */
+interface UploadSource extends Closeable {
+
+    /** 전체 크기. 스트림 끝에 닿기 전까지 모르면 -1. */
+    long size();
+
+    /**
+     * offset 부터 최대 maxLength 바이트를 다음 청크로 준비한다.
+     */
+    Chunk read(long offset, int maxLength) throws IOException;
+
+    /**
+     * 처음부터 다시 읽을 수 없는 원본이면 남은 바이트를 임시 파일로 옮긴 원본을 돌려준다.
+     * 이후에는 {@link #read} 로 보관 중인 구간 어디서든 이어 읽을 수 있다. 돌려준 원본(과 임시 파일)은
+     * 이 원본을 닫을 때 함께 닫히므로 호출하는 쪽은 원래 원본만 닫으면 된다.
+     */
+    default UploadSource replayable() throws IOException {
+        return this;
+    }
+
+    static UploadSource ofFile(Path path) throws IOException {
+        return new FileChannelSource(path, 0, false);
+    }
+
+    static UploadSource ofStream(InputStream input, long contentLength) {
+        return new StreamSource(input, contentLength);
+    }
+
+    /**
+     * content 는 이 청크의 바이트만 담은 view 다. 다음 {@link #read} 전까지만 유효하다.
+     */
+    record Chunk(ByteBuffer content, int length, boolean last) {
+    }
+
+    /**
+     * 파일의 [offset, offset + length) 구간을 메모리 매핑해 힙 복사 없이 전송한다.
+     * baseOffset 은 파일 첫 바이트가 업로드 전체에서 차지하는 위치다(spill 파일은 중간부터 시작한다).
+     */
+    final class FileChannelSource implements UploadSource {
+
+        private final Path path;
+        private final long baseOffset;
+        private final boolean deleteOnClose;
+        private final FileChannel channel;
+        private final long size;
+
+        FileChannelSource(Path path, long baseOffset, boolean deleteOnClose) throws IOException {
+            this.path = path;
+            this.baseOffset = baseOffset;
+            this.deleteOnClose = deleteOnClose;
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.size = baseOffset + channel.size();
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public Chunk read(long offset, int maxLength) throws IOException {
+            if (offset < baseOffset || offset > size) {
+                throw new IllegalStateException("커밋된 위치(%d)가 보관 중인 구간(%d~%d) 밖이라 이어 올릴 수 없습니다."
+                        .formatted(offset, baseOffset, size));
+            }
+            int length = (int) Math.min(maxLength, size - offset);
+            ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, offset - baseOffset, length);
+            return new Chunk(region, length, offset + length == size);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                channel.close();
+            } finally {
+                if (deleteOnClose) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    /**
+     * 스트림을 청크 크기만큼 읽어 하나의 버퍼를 재사용하며 보낸다. 버퍼는 청크 크기가 커질 때만 늘린다.
+     * 길이를 모르면 1바이트를 더 읽어 이번 청크가 마지막인지 판단한다.
+     */
+    final class StreamSource implements UploadSource {
+
+        private final InputStream input;
+        private long size;
+        private byte[] buffer = new byte[0];
+        /** buffer[0] 이 업로드 전체에서 차지하는 위치. */
+        private long bufferStart;
+        private int buffered;
+        private boolean eof;
+        /** replayable() 이 만든 spill 파일 원본. close() 때 함께 닫고 지운다. */
+        private FileChannelSource spilled;
+
+        StreamSource(InputStream input, long contentLength) {
+            this.input = input;
+            this.size = contentLength;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public Chunk read(long offset, int maxLength) throws IOException {
+            if (offset < bufferStart || offset > bufferStart + buffered) {
+                throw new IllegalStateException("커밋된 위치(%d)가 보관 중인 구간(%d~%d) 밖이라 이어 올릴 수 없습니다."
+                        .formatted(offset, bufferStart, bufferStart + buffered));
+            }
+            int consumed = (int) (offset - bufferStart);
+            System.arraycopy(buffer, consumed, buffer, 0, buffered - consumed);
+            buffered -= consumed;
+            bufferStart = offset;
+
+            int wanted = size >= 0 ? (int) Math.min(maxLength, size - offset) : maxLength + 1;
+            if (buffer.length < wanted) {
+                buffer = Arrays.copyOf(buffer, wanted);
+            }
+            if (!eof && buffered < wanted) {
+                int read = input.readNBytes(buffer, buffered, wanted - buffered);
+                buffered += read;
+                eof = buffered < wanted;
+            }
+
+            int length = Math.min(buffered, maxLength);
+            if (size < 0 && buffered <= maxLength) {
+                size = offset + buffered;
+            }
+            if (length == 0 || (size >= 0 && eof && offset + buffered < size)) {
+                throw new IllegalStateException("업로드 스트림이 %d 바이트에서 끝났습니다.".formatted(offset + buffered));
+            }
+            boolean last = size >= 0 && offset + length == size;
+            return new Chunk(ByteBuffer.wrap(buffer, 0, length), length, last);
+        }
+
+        @Override
+        public UploadSource replayable() throws IOException {
+            if (spilled != null) {
+                return spilled;
+            }
+            Path spill = Files.createTempFile("upload_spill_", ".part");
+            try (OutputStream out = Files.newOutputStream(spill)) {
+                out.write(buffer, 0, buffered);
+                if (!eof) {
+                    input.transferTo(out);
+                }
+                input.close();
+                spilled = new FileChannelSource(spill, bufferStart, true);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(spill);
+                throw e;
+            }
+            return spilled;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                input.close();
+            } finally {
+                if (spilled != null) {
+                    spilled.close();
+                }
+            }
+        }
+    }
+}
@@ -2,7 +2,10 @@ package backend.aihkt.youtube.service;
 
 import backend.aihkt.domain.user.entity.Users;
 import backend.aihkt.domain.user.repository.UserRepository;
-import backend.aihkt.infra.google.OAuthService;
+import backend.aihkt.infra.google.GoogleApiClient;
+import backend.aihkt.infra.google.GoogleTokenManager;
+import backend.aihkt.infra.http.RetryExecutor;
+import backend.aihkt.youtube.dto.YoutubeUploadProgress;
 import backend.aihkt.youtube.dto.YoutubeUploadRequest;
 import backend.aihkt.youtube.dto.YoutubeUploadResponse;
 import backend.aihkt.youtube.entity.YoutubeUploadSession;
@@ -11,40 +14,88 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class YoutubeService {
 
     private static final String RESUMABLE_ENDPOINT =
-            "https://www.googleapis.com/upload/youtube/v3/videos?uploadType=resumable&part=snippet,status,contentDetails";
-    private static final String VIDEOS_ENDPOINT = "https://www.googleapis.com/youtube/v3/videos";
-    private static final int CHUNK_SIZE = 256 * 1024; // 256KB 단위
+            "/upload/youtube/v3/videos?uploadType=resumable&part=snippet,status,contentDetails";
+    private static final String VIDEOS_ENDPOINT = "/youtube/v3/videos";
+    private static final String JSON_UTF8 = "application/json; charset=UTF-8";
+    private static final Duration STATUS_QUERY_TIMEOUT = Duration.ofSeconds(30);
 
     private final YoutubeUploadSessionRepository sessionRepository;
     private final UserRepository userRepository;
-    private final OAuthService oAuthService;
+    private final GoogleTokenManager tokenManager;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final RetryExecutor retryExecutor;
+    private final GoogleApiClient googleApiClient;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private final HttpClient httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(30))
-            .build();
+    @Value("${youtube.api.data-base-url:https://www.googleapis.com}")
+    private String apiBaseUrl;
+
+    @Value("${youtube.upload.max-chunk-size:8MB}")
+    private DataSize maxChunkSize;
+
+    @Value("${youtube.upload.target-chunk-duration:2s}")
+    private Duration targetChunkDuration;
+
+    @Value("${youtube.upload.checkpoint-interval:10s}")
+    private Duration checkpointInterval;
+
+    @Value("${youtube.upload.response-timeout:1m}")
+    private Duration responseTimeout;
+
+    @Value("${youtube.upload.request-deadline:5m}")
+    private Duration requestDeadline;
 
     public YoutubeUploadResponse upload(Long userId,
                                         YoutubeUploadRequest request,
                                         MultipartFile file) {
+        return upload(userId, request, file, null);
+    }
+
+    /**
+     * videoJobId 를 넘기면 세션에 작업과 로컬 파일 경로를 남겨, 업로드 도중 프로세스가 죽어도
+     * {@link #resumeUpload(Long)} 로 커밋된 위치부터 이어 올릴 수 있다.
+     */
+    public YoutubeUploadResponse upload(Long userId,
+                                        YoutubeUploadRequest request,
+                                        MultipartFile file,
+                                        Long videoJobId) {
         try {
             if (file.isEmpty()) {
                 throw new IllegalArgumentException("업로드 파일이 비어 있습니다.");
@@ -53,27 +104,80 @@ public class YoutubeService {
             Users user = userRepository.findById(userId)
                     .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
-            String accessToken = refreshAccessToken(user);
+            String accessToken = tokenManager.getAccessToken(user.getId());
 
-            InitiateResult initiation = initiateSession(accessToken, request, file);
+            InitiateResult initiation = initiateSession(accessToken, request, resolveContentType(file.getContentType()), file.getSize());
 
+            Resource resource = file.getResource();
+            String localPath = resource.isFile() ? resource.getFile().getAbsolutePath() : null;
             YoutubeUploadSession session = sessionRepository.save(
                     YoutubeUploadSession.create(
                             initiation.uploadUrl(),
                             file.getOriginalFilename(),
                             file.getSize(),
                             initiation.contentType(),
-                            user
+                            user,
+                            localPath,
+                            videoJobId
+                    )
+            );
+
+            UploadResult uploadResult;
+            try (UploadSource source = openSource(file)) {
+                uploadResult = uploadChunks(accessToken, session, source, 0);
+            }
+
+            sessionRepository.deleteById(session.getSessionId());
+
+            return toUploadResponse(session, uploadResult);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("업로드 도중 인터럽트가 발생했습니다.", e);
+        } catch (IOException e) {
+            throw new IllegalStateException("유튜브 업로드 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 아직 다 받지 못한 스트림을 읽는 대로 resumable 세션에 청크 단위로 올린다.
+     * contentLength 를 모르면(-1) 마지막 청크에서 전체 크기를 알린다. 스트림은 디스크를 거치지 않으며,
+     * 청크 전송이 실패했을 때만 남은 바이트를 임시 파일로 흘려 보낸 뒤(spill) 커밋된 위치부터 이어 올린다.
+     */
+    public YoutubeUploadResponse uploadStream(Long userId,
+                                              YoutubeUploadRequest request,
+                                              InputStream input,
+                                              String fileName,
+                                              String contentType,
+                                              long contentLength,
+                                              Long videoJobId) {
+        try {
+            Users user = userRepository.findById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+
+            String accessToken = tokenManager.getAccessToken(user.getId());
+
+            InitiateResult initiation = initiateSession(accessToken, request, resolveContentType(contentType), contentLength);
+
+            YoutubeUploadSession session = sessionRepository.save(
+                    YoutubeUploadSession.create(
+                            initiation.uploadUrl(),
+                            fileName,
+                            contentLength,
+                            initiation.contentType(),
+                            user,
+                            null,
+                            videoJobId
                     )
             );
 
-            UploadResult uploadResult = uploadContent(accessToken, session.getUploadUrl(), session.getContentType(), file);
+            UploadResult uploadResult;
+            try (UploadSource source = UploadSource.ofStream(input, contentLength)) {
+                uploadResult = uploadChunks(accessToken, session, source, 0);
+            }
 
             sessionRepository.deleteById(session.getSessionId());
 
-            String videoId = extractVideoId(uploadResult.responseBody());
-            String youtubeUrl = videoId == null ? null : "https://www.youtube.com/shorts/" + videoId; // 쇼츠 URL
-            return new YoutubeUploadResponse(videoId, youtubeUrl, session.getUploadUrl(), uploadResult.statusCode());
+            return toUploadResponse(session, uploadResult);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new IllegalStateException("업로드 도중 인터럽트가 발생했습니다.", e);
@@ -82,28 +186,98 @@ public class YoutubeService {
         }
     }
 
+    /**
+     * videoJobId 로 남아 있는 업로드 세션을 찾아 유튜브에 커밋된 위치({@code Content-Range: bytes *&#47;N})를
+     * 조회하고, 로컬 파일의 그 위치부터 이어 올린다. 이미 업로드가 끝나 있었다면 그 결과를 그대로 돌려준다.
+     * 이어 올릴 수 없는 세션(로컬 파일 없음, 세션 만료)은 지우고 빈 값을 돌려준다.
+     */
+    public Optional<YoutubeUploadResponse> resumeUpload(Long videoJobId) {
+        List<YoutubeUploadSession> sessions = sessionRepository.findByVideoJobId(videoJobId);
+        if (sessions.isEmpty()) {
+            return Optional.empty();
+        }
+        YoutubeUploadSession session = sessions.getFirst();
+        sessions.stream().skip(1).forEach(stale -> sessionRepository.deleteById(stale.getSessionId()));
+        try {
+            if (!session.isResumable() || !Files.isRegularFile(Path.of(session.getLocalPath()))) {
+                log.info("[Upload] session not resumable, discarding - videoJobId={}, localPath={}",
+                        videoJobId, session.getLocalPath());
+                sessionRepository.deleteById(session.getSessionId());
+                return Optional.empty();
+            }
+
+            String accessToken = tokenManager.getAccessToken(session.getUser().getId());
+            UploadStatus status = queryUploadStatus(accessToken, session.getUploadUrl(), session.getContentLength());
+            if (status.expired()) {
+                log.info("[Upload] session expired, discarding - videoJobId={}", videoJobId);
+                sessionRepository.deleteById(session.getSessionId());
+                return Optional.empty();
+            }
+
+            UploadResult uploadResult = status.completed();
+            if (uploadResult == null) {
+                log.info("[Upload] resuming session - videoJobId={}, committed={}, total={}",
+                        videoJobId, status.committedOffset(), session.getContentLength());
+                try (UploadSource source = UploadSource.ofFile(Path.of(session.getLocalPath()))) {
+                    uploadResult = uploadChunks(accessToken, session, source, status.committedOffset());
+                }
+            }
+
+            sessionRepository.deleteById(session.getSessionId());
+            return Optional.of(toUploadResponse(session, uploadResult));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("업로드 도중 인터럽트가 발생했습니다.", e);
+        } catch (IOException e) {
+            throw new IllegalStateException("유튜브 업로드 재개 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 세션에 커밋된 위치를 유튜브에서 다시 확인해 기록한다. 만료됐거나 로컬 파일이 없어 이어 올릴 수 없으면 false.
+     */
+    public boolean refreshCommittedOffset(YoutubeUploadSession session) {
+        if (!session.isResumable() || !Files.isRegularFile(Path.of(session.getLocalPath()))) {
+            return false;
+        }
+        try {
+            String accessToken = tokenManager.getAccessToken(session.getUser().getId());
+            UploadStatus status = queryUploadStatus(accessToken, session.getUploadUrl(), session.getContentLength());
+            if (status.expired()) {
+                return false;
+            }
+            sessionRepository.updateCommittedOffset(session.getSessionId(), status.committedOffset());
+            return true;
+        } catch (IOException e) {
+            throw new IllegalStateException("업로드 상태 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    public List<YoutubeUploadSession> findVideoJobSessions() {
+        return sessionRepository.findAllForVideoJobs();
+    }
+
+    public void discardSessions(Long videoJobId) {
+        sessionRepository.deleteByVideoJobId(videoJobId);
+    }
+
     public void deleteVideo(Long userId, String videoId) {
-        String accessToken = refreshAccessToken(userId);
-        URI uri = URI.create(VIDEOS_ENDPOINT + "?id=" + videoId);
-        HttpRequest request = HttpRequest.newBuilder(uri)
-                .header("Authorization", "Bearer " + accessToken)
-                .header("Accept", "application/json")
-                .DELETE()
-                .build();
+        String accessToken = tokenManager.getAccessToken(userId);
         try {
-            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
-            if (response.statusCode() / 100 != 2) {
-                throw new IllegalStateException("영상 삭제 실패: HTTP " + response.statusCode());
+            ResponseEntity<String> response = await(googleApiClient.exchange(HttpMethod.DELETE,
+                    apiBaseUrl + VIDEOS_ENDPOINT + "?id=" + videoId, accessToken,
+                    headers -> headers.setAccept(List.of(MediaType.APPLICATION_JSON)), null, responseTimeout));
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                throw new IllegalStateException("영상 삭제 실패: HTTP " + response.getStatusCode().value());
             }
-        } catch (IOException | InterruptedException e) {
+        } catch (IOException e) {
             throw new IllegalStateException("영상 삭제 중 오류", e);
         }
     }
 
     public void updatePrivacy(Long userId, String videoId, String privacyStatus) {
         String normalized = normalizePrivacy(privacyStatus);
-        String accessToken = refreshAccessToken(userId);
-        URI uri = URI.create(VIDEOS_ENDPOINT + "?part=status");
+        String accessToken = tokenManager.getAccessToken(userId);
 
         ObjectNode root = objectMapper.createObjectNode();
         root.put("id", videoId);
@@ -112,119 +286,240 @@ public class YoutubeService {
 
         try {
             String payload = objectMapper.writeValueAsString(root);
-            HttpRequest request = HttpRequest.newBuilder(uri)
-                    .header("Authorization", "Bearer " + accessToken)
-                    .header("Content-Type", "application/json; charset=UTF-8")
-                    .PUT(HttpRequest.BodyPublishers.ofString(payload))
-                    .build();
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            if (response.statusCode() / 100 != 2) {
-                throw new IllegalStateException("영상 공개범위 변경 실패: HTTP " + response.statusCode() + " - " + response.body());
+            ResponseEntity<String> response = await(googleApiClient.exchange(HttpMethod.PUT,
+                    apiBaseUrl + VIDEOS_ENDPOINT + "?part=status", accessToken,
+                    headers -> headers.set(HttpHeaders.CONTENT_TYPE, JSON_UTF8), payload, responseTimeout));
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                throw new IllegalStateException("영상 공개범위 변경 실패: HTTP " + response.getStatusCode().value() + " - " + response.getBody());
             }
-        } catch (IOException | InterruptedException e) {
+        } catch (IOException e) {
             throw new IllegalStateException("영상 공개범위 변경 중 오류", e);
         }
     }
 
-    private String refreshAccessToken(Long userId) {
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
-        return refreshAccessToken(user);
-    }
-
-    private String refreshAccessToken(Users user) {
-        String refreshToken = user.getRefreshToken();
-        if (refreshToken == null || refreshToken.isBlank()) {
-            String accessToken = user.getAccessToken();
-            if (accessToken == null || accessToken.isBlank()) {
-                throw new IllegalStateException("액세스 토큰이 없습니다. 다시 로그인해주세요.");
-            }
-            return accessToken;
-        }
-
-        String newAccessToken = oAuthService.refreshAccessToken(refreshToken);
-        user.setAccessToken(newAccessToken);
-        userRepository.save(user);
-        return newAccessToken;
-    }
-
     private InitiateResult initiateSession(String accessToken,
                                            YoutubeUploadRequest request,
-                                           MultipartFile file) throws IOException, InterruptedException {
+                                           String contentType,
+                                           long contentLength) throws IOException {
         String payload = buildMetadataPayload(request);
-        String contentType = resolveContentType(file);
-
-        HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(RESUMABLE_ENDPOINT))
-                .header("Authorization", "Bearer " + accessToken)
-                .header("Content-Type", "application/json; charset=UTF-8")
-                .header("X-Upload-Content-Length", String.valueOf(file.getSize()))
-                .header("X-Upload-Content-Type", contentType)
-                .POST(HttpRequest.BodyPublishers.ofString(payload))
-                .build();
-
-        HttpResponse<Void> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.discarding());
-        if (response.statusCode() / 100 != 2) {
-            throw new IllegalStateException("Resumable 세션 생성 실패: HTTP " + response.statusCode());
+
+        // 세션 생성(POST)은 연결 실패나 429 처럼 서버가 처리하지 않은 경우에만 재시도한다.
+        ResponseEntity<String> response = await(googleApiClient.exchange(HttpMethod.POST,
+                apiBaseUrl + RESUMABLE_ENDPOINT, accessToken, headers -> {
+                    headers.set(HttpHeaders.CONTENT_TYPE, JSON_UTF8);
+                    headers.set("X-Upload-Content-Type", contentType);
+                    if (contentLength >= 0) {
+                        headers.set("X-Upload-Content-Length", String.valueOf(contentLength));
+                    }
+                }, payload, responseTimeout));
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            throw new IllegalStateException("Resumable 세션 생성 실패: HTTP " + response.getStatusCode().value());
         }
 
-        String uploadUrl = response.headers().firstValue("Location")
+        String uploadUrl = Optional.ofNullable(response.getHeaders().getFirst(HttpHeaders.LOCATION))
                 .orElseThrow(() -> new IllegalStateException("Location 헤더가 없습니다."));
 
         return new InitiateResult(uploadUrl, contentType);
     }
 
-    private UploadResult uploadContent(String accessToken,
-                                       String uploadUrl,
-                                       String contentType,
-                                       MultipartFile file) throws IOException, InterruptedException {
-        long fileSize = file.getSize();
-        long offset = 0;
-        String lastBody = null;
-        int lastStatus = 0;
-
-        try (InputStream input = file.getInputStream()) {
-            while (offset < fileSize) {
-                int bytesToRead = (int) Math.min(CHUNK_SIZE, fileSize - offset);
-                byte[] buffer = input.readNBytes(bytesToRead);
-                if (buffer.length == 0) {
-                    break;
-                }
-
-                long start = offset;
-                long end = offset + buffer.length - 1;
-
-                HttpRequest request = HttpRequest.newBuilder(URI.create(uploadUrl))
-                        .header("Authorization", "Bearer " + accessToken)
-                        .header("Content-Type", contentType)
-                        .header("Content-Range", "bytes %d-%d/%d".formatted(start, end, fileSize))
-                        .PUT(HttpRequest.BodyPublishers.ofByteArray(buffer))
-                        .build();
+    private UploadSource openSource(MultipartFile file) throws IOException {
+        Resource resource = file.getResource();
+        if (resource.isFile()) {
+            return UploadSource.ofFile(resource.getFile().toPath());
+        }
+        return UploadSource.ofStream(file.getInputStream(), file.getSize());
+    }
 
-                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-                lastStatus = response.statusCode();
-                lastBody = response.body();
+    /**
+     * 원본을 청크 단위로 올린다. 청크 크기는 {@link ChunkSizer} 가 직전 청크의 처리량을 보고 정한다.
+     * <p>
+     * 유튜브가 청크 일부만 커밋하면 커밋된 위치부터 다시 읽어 보내고, 전송 오류나 5xx 가 나면 원본을
+     * 다시 읽을 수 있는 형태로 바꾼 뒤(스트림이면 임시 파일로 spill) 세션 상태를 조회해 이어 올린다.
+     */
+    private UploadResult uploadChunks(String accessToken,
+                                      YoutubeUploadSession session,
+                                      UploadSource source,
+                                      long startOffset) throws IOException, InterruptedException {
+        String uploadUrl = session.getUploadUrl();
+        String contentType = session.getContentType();
+        String host = URI.create(uploadUrl).getHost();
+        ChunkSizer sizer = new ChunkSizer(maxChunkSize.toBytes(), targetChunkDuration);
+        long uploadStartedAt = System.nanoTime();
+        long lastCheckpointAt = uploadStartedAt;
+        long offset = startOffset;
+        int chunks = 0;
+        int failures = 0;
+        publishProgress(session, offset, source.size());
+
+        while (true) {
+            UploadSource.Chunk chunk = source.read(offset, sizer.next());
+            long end = offset + chunk.length() - 1;
+            // 길이를 모르던 스트림도 마지막 청크를 읽는 순간 전체 크기가 정해진다.
+            String total = source.size() >= 0 ? String.valueOf(source.size()) : "*";
+
+            retryExecutor.recordRequest(host);
+            long startedAt = System.nanoTime();
+            ResponseEntity<String> response = null;
+            try {
+                response = putChunk(accessToken, uploadUrl, contentType, chunk, offset, total);
+            } catch (IOException e) {
+                log.warn("[Upload] chunk PUT failed - offset={}, size={}", offset, chunk.length(), e);
+            }
+            long elapsed = System.nanoTime() - startedAt;
+            chunks++;
 
-                if (lastStatus == 308) {
-                    offset = nextOffset(response.headers().firstValue("Range"), end + 1);
+            int status = response == null ? 0 : response.getStatusCode().value();
+            if (status == 200 || status == 201) {
+                recordChunk("completed", chunk.length(), elapsed);
+                return completed(status, response.getBody(), uploadUrl, end + 1 - startOffset, chunks, uploadStartedAt);
+            }
+            if (status == 308) {
+                long committed = nextOffset(response.getHeaders().getFirst(HttpHeaders.RANGE), end + 1);
+                if (committed == end + 1) {
+                    recordChunk("committed", chunk.length(), elapsed);
+                    sizer.onCommitted(chunk.length(), elapsed);
+                    log.debug("[Upload] chunk committed - offset={}, size={}, elapsedMs={}, nextSize={}",
+                            offset, chunk.length(), elapsed / 1_000_000, sizer.next());
+                    offset = committed;
+                    failures = 0;
+                    publishProgress(session, offset, source.size());
+                    if (System.nanoTime() - lastCheckpointAt >= checkpointInterval.toNanos()) {
+                        sessionRepository.updateCommittedOffset(session.getSessionId(), offset);
+                        lastCheckpointAt = System.nanoTime();
+                    }
                     continue;
                 }
-
-                if (lastStatus == 200 || lastStatus == 201) {
-                    break;
+                recordChunk("partial", chunk.length(), elapsed);
+                log.warn("[Upload] chunk partially committed - offset={}, size={}, committed={}",
+                        offset, chunk.length(), committed);
+                sizer.onFailure();
+                offset = committed;
+                publishProgress(session, offset, source.size());
+                if (!retryExecutor.awaitRetry(host, ++failures, "partial_commit", Optional.empty())) {
+                    throw new IllegalStateException("청크 업로드가 연속으로 실패했습니다. offset=" + offset);
                 }
+                continue;
+            }
+            if (response != null && !RetryExecutor.isRetryableStatus(status)) {
+                throw new IllegalStateException("업로드 실패 (HTTP %d): %s".formatted(status, response.getBody()));
+            }
 
-                throw new IllegalStateException("업로드 실패 (HTTP %d): %s".formatted(lastStatus, response.body()));
+            recordChunk("failed", chunk.length(), elapsed);
+            log.warn("[Upload] chunk not committed - offset={}, size={}, status={}", offset, chunk.length(), status);
+            String reason = response == null ? "io_error" : "status_" + status;
+            Optional<String> retryAfter = response == null
+                    ? Optional.empty() : Optional.ofNullable(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+            if (!retryExecutor.awaitRetry(host, ++failures, reason, retryAfter)) {
+                throw new IllegalStateException("청크 업로드가 연속으로 실패했습니다. offset=" + offset);
+            }
+            sizer.onFailure();
+            source = source.replayable();
+            UploadStatus uploadStatus = queryUploadStatus(accessToken, uploadUrl, source.size());
+            if (uploadStatus.expired()) {
+                throw new IllegalStateException("업로드 세션이 만료되었습니다.");
+            }
+            if (uploadStatus.completed() != null) {
+                UploadResult result = uploadStatus.completed();
+                return completed(result.statusCode(), result.responseBody(), uploadUrl, source.size() - startOffset, chunks, uploadStartedAt);
             }
+            offset = uploadStatus.committedOffset();
+            publishProgress(session, offset, source.size());
+            log.info("[Upload] resuming - committed={}, total={}", offset, source.size());
+        }
+    }
+
+    private void publishProgress(YoutubeUploadSession session, long committedBytes, long totalBytes) {
+        if (session.getVideoJobId() != null) {
+            eventPublisher.publishEvent(new YoutubeUploadProgress(session.getVideoJobId(), committedBytes, totalBytes));
+        }
+    }
+
+    private void recordChunk(String outcome, int bytes, long elapsedNanos) {
+        Timer.builder("youtube.upload.chunk")
+                .description("resumable 업로드 청크 PUT 소요 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("youtube.upload.chunk.size")
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    private UploadResult completed(int status,
+                                   String body,
+                                   String uploadUrl,
+                                   long bytes,
+                                   int chunks,
+                                   long uploadStartedAt) {
+        long elapsedNanos = System.nanoTime() - uploadStartedAt;
+        double seconds = Math.max(elapsedNanos, 1) / 1e9;
+        double bytesPerSecond = bytes / seconds;
+        DistributionSummary.builder("youtube.upload.throughput")
+                .description("업로드 한 건의 평균 전송 속도")
+                .baseUnit("bytes/s")
+                .register(meterRegistry)
+                .record(bytesPerSecond);
+        log.info("[Upload] done - bytes={}, chunks={}, elapsedMs={}, throughput={} KB/s, session={}",
+                bytes, chunks, elapsedNanos / 1_000_000, Math.round(bytesPerSecond / 1024), uploadUrl);
+        return new UploadResult(status, body, bytes, chunks, elapsedNanos / 1_000_000);
+    }
+
+    /**
+     * 빈 PUT({@code Content-Range: bytes *&#47;total})으로 세션에 커밋된 바이트 수를 조회한다.
+     */
+    private UploadStatus queryUploadStatus(String accessToken,
+                                           String uploadUrl,
+                                           long totalSize) throws IOException {
+        ResponseEntity<String> response = await(googleApiClient.exchange(HttpMethod.PUT, uploadUrl, accessToken, headers -> {
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + (totalSize >= 0 ? totalSize : "*"));
+            headers.setContentLength(0);
+        }, null, STATUS_QUERY_TIMEOUT));
+        int status = response.getStatusCode().value();
+        if (status == 200 || status == 201) {
+            return new UploadStatus(totalSize, new UploadResult(status, response.getBody(), 0, 0, 0), false);
+        }
+        if (status == 308) {
+            return new UploadStatus(nextOffset(response.getHeaders().getFirst(HttpHeaders.RANGE), 0), null, false);
         }
+        if (status == 404 || status == 410) {
+            return new UploadStatus(0, null, true);
+        }
+        throw new IllegalStateException("업로드 상태 조회 실패 (HTTP %d): %s".formatted(status, response.getBody()));
+    }
 
-        return new UploadResult(lastStatus, lastBody);
+    private ResponseEntity<String> putChunk(String accessToken,
+                                            String uploadUrl,
+                                            String contentType,
+                                            UploadSource.Chunk chunk,
+                                            long start,
+                                            String total) throws IOException {
+        return await(googleApiClient.putChunk(uploadUrl, accessToken, contentType,
+                "bytes %d-%d/%s".formatted(start, start + chunk.length() - 1, total), chunk.content(), responseTimeout));
     }
 
-    private long nextOffset(Optional<String> rangeHeader, long defaultOffset) {
-        return rangeHeader.map(header -> parseRangeHeader(header, defaultOffset)).orElse(defaultOffset);
+    /**
+     * 업로드 루프는 청크를 차례로 보내야 하므로 요청마다 응답을 기다린다. 재시도를 포함해 request-deadline 안에 끝나지 않으면
+     * 더 기다리지 않는다. 전송 오류와 기한 초과는 IOException 으로 바꿔 기존 재시도/이어 올리기 경로를 그대로 탄다.
+     */
+    private ResponseEntity<String> await(Mono<ResponseEntity<String>> request) throws IOException {
+        try {
+            return request.timeout(requestDeadline).block();
+        } catch (WebClientRequestException e) {
+            throw new IOException(e.getMessage(), e.getCause() != null ? e.getCause() : e);
+        } catch (RuntimeException e) {
+            if (Exceptions.unwrap(e) instanceof TimeoutException timeout) {
+                throw new IOException("응답을 " + requestDeadline + " 안에 받지 못했습니다.", timeout);
+            }
+            throw e;
+        }
     }
 
-    private long parseRangeHeader(String rangeHeader, long defaultOffset) {
+    private long nextOffset(String rangeHeader, long defaultOffset) {
+        return rangeHeader == null ? defaultOffset : parseRangeHeader(rangeHeader, defaultOffset);
+    }
+
+    long parseRangeHeader(String rangeHeader, long defaultOffset) {
         String[] parts = rangeHeader.split("=");
         if (parts.length != 2) {
             return defaultOffset;
@@ -241,7 +536,7 @@ public class YoutubeService {
         }
     }
 
-    private String buildMetadataPayload(YoutubeUploadRequest request) throws JsonProcessingException {
+    String buildMetadataPayload(YoutubeUploadRequest request) throws JsonProcessingException {
         ObjectNode root = objectMapper.createObjectNode();
         ObjectNode snippet = root.putObject("snippet");
         snippet.put("title", request.title() == null || request.title().isBlank() ? "Untitled upload" : request.title());
@@ -268,7 +563,7 @@ public class YoutubeService {
         return objectMapper.writeValueAsString(root);
     }
 
-    private String extractVideoId(String body) {
+    String extractVideoId(String body) {
         if (body == null || body.isBlank()) {
             return null;
         }
@@ -279,8 +574,14 @@ public class YoutubeService {
         }
     }
 
-    private String resolveContentType(MultipartFile file) {
-        String contentType = file.getContentType();
+    private YoutubeUploadResponse toUploadResponse(YoutubeUploadSession session, UploadResult uploadResult) {
+        String videoId = extractVideoId(uploadResult.responseBody());
+        String youtubeUrl = videoId == null ? null : "https://www.youtube.com/shorts/" + videoId; // 쇼츠 URL
+        return new YoutubeUploadResponse(videoId, youtubeUrl, session.getUploadUrl(), uploadResult.statusCode(),
+                uploadResult.uploadedBytes(), uploadResult.chunks(), uploadResult.elapsedMillis());
+    }
+
+    private String resolveContentType(String contentType) {
         return contentType == null || contentType.isBlank() ? "application/octet-stream" : contentType;
     }
 
@@ -298,6 +599,9 @@ public class YoutubeService {
     private record InitiateResult(String uploadUrl, String contentType) {
     }
 
-    private record UploadResult(int statusCode, String responseBody) {
+    private record UploadResult(int statusCode, String responseBody, long uploadedBytes, int chunks, long elapsedMillis) {
+    }
+
+    private record UploadStatus(long committedOffset, UploadResult completed, boolean expired) {
     }
 }
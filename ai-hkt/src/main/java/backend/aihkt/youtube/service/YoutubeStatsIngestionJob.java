@@ -0,0 +1,93 @@
+package backend.aihkt.youtube.service;
+
+import backend.aihkt.domain.video.repository.VideoRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * 활성화된 영상의 통계를 주기적으로 구글 API 에서 가져와 스냅샷 테이블에 적재한다.
+ * <p>
+ * 채널 단위(영상 소유 사용자 단위)로 묶어 토큰을 한 번만 얻고, Data API 카운터는 50개씩 한 번에 조회한다.
+ * Analytics 지표는 영상별 쿼리라 video-concurrency 개씩 동시에 보낸다. 일부 쿼리가 실패한 영상은 기존 스냅샷을 유지한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "youtube.stats.ingestion.enabled", havingValue = "true")
+public class YoutubeStatsIngestionJob {
+
+    private final VideoRepository videoRepository;
+    private final YoutubeStatsService statsService;
+    private final YoutubeStatsSnapshotService snapshotService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${youtube.stats.ingestion.video-concurrency:4}")
+    private int videoConcurrency;
+
+    @Scheduled(fixedDelayString = "${youtube.stats.ingestion.interval:6h}",
+            initialDelayString = "${youtube.stats.ingestion.initial-delay:1m}")
+    public void ingest() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Map<Long, List<String>> videosByChannel = videoRepository.findActiveVideoOwners().stream()
+                .collect(Collectors.groupingBy(VideoRepository.VideoOwner::getUserId,
+                        Collectors.mapping(VideoRepository.VideoOwner::getVideoId, Collectors.toList())));
+        LocalDate end = LocalDate.now();
+        LocalDate start = end.minusDays(6); // 조회 API 와 같은 최근 7일
+
+        int saved = 0;
+        int skipped = 0;
+        for (Map.Entry<Long, List<String>> channel : videosByChannel.entrySet()) {
+            try {
+                int channelSaved = ingestChannel(channel.getKey(), channel.getValue(), start, end);
+                saved += channelSaved;
+                skipped += channel.getValue().size() - channelSaved;
+            } catch (Exception ex) {
+                skipped += channel.getValue().size();
+                log.warn("[StatsIngestion] channel failed - userId={}, videos={}",
+                        channel.getKey(), channel.getValue().size(), ex);
+            }
+        }
+        sample.stop(meterRegistry.timer("youtube.stats.ingestion"));
+        meterRegistry.counter("youtube.stats.ingestion.videos", "result", "saved").increment(saved);
+        meterRegistry.counter("youtube.stats.ingestion.videos", "result", "skipped").increment(skipped);
+        log.info("[StatsIngestion] done - channels={}, saved={}, skipped={}", videosByChannel.size(), saved, skipped);
+    }
+
+    private int ingestChannel(Long userId, List<String> videoIds, LocalDate start, LocalDate end) {
+        Map<String, JsonNode> items = statsService.fetchVideoItems(userId, videoIds);
+        List<String> found = videoIds.stream().filter(items::containsKey).toList();
+
+        int saved = 0;
+        for (int from = 0; from < found.size(); from += videoConcurrency) {
+            List<String> batch = found.subList(from, Math.min(from + videoConcurrency, found.size()));
+            List<CompletableFuture<YoutubeStatsService.SnapshotStats>> futures = new ArrayList<>();
+            for (String videoId : batch) {
+                futures.add(statsService.fetchSnapshotStats(userId, videoId, items.get(videoId), start, end));
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                YoutubeStatsService.SnapshotStats result = futures.get(i).join();
+                if (!result.complete()) {
+                    log.warn("[StatsIngestion] incomplete stats, keeping previous snapshot - videoId={}", batch.get(i));
+                    continue;
+                }
+                snapshotService.save(userId, result.stats(), start, end);
+                saved++;
+            }
+        }
+        return saved;
+    }
+}
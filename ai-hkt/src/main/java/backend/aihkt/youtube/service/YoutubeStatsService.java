@@ -1,125 +1,471 @@
 package backend.aihkt.youtube.service;
 
-import backend.aihkt.domain.user.entity.Users;
-import backend.aihkt.domain.user.repository.UserRepository;
-import backend.aihkt.infra.google.OAuthService;
+import backend.aihkt.infra.google.GoogleApiClient;
+import backend.aihkt.infra.google.GoogleTokenManager;
 import backend.aihkt.youtube.dto.VideoAnalyticsResponse;
 import backend.aihkt.youtube.dto.VideoStatResponse;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
-import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class YoutubeStatsService {
 
     private static final String DATA_API_VIDEOS =
-            "https://www.googleapis.com/youtube/v3/videos?part=statistics,contentDetails&id=%s";
+            "/youtube/v3/videos?part=statistics,contentDetails&id=%s";
 
-    private static final String ANALYTICS_API_REPORTS =
-            "https://youtubeanalytics.googleapis.com/v2/reports";
+    private static final String ANALYTICS_API_REPORTS = "/v2/reports";
 
-    private final UserRepository userRepository;
-    private final OAuthService oAuthService;
+    /** Data API videos.list 한 번에 조회할 수 있는 최대 id 수. */
+    private static final int DATA_API_MAX_IDS = 50;
+
+    static final AnalyticsReport<VideoStatResponse.DailyMetric> DAILY_REPORT = AnalyticsReport.of(
+            row -> new VideoStatResponse.DailyMetric(
+                    row.text(0), row.longValue(1), row.longValue(2), row.doubleValue(3), row.doubleValue(4)),
+            "day", "views", "estimatedMinutesWatched", "averageViewDuration", "averageViewPercentage");
+
+    static final AnalyticsReport<VideoStatResponse.SummaryAnalytics> SUMMARY_REPORT = AnalyticsReport.of(
+            row -> new VideoStatResponse.SummaryAnalytics(
+                    row.longValue(1),   // impressions
+                    row.doubleValue(2), // impressionsCtr
+                    row.longValue(3),   // views
+                    row.doubleValue(4), // avg view duration
+                    row.doubleValue(5), // avg view percentage
+                    row.longValue(6),   // est minutes
+                    row.longValue(7),   // subs gained
+                    row.longValue(8),   // subs lost
+                    row.longValue(9),   // likes
+                    row.longValue(10),  // comments
+                    row.longValue(11)   // shares
+            ),
+            "video", "impressions", "impressionsCtr", "views", "averageViewDuration", "averageViewPercentage",
+            "estimatedMinutesWatched", "subscribersGained", "subscribersLost", "likes", "comments", "shares");
+
+    static final AnalyticsReport<VideoStatResponse.CountryMetric> COUNTRY_REPORT = AnalyticsReport.of(
+            row -> new VideoStatResponse.CountryMetric(
+                    row.text(0), row.longValue(1), row.longValue(2), row.doubleValue(3)),
+            "country", "views", "impressions", "impressionsCtr");
+
+    static final AnalyticsReport<VideoStatResponse.TrafficMetric> TRAFFIC_REPORT = AnalyticsReport.of(
+            row -> new VideoStatResponse.TrafficMetric(
+                    row.text(0), row.longValue(1), row.longValue(2), row.doubleValue(3)),
+            "trafficSourceType", "views", "impressions", "impressionsCtr");
+
+    static final AnalyticsReport<VideoStatResponse.DeviceMetric> DEVICE_REPORT = AnalyticsReport.of(
+            row -> new VideoStatResponse.DeviceMetric(
+                    row.text(0), row.longValue(1), row.longValue(2), row.doubleValue(3)),
+            "deviceType", "views", "impressions", "impressionsCtr");
+
+    static final AnalyticsReport<VideoStatResponse.OsMetric> OS_REPORT = AnalyticsReport.of(
+            row -> new VideoStatResponse.OsMetric(
+                    row.text(0), row.longValue(1), row.longValue(2), row.doubleValue(3)),
+            "operatingSystem", "views", "impressions", "impressionsCtr");
+
+    static final AnalyticsReport<VideoStatResponse.AgeGenderMetric> AGE_GENDER_REPORT = AnalyticsReport.of(
+            row -> new VideoStatResponse.AgeGenderMetric(row.text(0), row.text(1), row.doubleValue(2)),
+            "ageGroup", "gender", "viewerPercentage");
+
+    static final AnalyticsReport<VideoAnalyticsResponse.Row> BULK_REPORT = AnalyticsReport.of(
+            row -> new VideoAnalyticsResponse.Row(
+                    row.text(0), row.longValue(1), row.longValue(2), row.doubleValue(3)),
+            "video", "views", "estimatedMinutesWatched", "averageViewDuration");
+
+    private final GoogleTokenManager tokenManager;
     private final ObjectMapper objectMapper;
-    private final HttpClient httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(30))
-            .build();
+    private final GoogleApiClient googleApiClient;
+    private final MeterRegistry meterRegistry;
+    private final YoutubeStatsSnapshotService snapshotService;
+
+    @Value("${youtube.api.data-base-url:https://www.googleapis.com}")
+    private String dataApiBaseUrl;
+
+    @Value("${youtube.api.analytics-base-url:https://youtubeanalytics.googleapis.com}")
+    private String analyticsApiBaseUrl;
+
+    @Value("${youtube.stats.concurrent-fetch:true}")
+    private boolean concurrentFetch;
+
+    @Value("${youtube.stats.query-timeout:10s}")
+    private Duration queryTimeout;
+
+    @Value("${youtube.stats.query-deadline:30s}")
+    private Duration queryDeadline;
+
+    @Value("${youtube.stats.snapshot.read-enabled:true}")
+    private boolean snapshotReadEnabled;
+
+    @Value("${youtube.stats.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${youtube.stats.cache.video-ttl:5m}")
+    private Duration videoTtl;
+
+    @Value("${youtube.stats.cache.daily-ttl:1h}")
+    private Duration dailyTtl;
+
+    @Value("${youtube.stats.cache.breakdown-ttl:6h}")
+    private Duration breakdownTtl;
+
+    @Value("${youtube.stats.cache.bulk-ttl:1h}")
+    private Duration bulkTtl;
+
+    @Value("${youtube.stats.cache.max-stale:1d}")
+    private Duration maxStale;
+
+    @Value("${youtube.stats.cache.failure-ttl:1m}")
+    private Duration failureTtl;
+
+    @Value("${youtube.stats.cache.maximum-size:16MB}")
+    private DataSize maximumSize;
+
+    private StatsGroupCache<StatsKey, JsonNode> videoItemCache;
+    private StatsGroupCache<StatsKey, DailyGroup> dailyCache;
+    private StatsGroupCache<StatsKey, BreakdownGroup> breakdownCache;
+    private StatsGroupCache<BulkKey, VideoAnalyticsResponse> bulkCache;
+
+    /**
+     * 지표 그룹마다 데이터가 바뀌는 주기가 달라 캐시를 나눈다. Data API 카운터는 자주, 일별 지표는 하루 몇 번,
+     * 국가/유입경로/기기 같은 분포는 거의 바뀌지 않는다.
+     */
+    @PostConstruct
+    void initCaches() {
+        StatsGroupCache.Settings settings = new StatsGroupCache.Settings(maxStale, failureTtl, maximumSize.toBytes());
+        videoItemCache = new StatsGroupCache<>("youtube.stats.video", settings, videoTtl,
+                this::loadVideoItem, item -> true, item -> 512, meterRegistry);
+        dailyCache = new StatsGroupCache<>("youtube.stats.daily", settings, dailyTtl,
+                this::loadDailyGroup, DailyGroup::complete, DailyGroup::estimatedBytes, meterRegistry);
+        breakdownCache = new StatsGroupCache<>("youtube.stats.breakdown", settings, breakdownTtl,
+                this::loadBreakdownGroup, BreakdownGroup::complete, BreakdownGroup::estimatedBytes, meterRegistry);
+        bulkCache = new StatsGroupCache<>("youtube.stats.bulk", settings, bulkTtl,
+                this::loadBulkAnalytics, response -> true, response -> 128 + response.rows().size() * 64, meterRegistry);
+    }
 
     public VideoStatResponse getVideoStats(Long userId, String videoId) {
-        String accessToken = refreshAccessToken(userId);
-        HttpRequest request = HttpRequest.newBuilder(URI.create(DATA_API_VIDEOS.formatted(videoId)))
-                .header("Authorization", "Bearer " + accessToken)
-                .header("Accept", "application/json")
-                .GET()
-                .build();
+        if (snapshotReadEnabled) {
+            Optional<VideoStatResponse> snapshot = snapshotService.findVideoStats(userId, videoId);
+            if (snapshot.isPresent()) {
+                return snapshot.get();
+            }
+        }
+        LocalDate end = LocalDate.now();
+        LocalDate start = end.minusDays(6); // 최근 7일
+        if (cacheEnabled) {
+            return getCachedVideoStats(new StatsKey(userId, videoId, start, end));
+        }
+        String accessToken = tokenManager.getAccessToken(userId);
+        return concurrentFetch
+                ? fetchVideoStatsConcurrently(accessToken, videoId, start, end)
+                : fetchVideoStatsSequentially(accessToken, videoId, start, end);
+    }
+
+    /**
+     * 세 지표 그룹을 캐시에서 가져와 조립한다. 캐시에 없는 그룹만 구글 API 를 호출하며(동시 호출),
+     * ttl 이 지난 그룹은 기존 값을 바로 쓰고 백그라운드로 갱신한다.
+     */
+    private VideoStatResponse getCachedVideoStats(StatsKey key) {
+        CompletableFuture<JsonNode> item = videoItemCache.get(key);
+        CompletableFuture<DailyGroup> daily = dailyCache.get(key);
+        CompletableFuture<BreakdownGroup> breakdown = breakdownCache.get(key);
         try {
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            if (response.statusCode() / 100 != 2) {
-                throw new IllegalStateException("YouTube Data API 실패: HTTP " + response.statusCode());
+            DailyGroup dailyGroup = daily.join();
+            BreakdownGroup breakdownGroup = breakdown.join();
+            return toVideoStatResponse(
+                    key.videoId(),
+                    item.join(),
+                    dailyGroup.dailyMetrics(),
+                    dailyGroup.summaryAnalytics(),
+                    breakdownGroup.countryMetrics(),
+                    breakdownGroup.trafficMetrics(),
+                    breakdownGroup.deviceMetrics(),
+                    breakdownGroup.osMetrics(),
+                    breakdownGroup.ageGenderMetrics()
+            );
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IllegalStateException ise) {
+                throw ise;
             }
-            JsonNode root = objectMapper.readTree(response.body());
-            JsonNode item = root.path("items").path(0);
-            JsonNode statistics = item.path("statistics");
-            JsonNode contentDetails = item.path("contentDetails");
-            long durationSeconds = parseDurationSeconds(contentDetails.path("duration").asText(""));
-            List<VideoStatResponse.DailyMetric> dailyMetrics = fetchDailyMetrics(accessToken, videoId);
-            VideoStatResponse.SummaryAnalytics summaryAnalytics = fetchSummaryAnalytics(accessToken, videoId);
-            List<VideoStatResponse.CountryMetric> countryMetrics = fetchCountryMetrics(accessToken, videoId);
-            List<VideoStatResponse.TrafficMetric> trafficMetrics = fetchTrafficMetrics(accessToken, videoId);
-            List<VideoStatResponse.DeviceMetric> deviceMetrics = fetchDeviceMetrics(accessToken, videoId);
-            List<VideoStatResponse.OsMetric> osMetrics = fetchOsMetrics(accessToken, videoId);
-            List<VideoStatResponse.AgeGenderMetric> ageGenderMetrics = fetchAgeGenderMetrics(accessToken, videoId);
-            return new VideoStatResponse(
+            throw new IllegalStateException("YouTube Data API 호출 실패", e.getCause());
+        }
+    }
+
+    private CompletableFuture<JsonNode> loadVideoItem(StatsKey key, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> tokenManager.getAccessToken(key.userId()), executor)
+                .thenCompose(accessToken -> fetchVideoItem(accessToken, key.videoId())
+                        .timeout(queryDeadline)
+                        .toFuture());
+    }
+
+    private CompletableFuture<DailyGroup> loadDailyGroup(StatsKey key, Executor executor) {
+        String videoId = key.videoId();
+        return CompletableFuture.supplyAsync(() -> tokenManager.getAccessToken(key.userId()), executor)
+                .thenCompose(accessToken -> {
+                    CompletableFuture<List<VideoStatResponse.DailyMetric>> daily =
+                            executeAnalyticsAsync(accessToken, dailyMetricsUri(videoId, key.start(), key.end()), DAILY_REPORT);
+                    CompletableFuture<List<VideoStatResponse.SummaryAnalytics>> summary =
+                            executeAnalyticsAsync(accessToken, summaryAnalyticsUri(videoId, key.start(), key.end()), SUMMARY_REPORT);
+                    return daily.thenCombine(summary, (dailyRows, summaryRows) -> new DailyGroup(
+                            orEmpty(dailyRows),
+                            toSummaryAnalytics(summaryRows),
+                            dailyRows != null && summaryRows != null));
+                });
+    }
+
+    private CompletableFuture<BreakdownGroup> loadBreakdownGroup(StatsKey key, Executor executor) {
+        String videoId = key.videoId();
+        LocalDate start = key.start();
+        LocalDate end = key.end();
+        return CompletableFuture.supplyAsync(() -> tokenManager.getAccessToken(key.userId()), executor)
+                .thenCompose(accessToken -> {
+                    CompletableFuture<List<VideoStatResponse.CountryMetric>> country =
+                            executeAnalyticsAsync(accessToken, countryMetricsUri(videoId, start, end), COUNTRY_REPORT);
+                    CompletableFuture<List<VideoStatResponse.TrafficMetric>> traffic =
+                            executeAnalyticsAsync(accessToken, trafficMetricsUri(videoId, start, end), TRAFFIC_REPORT);
+                    CompletableFuture<List<VideoStatResponse.DeviceMetric>> device =
+                            executeAnalyticsAsync(accessToken, deviceMetricsUri(videoId, start, end), DEVICE_REPORT);
+                    CompletableFuture<List<VideoStatResponse.OsMetric>> os =
+                            executeAnalyticsAsync(accessToken, osMetricsUri(videoId, start, end), OS_REPORT);
+                    CompletableFuture<List<VideoStatResponse.AgeGenderMetric>> ageGender =
+                            executeAnalyticsAsync(accessToken, ageGenderMetricsUri(videoId, start, end), AGE_GENDER_REPORT);
+                    List<CompletableFuture<? extends List<?>>> all = List.of(country, traffic, device, os, ageGender);
+                    return CompletableFuture.allOf(all.toArray(CompletableFuture[]::new))
+                            .thenApply(ignored -> new BreakdownGroup(
+                                    orEmpty(country.join()),
+                                    orEmpty(traffic.join()),
+                                    orEmpty(device.join()),
+                                    orEmpty(os.join()),
+                                    orEmpty(ageGender.join()),
+                                    all.stream().allMatch(rows -> rows.join() != null)));
+                });
+    }
+
+    private CompletableFuture<VideoAnalyticsResponse> loadBulkAnalytics(BulkKey key, Executor executor) {
+        return CompletableFuture.supplyAsync(
+                () -> fetchBulkAnalytics(key.userId(), key.videoIds(), key.start(), key.end()), executor);
+    }
+
+    /**
+     * Data API 1회 + Analytics 7회를 순차 호출한다. 응답 지연은 모든 왕복 시간의 합.
+     */
+    private VideoStatResponse fetchVideoStatsSequentially(String accessToken, String videoId,
+                                                          LocalDate start, LocalDate end) {
+        JsonNode item = fetchVideoItem(accessToken, videoId).block();
+        return toVideoStatResponse(
+                videoId,
+                item,
+                orEmpty(executeAnalytics(accessToken, dailyMetricsUri(videoId, start, end), DAILY_REPORT)),
+                toSummaryAnalytics(executeAnalytics(accessToken, summaryAnalyticsUri(videoId, start, end), SUMMARY_REPORT)),
+                orEmpty(executeAnalytics(accessToken, countryMetricsUri(videoId, start, end), COUNTRY_REPORT)),
+                orEmpty(executeAnalytics(accessToken, trafficMetricsUri(videoId, start, end), TRAFFIC_REPORT)),
+                orEmpty(executeAnalytics(accessToken, deviceMetricsUri(videoId, start, end), DEVICE_REPORT)),
+                orEmpty(executeAnalytics(accessToken, osMetricsUri(videoId, start, end), OS_REPORT)),
+                orEmpty(executeAnalytics(accessToken, ageGenderMetricsUri(videoId, start, end), AGE_GENDER_REPORT))
+        );
+    }
+
+    /**
+     * Data API 와 Analytics 요청을 한 번에 보내고 모두 끝날 때까지 기다린다.
+     * 응답 지연은 가장 느린 왕복 하나로 줄어든다. Analytics 쿼리는 재시도를 포함한 기한(query-deadline)을 넘기거나
+     * 실패하면 순차 모드와 동일하게 빈 값으로 채워 부분 결과를 반환한다.
+     */
+    private VideoStatResponse fetchVideoStatsConcurrently(String accessToken, String videoId,
+                                                          LocalDate start, LocalDate end) {
+        CompletableFuture<JsonNode> video = fetchVideoItem(accessToken, videoId)
+                .timeout(queryDeadline)
+                .toFuture();
+        CompletableFuture<List<VideoStatResponse.DailyMetric>> daily =
+                executeAnalyticsAsync(accessToken, dailyMetricsUri(videoId, start, end), DAILY_REPORT).thenApply(YoutubeStatsService::orEmpty);
+        CompletableFuture<VideoStatResponse.SummaryAnalytics> summary =
+                executeAnalyticsAsync(accessToken, summaryAnalyticsUri(videoId, start, end), SUMMARY_REPORT).thenApply(YoutubeStatsService::toSummaryAnalytics);
+        CompletableFuture<List<VideoStatResponse.CountryMetric>> country =
+                executeAnalyticsAsync(accessToken, countryMetricsUri(videoId, start, end), COUNTRY_REPORT).thenApply(YoutubeStatsService::orEmpty);
+        CompletableFuture<List<VideoStatResponse.TrafficMetric>> traffic =
+                executeAnalyticsAsync(accessToken, trafficMetricsUri(videoId, start, end), TRAFFIC_REPORT).thenApply(YoutubeStatsService::orEmpty);
+        CompletableFuture<List<VideoStatResponse.DeviceMetric>> device =
+                executeAnalyticsAsync(accessToken, deviceMetricsUri(videoId, start, end), DEVICE_REPORT).thenApply(YoutubeStatsService::orEmpty);
+        CompletableFuture<List<VideoStatResponse.OsMetric>> os =
+                executeAnalyticsAsync(accessToken, osMetricsUri(videoId, start, end), OS_REPORT).thenApply(YoutubeStatsService::orEmpty);
+        CompletableFuture<List<VideoStatResponse.AgeGenderMetric>> ageGender =
+                executeAnalyticsAsync(accessToken, ageGenderMetricsUri(videoId, start, end), AGE_GENDER_REPORT).thenApply(YoutubeStatsService::orEmpty);
+
+        try {
+            return toVideoStatResponse(
                     videoId,
-                    statistics.path("viewCount").asLong(0),
-                    statistics.path("likeCount").asLong(0),
-                    statistics.path("commentCount").asLong(0),
-                    statistics.path("favoriteCount").asLong(0),
-                    durationSeconds,
-                    dailyMetrics,
-                    summaryAnalytics,
-                    countryMetrics,
-                    trafficMetrics,
-                    deviceMetrics,
-                    osMetrics,
-                    ageGenderMetrics
+                    video.join(),
+                    daily.join(),
+                    summary.join(),
+                    country.join(),
+                    traffic.join(),
+                    device.join(),
+                    os.join(),
+                    ageGender.join()
             );
-        } catch (IOException | InterruptedException e) {
-            throw new IllegalStateException("YouTube Data API 호출 실패", e);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IllegalStateException ise) {
+                throw ise;
+            }
+            throw new IllegalStateException("YouTube Data API 호출 실패", e.getCause());
+        }
+    }
+
+    /**
+     * 스냅샷 수집용. 한 채널(사용자)의 영상 카운터를 Data API 호출 50개 단위로 묶어 가져온다.
+     * 응답에 없는 영상(삭제, 비공개 전환 등)은 결과 맵에서 빠진다.
+     */
+    Map<String, JsonNode> fetchVideoItems(Long userId, List<String> videoIds) {
+        String accessToken = tokenManager.getAccessToken(userId);
+        Map<String, JsonNode> items = new HashMap<>();
+        for (int from = 0; from < videoIds.size(); from += DATA_API_MAX_IDS) {
+            String ids = String.join(",", videoIds.subList(from, Math.min(from + DATA_API_MAX_IDS, videoIds.size())));
+            for (JsonNode item : fetchVideos(accessToken, ids).block().path("items")) {
+                items.put(item.path("id").asText(), item);
+            }
         }
+        return items;
+    }
+
+    /**
+     * 스냅샷 수집용. 캐시를 거치지 않고 Analytics 지표를 동시 조회해 Data API 카운터와 합친다.
+     * 쿼리가 하나라도 실패하면 complete=false 로 완료되며, 이 결과로 기존 스냅샷을 덮어쓰지 않는다.
+     */
+    CompletableFuture<SnapshotStats> fetchSnapshotStats(Long userId, String videoId, JsonNode item,
+                                                        LocalDate start, LocalDate end) {
+        StatsKey key = new StatsKey(userId, videoId, start, end);
+        Executor direct = Runnable::run;
+        return loadDailyGroup(key, direct).thenCombine(loadBreakdownGroup(key, direct), (daily, breakdown) ->
+                new SnapshotStats(
+                        toVideoStatResponse(
+                                videoId,
+                                item,
+                                daily.dailyMetrics(),
+                                daily.summaryAnalytics(),
+                                breakdown.countryMetrics(),
+                                breakdown.trafficMetrics(),
+                                breakdown.deviceMetrics(),
+                                breakdown.osMetrics(),
+                                breakdown.ageGenderMetrics()),
+                        daily.complete() && breakdown.complete()));
+    }
+
+    /**
+     * Data API videos.list. 재시도 후에도 2xx 가 아니거나 응답을 읽지 못하면 IllegalStateException 으로 끝난다.
+     */
+    private Mono<JsonNode> fetchVideos(String accessToken, String videoIds) {
+        return googleApiClient.get(dataApiBaseUrl + DATA_API_VIDEOS.formatted(videoIds), accessToken, queryTimeout,
+                        objectMapper::readTree)
+                .onErrorMap(WebClientResponseException.class,
+                        e -> new IllegalStateException("YouTube Data API 실패: HTTP " + e.getStatusCode().value()))
+                .onErrorMap(e -> !(e instanceof IllegalStateException),
+                        e -> new IllegalStateException("YouTube Data API 호출 실패", e));
+    }
+
+    private Mono<JsonNode> fetchVideoItem(String accessToken, String videoId) {
+        return fetchVideos(accessToken, videoId).map(root -> root.path("items").path(0));
+    }
+
+    private VideoStatResponse toVideoStatResponse(String videoId,
+                                                  JsonNode item,
+                                                  List<VideoStatResponse.DailyMetric> dailyMetrics,
+                                                  VideoStatResponse.SummaryAnalytics summaryAnalytics,
+                                                  List<VideoStatResponse.CountryMetric> countryMetrics,
+                                                  List<VideoStatResponse.TrafficMetric> trafficMetrics,
+                                                  List<VideoStatResponse.DeviceMetric> deviceMetrics,
+                                                  List<VideoStatResponse.OsMetric> osMetrics,
+                                                  List<VideoStatResponse.AgeGenderMetric> ageGenderMetrics) {
+        JsonNode statistics = item.path("statistics");
+        JsonNode contentDetails = item.path("contentDetails");
+        long durationSeconds = parseDurationSeconds(contentDetails.path("duration").asText(""));
+        return new VideoStatResponse(
+                videoId,
+                statistics.path("viewCount").asLong(0),
+                statistics.path("likeCount").asLong(0),
+                statistics.path("commentCount").asLong(0),
+                statistics.path("favoriteCount").asLong(0),
+                durationSeconds,
+                dailyMetrics,
+                summaryAnalytics,
+                countryMetrics,
+                trafficMetrics,
+                deviceMetrics,
+                osMetrics,
+                ageGenderMetrics
+        );
     }
 
     public VideoAnalyticsResponse getBulkAnalytics(Long userId,
                                                    List<String> videoIds,
                                                    LocalDate startDate,
                                                    LocalDate endDate) {
-        String accessToken = refreshAccessToken(userId);
+        LocalDate start = Optional.ofNullable(startDate).orElse(LocalDate.now().minusDays(7));
+        LocalDate end = Optional.ofNullable(endDate).orElse(LocalDate.now());
+        List<String> ids = videoIds == null ? List.of() : videoIds.stream().sorted().distinct().toList();
+        if (snapshotReadEnabled) {
+            Optional<VideoAnalyticsResponse> snapshot = snapshotService.findBulkAnalytics(userId, ids, start, end);
+            if (snapshot.isPresent()) {
+                return snapshot.get();
+            }
+        }
+        if (!cacheEnabled) {
+            return fetchBulkAnalytics(userId, videoIds, startDate, endDate);
+        }
+        try {
+            return bulkCache.get(new BulkKey(userId, ids, start, end)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("YouTube Analytics API 호출 실패", e.getCause());
+        }
+    }
+
+    private VideoAnalyticsResponse fetchBulkAnalytics(Long userId,
+                                                      List<String> videoIds,
+                                                      LocalDate startDate,
+                                                      LocalDate endDate) {
+        String accessToken = tokenManager.getAccessToken(userId);
 
         String idsFilter = videoIds == null || videoIds.isEmpty()
                 ? null
                 : videoIds.stream().collect(Collectors.joining(","));
 
-        URI uri = URI.create(buildAnalyticsUri(idsFilter, startDate, endDate));
-
-        HttpRequest request = HttpRequest.newBuilder(uri)
-                .header("Authorization", "Bearer " + accessToken)
-                .header("Accept", "application/json")
-                .GET()
-                .build();
+        String uri = buildAnalyticsUri(idsFilter, startDate, endDate);
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            if (response.statusCode() / 100 != 2) {
-                throw new IllegalStateException("YouTube Analytics API 실패: HTTP " + response.statusCode());
-            }
-            JsonNode root = objectMapper.readTree(response.body());
-            List<VideoAnalyticsResponse.Row> rows = new ArrayList<>();
-            for (JsonNode row : root.path("rows")) {
-                String videoId = row.path(0).asText();
-                long views = row.path(1).asLong(0);
-                long minutes = row.path(2).asLong(0);
-                double avgDurationSec = row.path(3).asDouble(0);
-                rows.add(new VideoAnalyticsResponse.Row(videoId, views, minutes, avgDurationSec));
-            }
+            List<VideoAnalyticsResponse.Row> rows = queryAnalytics(accessToken, uri, BULK_REPORT).block();
+            outcome = "success";
             return new VideoAnalyticsResponse(rows);
-        } catch (IOException | InterruptedException e) {
+        } catch (WebClientResponseException e) {
+            throw new IllegalStateException("YouTube Analytics API 실패: HTTP " + e.getStatusCode().value());
+        } catch (RuntimeException e) {
             throw new IllegalStateException("YouTube Analytics API 호출 실패", e);
+        } finally {
+            sample.stop(analyticsTimer(uri, outcome));
         }
     }
 
@@ -127,7 +473,7 @@ public class YoutubeStatsService {
         LocalDate start = Optional.ofNullable(startDate).orElse(LocalDate.now().minusDays(7));
         LocalDate end = Optional.ofNullable(endDate).orElse(LocalDate.now());
 
-        StringBuilder sb = new StringBuilder(ANALYTICS_API_REPORTS)
+        StringBuilder sb = new StringBuilder(analyticsApiBaseUrl).append(ANALYTICS_API_REPORTS)
                 .append("?ids=channel==MINE")
                 .append("&startDate=").append(start)
                 .append("&endDate=").append(end)
@@ -140,150 +486,58 @@ public class YoutubeStatsService {
         return sb.toString();
     }
 
-    private List<VideoStatResponse.DailyMetric> fetchDailyMetrics(String accessToken, String videoId) {
-        LocalDate end = LocalDate.now();
-        LocalDate start = end.minusDays(6); // 최근 7일
-        String uri = analyticsUri("day",
+    private String dailyMetricsUri(String videoId, LocalDate start, LocalDate end) {
+        return analyticsUri("day",
                 "views,estimatedMinutesWatched,averageViewDuration,averageViewPercentage",
                 "video==" + videoId,
                 start, end);
-        JsonNode root = executeAnalytics(accessToken, uri);
-        if (root == null) return List.of();
-        List<VideoStatResponse.DailyMetric> rows = new ArrayList<>();
-        for (JsonNode row : root.path("rows")) {
-            String date = row.path(0).asText();
-            long views = row.path(1).asLong(0);
-            long minutes = row.path(2).asLong(0);
-            double avgDurationSec = row.path(3).asDouble(0);
-            double avgPercentage = row.path(4).asDouble(0);
-            rows.add(new VideoStatResponse.DailyMetric(date, views, minutes, avgDurationSec, avgPercentage));
-        }
-        return rows;
     }
 
-    private VideoStatResponse.SummaryAnalytics fetchSummaryAnalytics(String accessToken, String videoId) {
-        LocalDate end = LocalDate.now();
-        LocalDate start = end.minusDays(6);
+    private String summaryAnalyticsUri(String videoId, LocalDate start, LocalDate end) {
         String metrics = "impressions,impressionsCtr,views,averageViewDuration,averageViewPercentage,"
                 + "estimatedMinutesWatched,subscribersGained,subscribersLost,likes,comments,shares";
-        String uri = analyticsUri("video", metrics, "video==" + videoId, start, end);
-        JsonNode root = executeAnalytics(accessToken, uri);
-        if (root == null) {
-            return new VideoStatResponse.SummaryAnalytics(0,0,0,0,0,0,0,0,0,0,0);
-        }
-        JsonNode row = root.path("rows").path(0);
-        return new VideoStatResponse.SummaryAnalytics(
-                row.path(1).asLong(0),   // impressions
-                row.path(2).asDouble(0), // impressionsCtr
-                row.path(3).asLong(0),   // views
-                row.path(4).asDouble(0), // avg view duration
-                row.path(5).asDouble(0), // avg view percentage
-                row.path(6).asLong(0),   // est minutes
-                row.path(7).asLong(0),   // subs gained
-                row.path(8).asLong(0),   // subs lost
-                row.path(9).asLong(0),   // likes
-                row.path(10).asLong(0),  // comments
-                row.path(11).asLong(0)   // shares
-        );
+        return analyticsUri("video", metrics, "video==" + videoId, start, end);
     }
 
-    private List<VideoStatResponse.CountryMetric> fetchCountryMetrics(String accessToken, String videoId) {
-        LocalDate end = LocalDate.now();
-        LocalDate start = end.minusDays(6);
-        String uri = analyticsUri("country", "views,impressions,impressionsCtr",
+    private String countryMetricsUri(String videoId, LocalDate start, LocalDate end) {
+        return analyticsUri("country", "views,impressions,impressionsCtr",
                 "video==" + videoId, start, end);
-        JsonNode root = executeAnalytics(accessToken, uri);
-        if (root == null) return List.of();
-        List<VideoStatResponse.CountryMetric> rows = new ArrayList<>();
-        for (JsonNode r : root.path("rows")) {
-            rows.add(new VideoStatResponse.CountryMetric(
-                    r.path(0).asText(),
-                    r.path(1).asLong(0),
-                    r.path(2).asLong(0),
-                    r.path(3).asDouble(0)
-            ));
-        }
-        return rows;
     }
 
-    private List<VideoStatResponse.TrafficMetric> fetchTrafficMetrics(String accessToken, String videoId) {
-        LocalDate end = LocalDate.now();
-        LocalDate start = end.minusDays(6);
-        String uri = analyticsUri("trafficSourceType", "views,impressions,impressionsCtr",
+    private String trafficMetricsUri(String videoId, LocalDate start, LocalDate end) {
+        return analyticsUri("trafficSourceType", "views,impressions,impressionsCtr",
                 "video==" + videoId, start, end);
-        JsonNode root = executeAnalytics(accessToken, uri);
-        if (root == null) return List.of();
-        List<VideoStatResponse.TrafficMetric> rows = new ArrayList<>();
-        for (JsonNode r : root.path("rows")) {
-            rows.add(new VideoStatResponse.TrafficMetric(
-                    r.path(0).asText(),
-                    r.path(1).asLong(0),
-                    r.path(2).asLong(0),
-                    r.path(3).asDouble(0)
-            ));
-        }
-        return rows;
     }
 
-    private List<VideoStatResponse.DeviceMetric> fetchDeviceMetrics(String accessToken, String videoId) {
-        LocalDate end = LocalDate.now();
-        LocalDate start = end.minusDays(6);
-        String uri = analyticsUri("deviceType", "views,impressions,impressionsCtr",
+    private String deviceMetricsUri(String videoId, LocalDate start, LocalDate end) {
+        return analyticsUri("deviceType", "views,impressions,impressionsCtr",
                 "video==" + videoId, start, end);
-        JsonNode root = executeAnalytics(accessToken, uri);
-        if (root == null) return List.of();
-        List<VideoStatResponse.DeviceMetric> rows = new ArrayList<>();
-        for (JsonNode r : root.path("rows")) {
-            rows.add(new VideoStatResponse.DeviceMetric(
-                    r.path(0).asText(),
-                    r.path(1).asLong(0),
-                    r.path(2).asLong(0),
-                    r.path(3).asDouble(0)
-            ));
-        }
-        return rows;
     }
 
-    private List<VideoStatResponse.OsMetric> fetchOsMetrics(String accessToken, String videoId) {
-        LocalDate end = LocalDate.now();
-        LocalDate start = end.minusDays(6);
-        String uri = analyticsUri("operatingSystem", "views,impressions,impressionsCtr",
+    private String osMetricsUri(String videoId, LocalDate start, LocalDate end) {
+        return analyticsUri("operatingSystem", "views,impressions,impressionsCtr",
                 "video==" + videoId, start, end);
-        JsonNode root = executeAnalytics(accessToken, uri);
-        if (root == null) return List.of();
-        List<VideoStatResponse.OsMetric> rows = new ArrayList<>();
-        for (JsonNode r : root.path("rows")) {
-            rows.add(new VideoStatResponse.OsMetric(
-                    r.path(0).asText(),
-                    r.path(1).asLong(0),
-                    r.path(2).asLong(0),
-                    r.path(3).asDouble(0)
-            ));
-        }
-        return rows;
     }
 
-    private List<VideoStatResponse.AgeGenderMetric> fetchAgeGenderMetrics(String accessToken, String videoId) {
-        LocalDate end = LocalDate.now();
-        LocalDate start = end.minusDays(6);
-        String uri = analyticsUri("ageGroup,gender", "viewerPercentage",
+    private String ageGenderMetricsUri(String videoId, LocalDate start, LocalDate end) {
+        return analyticsUri("ageGroup,gender", "viewerPercentage",
                 "video==" + videoId, start, end);
-        JsonNode root = executeAnalytics(accessToken, uri);
-        if (root == null) return List.of();
-        List<VideoStatResponse.AgeGenderMetric> rows = new ArrayList<>();
-        for (JsonNode r : root.path("rows")) {
-            rows.add(new VideoStatResponse.AgeGenderMetric(
-                    r.path(0).asText(),
-                    r.path(1).asText(),
-                    r.path(2).asDouble(0)
-            ));
+    }
+
+    private static <T> List<T> orEmpty(List<T> rows) {
+        return rows != null ? rows : List.of();
+    }
+
+    static VideoStatResponse.SummaryAnalytics toSummaryAnalytics(List<VideoStatResponse.SummaryAnalytics> rows) {
+        if (rows == null || rows.isEmpty()) {
+            return new VideoStatResponse.SummaryAnalytics(0,0,0,0,0,0,0,0,0,0,0);
         }
-        return rows;
+        return rows.get(0);
     }
 
     private String analyticsUri(String dimensions, String metrics, String filters,
                                 LocalDate start, LocalDate end) {
-        StringBuilder sb = new StringBuilder(ANALYTICS_API_REPORTS)
+        StringBuilder sb = new StringBuilder(analyticsApiBaseUrl).append(ANALYTICS_API_REPORTS)
                 .append("?ids=channel==MINE")
                 .append("&startDate=").append(start)
                 .append("&endDate=").append(end)
@@ -295,24 +549,63 @@ public class YoutubeStatsService {
         return sb.toString();
     }
 
-    private JsonNode executeAnalytics(String accessToken, String uri) {
-        HttpRequest request = HttpRequest.newBuilder(URI.create(uri))
-                .header("Authorization", "Bearer " + accessToken)
-                .header("Accept", "application/json")
-                .GET()
-                .build();
+    /**
+     * 429/5xx 는 재시도하고, 그래도 실패하거나 query-deadline 을 넘기면 경고를 남기고 null 을 반환한다(해당 지표는 빈 값으로 채워진다).
+     */
+    private <T> List<T> executeAnalytics(String accessToken, String uri, AnalyticsReport<T> report) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<T> rows = null;
         try {
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            if (response.statusCode() / 100 != 2) {
-                return null;
-            }
-            return objectMapper.readTree(response.body());
-        } catch (IOException | InterruptedException e) {
+            rows = queryAnalytics(accessToken, uri, report).block(queryDeadline);
+            return rows;
+        } catch (WebClientResponseException e) {
+            log.warn("[Analytics] query returned HTTP {} - uri={}", e.getStatusCode().value(), uri);
             return null;
+        } catch (RuntimeException e) {
+            log.warn("[Analytics] query failed - uri={}", uri, e);
+            return null;
+        } finally {
+            sample.stop(analyticsTimer(uri, rows != null ? "success" : "error"));
         }
     }
 
-    private long parseDurationSeconds(String iso8601) {
+    /**
+     * executeAnalytics 의 비동기 버전. 시도마다 query-timeout 안에 응답이 와야 하고, 재시도를 포함해 query-deadline 안에
+     * 끝나지 않거나 실패하면 예외 대신 null 로 완료된다. 응답을 기다리는 동안 스레드를 잡지 않으며, 본문은 모으지 않고
+     * 도착하는 대로 bounded-elastic 스레드에서 읽는다.
+     */
+    private <T> CompletableFuture<List<T>> executeAnalyticsAsync(String accessToken, String uri, AnalyticsReport<T> report) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return queryAnalytics(accessToken, uri, report)
+                .timeout(queryDeadline)
+                .toFuture()
+                .exceptionally(ex -> {
+                    log.warn("[Analytics] query failed - uri={}, error={}", uri, ex.toString());
+                    return null;
+                })
+                .whenComplete((rows, ex) -> sample.stop(analyticsTimer(uri, rows != null ? "success" : "error")));
+    }
+
+    /**
+     * Analytics 쿼리 지연을 dimensions 별로 나눠 기록한다(재시도와 대기 포함).
+     */
+    private Timer analyticsTimer(String uri, String outcome) {
+        String dimensions = UriComponentsBuilder.fromUriString(uri).build().getQueryParams().getFirst("dimensions");
+        return Timer.builder("youtube.analytics.query")
+                .description("YouTube Analytics 쿼리 소요 시간")
+                .tag("dimension", dimensions != null ? dimensions : "none")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Analytics 쿼리 하나. 429/5xx 는 재시도하고, 그래도 2xx 가 아니면 WebClientResponseException 으로 끝난다.
+     */
+    private <T> Mono<List<T>> queryAnalytics(String accessToken, String uri, AnalyticsReport<T> report) {
+        return googleApiClient.get(uri, accessToken, queryTimeout, body -> report.read(objectMapper.getFactory(), body));
+    }
+
+    long parseDurationSeconds(String iso8601) {
         if (!StringUtils.hasText(iso8601)) {
             return 0;
         }
@@ -344,19 +637,35 @@ public class YoutubeStatsService {
         }
     }
 
-    private String refreshAccessToken(Long userId) {
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
-        String refreshToken = user.getRefreshToken();
-        if (refreshToken == null || refreshToken.isBlank()) {
-            if (user.getAccessToken() == null || user.getAccessToken().isBlank()) {
-                throw new IllegalStateException("액세스 토큰이 없습니다. 다시 로그인해주세요.");
-            }
-            return user.getAccessToken();
+    record SnapshotStats(VideoStatResponse stats, boolean complete) {
+    }
+
+    private record StatsKey(Long userId, String videoId, LocalDate start, LocalDate end) {
+    }
+
+    private record BulkKey(Long userId, List<String> videoIds, LocalDate start, LocalDate end) {
+    }
+
+    private record DailyGroup(List<VideoStatResponse.DailyMetric> dailyMetrics,
+                              VideoStatResponse.SummaryAnalytics summaryAnalytics,
+                              boolean complete) {
+
+        int estimatedBytes() {
+            return 256 + dailyMetrics.size() * 64;
+        }
+    }
+
+    private record BreakdownGroup(List<VideoStatResponse.CountryMetric> countryMetrics,
+                                  List<VideoStatResponse.TrafficMetric> trafficMetrics,
+                                  List<VideoStatResponse.DeviceMetric> deviceMetrics,
+                                  List<VideoStatResponse.OsMetric> osMetrics,
+                                  List<VideoStatResponse.AgeGenderMetric> ageGenderMetrics,
+                                  boolean complete) {
+
+        int estimatedBytes() {
+            int rows = countryMetrics.size() + trafficMetrics.size() + deviceMetrics.size()
+                    + osMetrics.size() + ageGenderMetrics.size();
+            return 256 + rows * 64;
         }
-        String newAccess = oAuthService.refreshAccessToken(refreshToken);
-        user.setAccessToken(newAccess);
-        userRepository.save(user);
-        return newAccess;
     }
 }
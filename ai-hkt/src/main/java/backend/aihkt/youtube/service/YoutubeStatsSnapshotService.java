@@ -0,0 +1,173 @@
+package backend.aihkt.youtube.service;
+
+import backend.aihkt.youtube.dto.VideoAnalyticsResponse;
+import backend.aihkt.youtube.dto.VideoStatResponse;
+import backend.aihkt.youtube.entity.VideoDailyMetric;
+import backend.aihkt.youtube.entity.VideoStatSnapshot;
+import backend.aihkt.youtube.repository.VideoDailyMetricRepository;
+import backend.aihkt.youtube.repository.VideoStatSnapshotRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 수집 작업이 적재한 통계 스냅샷을 읽고 쓴다. 조회 API 는 여기서 먼저 찾고, 없거나 오래됐으면 구글 API 를 직접 호출한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class YoutubeStatsSnapshotService {
+
+    private final VideoStatSnapshotRepository snapshotRepository;
+    private final VideoDailyMetricRepository dailyMetricRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${youtube.stats.snapshot.max-age:1d}")
+    private Duration maxAge;
+
+    @Transactional
+    public void save(Long userId, VideoStatResponse stats, LocalDate windowStart, LocalDate windowEnd) {
+        String breakdowns;
+        try {
+            breakdowns = objectMapper.writeValueAsString(new Breakdowns(
+                    stats.summaryAnalytics(),
+                    stats.countryMetrics(),
+                    stats.trafficMetrics(),
+                    stats.deviceMetrics(),
+                    stats.osMetrics(),
+                    stats.ageGenderMetrics()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("통계 스냅샷 직렬화 실패: " + stats.videoId(), e);
+        }
+
+        VideoStatSnapshot snapshot = snapshotRepository.findById(stats.videoId())
+                .orElseGet(() -> VideoStatSnapshot.create(stats.videoId(), userId));
+        snapshot.update(stats.viewCount(), stats.likeCount(), stats.commentCount(), stats.favoriteCount(),
+                stats.durationSeconds(), windowStart, windowEnd, breakdowns, Instant.now());
+        snapshotRepository.save(snapshot);
+
+        Map<LocalDate, VideoDailyMetric> existing = dailyMetricRepository
+                .findByVideoIdAndMetricDateBetweenOrderByMetricDate(stats.videoId(), windowStart, windowEnd)
+                .stream()
+                .collect(Collectors.toMap(VideoDailyMetric::getMetricDate, Function.identity()));
+        for (VideoStatResponse.DailyMetric daily : stats.dailyMetrics()) {
+            LocalDate date = LocalDate.parse(daily.date());
+            VideoDailyMetric metric = existing.computeIfAbsent(date, d -> VideoDailyMetric.create(stats.videoId(), d));
+            metric.update(daily.views(), daily.estimatedMinutesWatched(),
+                    daily.averageViewDurationSeconds(), daily.averageViewPercentage());
+        }
+        dailyMetricRepository.saveAll(existing.values());
+    }
+
+    /**
+     * 해당 사용자의 영상이고 스냅샷이 max-age 안에 적재됐을 때만 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<VideoStatResponse> findVideoStats(Long userId, String videoId) {
+        return snapshotRepository.findById(videoId)
+                .filter(snapshot -> isUsable(snapshot, userId))
+                .flatMap(this::toVideoStatResponse);
+    }
+
+    /**
+     * 요청한 모든 영상의 일별 지표가 기간의 모든 날짜에 쌓여 있을 때만 스냅샷으로 합계를 낸다.
+     * 채널 전체 조회(videoIds 없음)는 이 서비스가 올리지 않은 영상도 포함하므로 항상 비어 있다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<VideoAnalyticsResponse> findBulkAnalytics(Long userId,
+                                                              List<String> videoIds,
+                                                              LocalDate start,
+                                                              LocalDate end) {
+        if (videoIds.isEmpty()) {
+            return Optional.empty();
+        }
+        List<VideoStatSnapshot> snapshots = snapshotRepository.findAllById(videoIds);
+        boolean covered = snapshots.size() == videoIds.size()
+                && snapshots.stream().allMatch(snapshot -> isUsable(snapshot, userId) && !end.isAfter(snapshot.getWindowEnd()));
+        if (!covered) {
+            return Optional.empty();
+        }
+        // 수집이 한동안 멈췄으면 중간 날짜가 비어 합계가 줄어든다. 기간의 모든 날이 있어야 한다.
+        long days = ChronoUnit.DAYS.between(start, end) + 1;
+        List<VideoDailyMetricRepository.Coverage> coverage = dailyMetricRepository.findCoverage(videoIds, start, end);
+        if (coverage.size() != videoIds.size()
+                || coverage.stream().anyMatch(c -> c.getDays() != days)) {
+            return Optional.empty();
+        }
+
+        List<VideoAnalyticsResponse.Row> rows = dailyMetricRepository.sumByVideo(videoIds, start, end).stream()
+                .map(totals -> {
+                    long views = totals.getViews() == null ? 0 : totals.getViews();
+                    double weighted = totals.getWeightedViewDurationSeconds() == null ? 0 : totals.getWeightedViewDurationSeconds();
+                    return new VideoAnalyticsResponse.Row(
+                            totals.getVideoId(),
+                            views,
+                            totals.getEstimatedMinutesWatched() == null ? 0 : totals.getEstimatedMinutesWatched(),
+                            views == 0 ? 0 : weighted / views);
+                })
+                .toList();
+        return Optional.of(new VideoAnalyticsResponse(rows));
+    }
+
+    private boolean isUsable(VideoStatSnapshot snapshot, Long userId) {
+        return snapshot.getUserId().equals(userId)
+                && snapshot.getFetchedAt().isAfter(Instant.now().minus(maxAge));
+    }
+
+    private Optional<VideoStatResponse> toVideoStatResponse(VideoStatSnapshot snapshot) {
+        Breakdowns breakdowns;
+        try {
+            breakdowns = objectMapper.readValue(snapshot.getBreakdowns(), Breakdowns.class);
+        } catch (JsonProcessingException e) {
+            log.warn("[StatsSnapshot] unreadable breakdowns - videoId={}", snapshot.getVideoId(), e);
+            return Optional.empty();
+        }
+        List<VideoStatResponse.DailyMetric> dailyMetrics = dailyMetricRepository
+                .findByVideoIdAndMetricDateBetweenOrderByMetricDate(
+                        snapshot.getVideoId(), snapshot.getWindowStart(), snapshot.getWindowEnd())
+                .stream()
+                .map(metric -> new VideoStatResponse.DailyMetric(
+                        metric.getMetricDate().toString(),
+                        metric.getViews(),
+                        metric.getEstimatedMinutesWatched(),
+                        metric.getAverageViewDurationSeconds(),
+                        metric.getAverageViewPercentage()))
+                .toList();
+        return Optional.of(new VideoStatResponse(
+                snapshot.getVideoId(),
+                snapshot.getViewCount(),
+                snapshot.getLikeCount(),
+                snapshot.getCommentCount(),
+                snapshot.getFavoriteCount(),
+                snapshot.getDurationSeconds(),
+                dailyMetrics,
+                breakdowns.summaryAnalytics(),
+                breakdowns.countryMetrics(),
+                breakdowns.trafficMetrics(),
+                breakdowns.deviceMetrics(),
+                breakdowns.osMetrics(),
+                breakdowns.ageGenderMetrics()));
+    }
+
+    record Breakdowns(VideoStatResponse.SummaryAnalytics summaryAnalytics,
+                      List<VideoStatResponse.CountryMetric> countryMetrics,
+                      List<VideoStatResponse.TrafficMetric> trafficMetrics,
+                      List<VideoStatResponse.DeviceMetric> deviceMetrics,
+                      List<VideoStatResponse.OsMetric> osMetrics,
+                      List<VideoStatResponse.AgeGenderMetric> ageGenderMetrics) {
+    }
+}
@@ -0,0 +1,86 @@
+-- ddl-auto=update 로 만들어 온 기존(Flyway 도입 전) 스키마. 이미 테이블이 있는 DB 는 baseline-on-migrate 로 이 버전만 건너뛰고
+-- V2 부터 적용한다.
+
+create table book (
+    id bigint not null auto_increment,
+    user_id bigint,
+    author varchar(255) not null,
+    title varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table users (
+    id bigint not null,
+    access_token varchar(255),
+    google_id varchar(255),
+    name varchar(255) not null,
+    refresh_token varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table users_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into users_seq ( next_val ) values ( 1 );
+
+create table video (
+    is_activated bit not null,
+    book_id bigint,
+    id varchar(64) not null,
+    resumable_upload_url varchar(2000),
+    youtube_url varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table video_job (
+    id bigint not null,
+    user_id bigint not null,
+    message varchar(1000),
+    author_name varchar(255),
+    title varchar(255),
+    video_id varchar(255),
+    youtube_url varchar(255),
+    status enum ('FAILED','PENDING','PROCESSING','SUCCESS') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table video_job_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into video_job_seq ( next_val ) values ( 1 );
+
+create table youtube_upload_session (
+    content_length bigint,
+    created_at datetime(6) not null,
+    user_id bigint,
+    session_id varchar(64) not null,
+    upload_url varchar(2000) not null,
+    content_type varchar(255),
+    file_name varchar(255),
+    primary key (session_id)
+) engine=InnoDB;
+
+alter table users
+    add constraint UKovh8xmu9ac27t18m56gri58i1 unique (google_id);
+
+alter table book
+    add constraint FK9cv1tt952k857xoia51k1vj12
+    foreign key (user_id)
+    references users (id);
+
+alter table video
+    add constraint FKmtrq3abs4rh2ey6vamq3gq70d
+    foreign key (book_id)
+    references book (id);
+
+alter table video_job
+    add constraint FKrtbo3px4vtjifd2xcomkoq7p1
+    foreign key (user_id)
+    references users (id);
+
+alter table youtube_upload_session
+    add constraint FKgm2ykhqubmy8c06fji3ocwwu5
+    foreign key (user_id)
+    references users (id);
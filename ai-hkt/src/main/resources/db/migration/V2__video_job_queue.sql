@@ -0,0 +1,13 @@
+-- video_job 을 작업 큐로 쓴다: 점유(lease), 재시도 횟수, 생성 시각, 단계와 바이트 진행률.
+-- 기존 작업은 재시도 0회로 보고, 생성 시각과 단계는 비워 둔다.
+alter table video_job add column attempts integer not null default 0;
+alter table video_job add column created_at datetime(6);
+alter table video_job add column lease_owner varchar(100);
+alter table video_job add column lease_expires_at datetime(6);
+alter table video_job add column stage enum ('DOWNLOADING','GENERATING','PERSISTING','QUEUED','UPLOADING','UPLOAD_INIT');
+alter table video_job add column stage_started_at datetime(6);
+alter table video_job add column progress_bytes bigint;
+alter table video_job add column total_bytes bigint;
+
+create index idx_video_job_status_lease
+    on video_job (status, lease_expires_at);
@@ -0,0 +1,7 @@
+-- 끊긴 업로드를 이어서 올리기 위한 세션 정보: YouTube 가 받은 바이트 수, 로컬 파일 경로, 작업 id.
+alter table youtube_upload_session add column committed_offset bigint not null default 0;
+alter table youtube_upload_session add column local_path varchar(1000);
+alter table youtube_upload_session add column video_job_id bigint;
+
+create index idx_youtube_upload_session_video_job
+    on youtube_upload_session (video_job_id);
@@ -0,0 +1,32 @@
+-- 주기적으로 적재하는 영상 통계 스냅샷과 일별 지표.
+create table video_stat_snapshot (
+    window_end date not null,
+    window_start date not null,
+    comment_count bigint not null,
+    duration_seconds bigint not null,
+    favorite_count bigint not null,
+    fetched_at datetime(6) not null,
+    like_count bigint not null,
+    user_id bigint not null,
+    view_count bigint not null,
+    video_id varchar(64) not null,
+    breakdowns mediumtext not null,
+    primary key (video_id)
+) engine=InnoDB;
+
+create table video_daily_metric (
+    average_view_duration_seconds float(53) not null,
+    average_view_percentage float(53) not null,
+    metric_date date not null,
+    estimated_minutes_watched bigint not null,
+    id bigint not null auto_increment,
+    views bigint not null,
+    video_id varchar(64) not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table video_daily_metric
+    add constraint uk_video_daily_metric_video_date unique (video_id, metric_date);
+
+create index idx_video_stat_snapshot_user
+    on video_stat_snapshot (user_id);
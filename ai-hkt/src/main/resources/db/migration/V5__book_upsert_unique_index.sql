@@ -0,0 +1,22 @@
+-- 책 upsert 조회(user_id, title, author)용 유니크 인덱스. 먼저 같은 사용자/제목/저자의 중복 책을 가장 먼저 만든 책으로 합친다.
+create table book_duplicate as
+select b.id as duplicate_id, d.keep_id
+from book b
+         join (select user_id, title, author, min(id) as keep_id
+               from book
+               where user_id is not null
+               group by user_id, title, author
+               having count(*) > 1) d
+              on d.user_id = b.user_id and d.title = b.title and d.author = b.author
+where b.id <> d.keep_id;
+
+update video
+set book_id = (select d.keep_id from book_duplicate d where d.duplicate_id = video.book_id)
+where book_id in (select duplicate_id from book_duplicate);
+
+delete from book
+where id in (select duplicate_id from book_duplicate);
+
+drop table book_duplicate;
+
+create unique index uk_book_user_title_author on book (user_id, title, author);
@@ -0,0 +1,2 @@
+-- 영상 생성 작업 우선순위. 기존 작업은 NORMAL 로 본다.
+alter table video_job add column priority enum ('HIGH','LOW','NORMAL') not null default 'NORMAL';
@@ -0,0 +1,115 @@
+package backend.aihkt;
+
+import backend.aihkt.domain.user.entity.Users;
+import backend.aihkt.domain.user.repository.UserRepository;
+import backend.aihkt.domain.video.entity.VideoJob;
+import backend.aihkt.domain.video.entity.VideoJobPriority;
+import backend.aihkt.domain.video.repository.VideoJobRepository;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마이그레이션으로 만든 스키마가 엔티티와 맞는지(ddl-auto=validate), 기존 DB 가 baseline 이후 버전을 빠짐없이 받는지 확인한다.
+ * MySQL 컨테이너 대신 H2 MySQL 모드에서 MySQL 방언으로 돌린다.
+ */
+@SpringBootTest(properties = {
+        "video.job.worker.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:flyway-fresh;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.username=sa",
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true"
+})
+@TestPropertySource(locations = "classpath:application-test.properties")
+class FlywayMigrationTest {
+
+    @TestConfiguration
+    static class H2TextColumns {
+
+        /**
+         * H2 MySQL 모드는 mediumtext 를 VARCHAR 로 만든다(MySQL 에서는 CLOB). Hibernate 검증 전에 H2 에서만 타입을 맞춘다.
+         */
+        @Bean
+        FlywayMigrationStrategy migrateThenAlignTextColumns(DataSource dataSource) {
+            return flyway -> {
+                flyway.migrate();
+                new JdbcTemplate(dataSource).execute("alter table video_stat_snapshot alter column breakdowns clob not null");
+            };
+        }
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VideoJobRepository videoJobRepository;
+
+    @Test
+    void migratedSchemaMatchesEntities() {
+        // 컨텍스트가 떴다면 Hibernate 검증은 통과했다.
+        assertThat(flyway.info().current().getVersion().getVersion()).isEqualTo(latestVersion());
+        assertThat(flyway.validateWithResult().validationSuccessful).isTrue();
+
+        Users user = userRepository.save(new Users("user", "google-" + UUID.randomUUID(), null, null));
+        VideoJob job = videoJobRepository.save(VideoJob.pending(user, "title", "author", VideoJobPriority.HIGH));
+
+        assertThat(videoJobRepository.findById(job.getId())).get()
+                .extracting(VideoJob::getPriority, VideoJob::getAttempts)
+                .containsExactly(VideoJobPriority.HIGH, 0);
+    }
+
+    @Test
+    void existingDatabaseGetsEveryVersionAfterBaseline() throws Exception {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:flyway-existing;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        // Flyway 도입 전 DB: V1 스키마가 이미 있고 중복 책이 있다.
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V1__baseline.sql"));
+        }
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("insert into users (id, name, google_id) values (1, 'user', 'google-1')");
+        jdbc.update("insert into book (id, user_id, title, author) values (1, 1, 'title', 'author'), (2, 1, 'title', 'author')");
+        jdbc.update("insert into video (id, youtube_url, book_id, is_activated) values ('v1', 'url-1', 1, true), ('v2', 'url-2', 2, true)");
+        jdbc.update("insert into video_job (id, user_id, status) values (1, 1, 'PENDING')");
+
+        MigrateResult result = Flyway.configure()
+                .dataSource(dataSource)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        assertThat(result.migrationsExecuted).isEqualTo(Integer.parseInt(latestVersion()) - 1);
+        assertThat(jdbc.queryForObject("select count(*) from book", Integer.class)).isEqualTo(1);
+        assertThat(jdbc.queryForList("select book_id from video", Long.class)).containsOnly(1L);
+        assertThat(jdbc.queryForMap("select priority, attempts from video_job where id = 1"))
+                .containsEntry("priority", "NORMAL")
+                .containsEntry("attempts", 0);
+        assertThat(jdbc.queryForObject("select count(*) from video_stat_snapshot", Integer.class)).isZero();
+    }
+
+    private String latestVersion() {
+        return flyway.info().all()[flyway.info().all().length - 1].getVersion().getVersion();
+    }
+}
@@ -0,0 +1,44 @@
+package backend.aihkt;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /actuator/prometheus 가 용량 산정에 쓰는 실행기, 커넥션 풀 지표를 application 태그와 함께 내보내는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "video.job.worker.enabled=false",
+        "cors.allowed.origin=http://localhost"
+})
+@TestPropertySource(locations = "classpath:application-test.properties")
+class PrometheusEndpointTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Test
+    void scrapeExposesExecutorAndConnectionPoolMeters() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("executor_active_threads{application=\"ai-hkt-test\",name=\"videoTaskExecutor\"}")
+                .contains("executor_queued_tasks{application=\"ai-hkt-test\",name=\"videoTaskExecutor\"}")
+                .contains("hikaricp_connections_active{application=\"ai-hkt-test\"")
+                .contains("hikaricp_connections_pending{application=\"ai-hkt-test\"")
+                // 커넥션 대기 시간은 백분위 히스토그램으로 나간다.
+                .contains("hikaricp_connections_acquire_seconds_bucket{application=\"ai-hkt-test\"");
+    }
+}
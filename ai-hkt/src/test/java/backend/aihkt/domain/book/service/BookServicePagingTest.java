@@ -0,0 +1,114 @@
+package backend.aihkt.domain.book.service;
+
+import backend.aihkt.domain.book.dto.BookResponse;
+import backend.aihkt.domain.book.entity.Book;
+import backend.aihkt.domain.book.repository.BookRepository;
+import backend.aihkt.domain.user.entity.Users;
+import backend.aihkt.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 책 목록이 cursor 로 겹치거나 빠지는 책 없이 id 내림차순으로 이어지고, 마지막 페이지에서 nextCursor 가 비는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "video.job.worker.enabled=false",
+        "book.page.default-size=3",
+        "book.page.max-size=4",
+        "spring.datasource.url=jdbc:h2:mem:book-paging" // 다른 테스트 컨텍스트가 만든 책과 섞이지 않게
+})
+@TestPropertySource(locations = "classpath:application-test.properties")
+class BookServicePagingTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Users user;
+    private List<Long> userBookIds;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository.deleteAll();
+        user = userRepository.save(new Users("reader", "google-" + UUID.randomUUID(), null, null));
+        Users other = userRepository.save(new Users("other", "google-" + UUID.randomUUID(), null, null));
+        userBookIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            userBookIds.add(0, bookRepository.save(Book.create("title-" + i, "author", user)).getId());
+            bookRepository.save(Book.create("other-" + i, "author", other));
+        }
+    }
+
+    @Test
+    void pagesThroughUserBooksByDescendingId() {
+        BookResponse.BookPage first = bookService.getBooks(user.getId(), null, 2);
+        BookResponse.BookPage second = bookService.getBooks(user.getId(), first.nextCursor(), 2);
+        BookResponse.BookPage last = bookService.getBooks(user.getId(), second.nextCursor(), 2);
+
+        assertThat(first.books()).hasSize(2);
+        assertThat(first.nextCursor()).isEqualTo(first.books().get(1).id());
+        assertThat(second.books()).hasSize(2);
+        assertThat(last.books()).hasSize(1);
+        assertThat(last.nextCursor()).isNull();
+
+        List<Long> ids = new ArrayList<>();
+        for (BookResponse.BookPage page : List.of(first, second, last)) {
+            page.books().forEach(book -> {
+                assertThat(book.userId()).isEqualTo(user.getId());
+                ids.add(book.id());
+            });
+        }
+        assertThat(ids).isEqualTo(userBookIds);
+    }
+
+    @Test
+    void exactlyFullLastPageHasNoNextCursor() {
+        BookResponse.BookPage first = bookService.getBooks(user.getId(), null, 4);
+        BookResponse.BookPage last = bookService.getBooks(user.getId(), first.nextCursor(), 1);
+
+        assertThat(last.books()).extracting(BookResponse.BookInfo::id).containsExactly(userBookIds.get(4));
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    void sizeIsClampedToConfiguredBounds() {
+        assertThat(bookService.getBooks(null, null, null).books()).hasSize(3);
+        assertThat(bookService.getBooks(null, null, 1000).books()).hasSize(4);
+        assertThat(bookService.getBooks(null, null, 0).books()).hasSize(1);
+    }
+
+    @Test
+    void allBooksPageIncludesEveryUser() {
+        List<Long> ids = new ArrayList<>();
+        Long cursor = null;
+        do {
+            BookResponse.BookPage page = bookService.getBooks(null, cursor, 4);
+            page.books().forEach(book -> ids.add(book.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(ids).hasSize(10).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+
+    @Test
+    void unknownUserIsRejected() {
+        assertThatThrownBy(() -> bookService.getBooks(-1L, null, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("사용자를 찾을 수 없습니다");
+    }
+}
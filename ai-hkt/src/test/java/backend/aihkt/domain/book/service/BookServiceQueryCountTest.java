@@ -0,0 +1,153 @@
+package backend.aihkt.domain.book.service;
+
+import backend.aihkt.domain.book.dto.BookResponse;
+import backend.aihkt.domain.book.entity.Book;
+import backend.aihkt.domain.book.repository.BookRepository;
+import backend.aihkt.domain.user.entity.Users;
+import backend.aihkt.domain.user.repository.UserRepository;
+import backend.aihkt.domain.video.entity.Video;
+import backend.aihkt.domain.video.repository.VideoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 책 목록 조회가 결과 크기와 상관없이 같은 수의 쿼리로 끝나는지(사용자 N+1 이 없는지) Hibernate 통계로 확인한다.
+ * 통계는 SessionFactory 전체 값이므로 주기적으로 쿼리하는 작업 워커와 최근 책 갱신은 멈춘다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "video.job.worker.enabled=false",
+        "book.recent.refresh-interval=1h"
+})
+@TestPropertySource(locations = "classpath:application-test.properties")
+class BookServiceQueryCountTest {
+
+    private static final int BOOKS = 60;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private RecentBooks recentBooks;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Users owner = userRepository.save(new Users("owner", "google-" + UUID.randomUUID(), null, null));
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < BOOKS; i++) {
+            // 사용자 프록시가 여러 개 생기도록 다른 사용자의 책을 섞는다.
+            Users user = i % 2 == 0
+                    ? owner
+                    : userRepository.save(new Users("reader-" + i, "google-" + UUID.randomUUID(), null, null));
+            books.add(Book.create("title-" + i, "author", user));
+        }
+        bookRepository.saveAll(books);
+        userId = owner.getId();
+    }
+
+    @Test
+    void globalPageUsesSingleQueryRegardlessOfSize() {
+        long one = countQueries(() -> bookService.getBooks(null, null, 1));
+        long many = countQueries(() -> bookService.getBooks(null, null, 50));
+
+        assertThat(one).isEqualTo(1);
+        assertThat(many).isEqualTo(one);
+    }
+
+    @Test
+    void userPageQueryCountDoesNotGrowWithSize() {
+        long one = countQueries(() -> bookService.getBooks(userId, null, 1));
+        long many = countQueries(() -> bookService.getBooks(userId, null, BOOKS / 2));
+
+        assertThat(one).isEqualTo(2); // 사용자 존재 확인 + 목록
+        assertThat(many).isEqualTo(one);
+    }
+
+    @Test
+    void recentBooksAreServedFromMemory() {
+        assertThat(countQueries(() -> bookService.getRecentBooks(null))).isZero();
+        assertThat(countQueries(() -> bookService.getRecentBooks(userId))).isEqualTo(2); // 처음 한 번만 DB
+        assertThat(countQueries(() -> bookService.getRecentBooks(userId))).isZero();
+    }
+
+    @Test
+    void createdBookIsWrittenThroughToRecentBooks() {
+        bookService.getRecentBooks(userId);
+        Book created = bookRepository.save(Book.create("new-title", "author", userRepository.getReferenceById(userId)));
+        recentBooks.added(created);
+
+        statistics.clear();
+        List<BookResponse.BookInfo> global = bookService.getRecentBooks(null);
+        List<BookResponse.BookInfo> mine = bookService.getRecentBooks(userId);
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(global.get(0).id()).isEqualTo(created.getId());
+        assertThat(mine).hasSize(RecentBooks.SIZE);
+        assertThat(mine.get(0)).isEqualTo(new BookResponse.BookInfo(created.getId(), "new-title", "author", userId));
+    }
+
+    @Test
+    void listingDoesNotLoadEntities() {
+        statistics.clear();
+        BookResponse.BookPage page = bookService.getBooks(userId, null, BOOKS / 2);
+
+        assertThat(page.books()).hasSize(BOOKS / 2).allSatisfy(book -> assertThat(book.userId()).isEqualTo(userId));
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    void youtubeUrlsForManyBooksUseSingleQuery() {
+        List<Long> bookIds = bookService.getBooks(userId, null, 10).books().stream()
+                .map(BookResponse.BookInfo::id)
+                .toList();
+        Book withVideos = bookRepository.findById(bookIds.get(0)).orElseThrow();
+        videoRepository.saveAll(List.of(
+                Video.create("video-a-" + withVideos.getId(), "https://www.youtube.com/shorts/a", null, withVideos, true),
+                Video.create("video-b-" + withVideos.getId(), "https://www.youtube.com/shorts/b", null, withVideos, true)));
+
+        statistics.clear();
+        List<BookResponse.BookWithUrls> books = bookService.getYoutubeUrlsByBookIds(bookIds);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(books).extracting(BookResponse.BookWithUrls::id).containsExactlyElementsOf(bookIds);
+        assertThat(books.get(0).videos()).hasSize(2);
+        assertThat(books.subList(1, books.size())).allSatisfy(book -> assertThat(book.videos()).isEmpty());
+    }
+
+    private long countQueries(Supplier<?> call) {
+        statistics.clear();
+        call.get();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,77 @@
+package backend.aihkt.domain.book.service;
+
+import backend.aihkt.domain.book.entity.Book;
+import backend.aihkt.domain.book.repository.BookRepository;
+import backend.aihkt.domain.user.entity.Users;
+import backend.aihkt.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 책으로 끝난 작업들이 동시에 getOrCreate 해도 책이 한 권만 생기는지 확인한다.
+ */
+@SpringBootTest(properties = "video.job.worker.enabled=false")
+@TestPropertySource(locations = "classpath:application-test.properties")
+class BookUpsertConcurrencyTest {
+
+    private static final int JOBS = 16;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void parallelJobsForSameBookCreateSingleRow() throws Exception {
+        Users user = userRepository.save(new Users("user", "google-" + UUID.randomUUID(), null, null));
+        String title = "title-" + UUID.randomUUID();
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(JOBS)) {
+            for (int i = 0; i < JOBS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return bookService.getOrCreate(user, title, "author").getId();
+                }));
+            }
+            start.countDown();
+
+            Long bookId = results.get(0).get();
+            for (Future<Long> result : results) {
+                assertThat(result.get()).isEqualTo(bookId);
+            }
+        }
+
+        assertThat(bookRepository.findAll())
+                .filteredOn(book -> book.getTitle().equals(title))
+                .hasSize(1);
+    }
+
+    @Test
+    void uniqueConstraintRejectsDuplicateInsert() {
+        Users user = userRepository.save(new Users("user", "google-" + UUID.randomUUID(), null, null));
+        bookRepository.save(Book.create("duplicate", "author", user));
+
+        assertThatThrownBy(() -> bookRepository.save(Book.create("duplicate", "author", user)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -0,0 +1,179 @@
+package backend.aihkt.domain.video.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 책의 트레일러 요청이 생성 한 번으로 합쳐지고, 캐시가 크기 안에서 오래 쓰지 않은 파일부터 밀어내는지 확인한다.
+ */
+class TrailerStoreTest {
+
+    private static final int JOBS = 8;
+
+    @TempDir
+    private Path dir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TrailerStore store;
+    private final AtomicInteger generations = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = newStore(DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    void concurrentRequestsForSameBookShareOneGeneration() throws Exception {
+        String key = store.key("title", "author");
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch generating = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(JOBS)) {
+            for (int i = 0; i < JOBS; i++) {
+                Path target = dir.resolve("work/trailer_" + i + ".mp4");
+                results.add(executor.submit(() -> {
+                    start.await();
+                    store.obtain(key, target, file -> {
+                        generating.countDown();
+                        sleep(200); // 나머지 작업이 진행 중인 생성을 만나도록 잡아 둔다.
+                        write(file, "video");
+                    });
+                    return null;
+                }));
+            }
+            start.countDown();
+            assertThat(generating.await(5, TimeUnit.SECONDS)).isTrue();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        }
+
+        assertThat(generations).hasValue(1);
+        for (int i = 0; i < JOBS; i++) {
+            assertThat(dir.resolve("work/trailer_" + i + ".mp4")).hasContent("video");
+        }
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("hit") + count("coalesced")).isEqualTo(JOBS - 1);
+    }
+
+    @Test
+    void normalizedTitleAndAuthorReuseCachedTrailer() {
+        store.obtain(store.key("The  Little Prince", "Saint-Exupéry"), dir.resolve("work/a.mp4"), file -> write(file, "video"));
+        store.obtain(store.key(" the little prince ", "SAINT-EXUPÉRY"), dir.resolve("work/b.mp4"), file -> write(file, "other"));
+
+        assertThat(generations).hasValue(1);
+        assertThat(dir.resolve("work/b.mp4")).hasContent("video");
+    }
+
+    @Test
+    void generatorVersionChangesKey() {
+        String before = store.key("title", "author");
+        ReflectionTestUtils.setField(store, "generatorVersion", "2");
+
+        assertThat(store.key("title", "author")).isNotEqualTo(before);
+    }
+
+    @Test
+    void cacheEvictsLeastRecentlyUsedTrailer() {
+        store = newStore(DataSize.ofBytes(10));
+        Path target = dir.resolve("work/trailer.mp4");
+        store.obtain("a", target, file -> write(file, "aaaa"));
+        store.obtain("b", target, file -> write(file, "bbbb"));
+        store.obtain("a", target, file -> write(file, "xxxx")); // a 를 최근에 쓴 것으로
+        store.obtain("c", target, file -> write(file, "cccc"));
+
+        assertThat(generations).hasValue(3);
+        assertThat(store.copyIfCached("a", target)).isTrue();
+        assertThat(store.copyIfCached("b", target)).isFalse();
+        assertThat(store.copyIfCached("c", target)).isTrue();
+    }
+
+    @Test
+    void evictionDoesNotRemoveTrailerInUseByJob() {
+        store = newStore(DataSize.ofBytes(4));
+        Path inUse = dir.resolve("work/trailer_1.mp4");
+        store.obtain("a", inUse, file -> write(file, "aaaa"));
+        store.obtain("b", dir.resolve("work/trailer_2.mp4"), file -> write(file, "bbbb"));
+
+        assertThat(store.copyIfCached("a", dir.resolve("work/trailer_3.mp4"))).isFalse();
+        assertThat(inUse).hasContent("aaaa");
+    }
+
+    @Test
+    void cacheSurvivesRestartAndDropsPartialFiles() throws IOException {
+        store.obtain("a", dir.resolve("work/trailer.mp4"), file -> write(file, "aaaa"));
+        Files.writeString(dir.resolve("cache/b.0.part"), "bb");
+
+        TrailerStore restarted = newStore(DataSize.ofMegabytes(1));
+
+        assertThat(restarted.copyIfCached("a", dir.resolve("work/restarted.mp4"))).isTrue();
+        assertThat(dir.resolve("cache/b.0.part")).doesNotExist();
+    }
+
+    @Test
+    void failedGenerationIsNotCachedAndCanBeRetried() {
+        Path target = dir.resolve("work/trailer.mp4");
+
+        assertThatThrownBy(() -> store.obtain("a", target, file -> {
+            generations.incrementAndGet();
+            throw new IllegalStateException("트레일러 생성 API 실패: HTTP 500");
+        })).hasMessageContaining("HTTP 500");
+        store.obtain("a", target, file -> write(file, "aaaa"));
+
+        assertThat(generations).hasValue(2);
+        assertThat(target).hasContent("aaaa");
+        assertThat(dir.resolve("cache")).isDirectoryNotContaining("glob:**.part");
+    }
+
+    private TrailerStore newStore(DataSize maxSize) {
+        TrailerStore trailerStore = new TrailerStore(meterRegistry);
+        ReflectionTestUtils.setField(trailerStore, "enabled", true);
+        ReflectionTestUtils.setField(trailerStore, "cacheDir", dir.resolve("cache"));
+        ReflectionTestUtils.setField(trailerStore, "maxSize", maxSize);
+        ReflectionTestUtils.setField(trailerStore, "generatorVersion", "1");
+        trailerStore.init();
+        return trailerStore;
+    }
+
+    private void write(Path file, String content) {
+        generations.incrementAndGet();
+        try {
+            Files.writeString(file, content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("video.trailer.cache", "result", result).count();
+    }
+}
@@ -0,0 +1,225 @@
+package backend.aihkt.domain.video.service;
+
+import backend.aihkt.domain.user.entity.Users;
+import backend.aihkt.domain.user.repository.UserRepository;
+import backend.aihkt.domain.video.controller.VideoController;
+import backend.aihkt.domain.video.entity.VideoJob;
+import backend.aihkt.domain.video.entity.VideoJobStatus;
+import backend.aihkt.domain.video.repository.VideoJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 처리량보다 많은 POST /videos 가 몰려도 한도 안에서만 접수하고, 나머지는 5xx 없이 429 + Retry-After 로 돌려보내며,
+ * 접수 속도가 작업 완료 속도를 따라가는지 확인한다. 워커는 끄고 테스트가 작업을 직접 완료시켜 처리 속도를 정한다.
+ */
+@SpringBootTest(properties = {
+        "video.job.worker.enabled=false",
+        "video.job.admission.max-active=" + VideoJobAdmissionLoadTest.MAX_ACTIVE,
+        "video.job.admission.max-active-per-user=" + VideoJobAdmissionLoadTest.MAX_PER_USER,
+        "video.job.admission.max-active-per-user-batch=" + VideoJobAdmissionLoadTest.MAX_PER_USER, // max-active 보다 작아야 한다
+        "video.job.admission.rate-window=10s",
+        "spring.datasource.url=jdbc:h2:mem:video-job-admission" // 다른 테스트 컨텍스트가 만든 작업이 한도에 섞이지 않게
+})
+@TestPropertySource(locations = "classpath:application-test.properties")
+class VideoJobAdmissionLoadTest {
+
+    static final int MAX_ACTIVE = 30;
+    static final int MAX_PER_USER = 3;
+
+    private static final int USERS = 8;
+    private static final int REQUESTS_PER_USER = 20;
+    private static final List<VideoJobStatus> ACTIVE = List.of(VideoJobStatus.PENDING, VideoJobStatus.PROCESSING);
+
+    @Autowired
+    private VideoController videoController;
+
+    @Autowired
+    private VideoJobRepository videoJobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(videoController).build();
+        videoJobRepository.deleteAll();
+    }
+
+    @Test
+    void burstIsAdmittedOnlyUpToPerUserLimit() throws Exception {
+        List<Long> userIds = createUsers(USERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MockHttpServletResponse>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(32)) {
+            for (Long userId : userIds) {
+                for (int i = 0; i < REQUESTS_PER_USER; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return submit(userId);
+                    }));
+                }
+            }
+            start.countDown();
+
+            int accepted = 0;
+            for (Future<MockHttpServletResponse> result : results) {
+                MockHttpServletResponse response = result.get();
+                assertThat(response.getStatus()).isIn(202, 429);
+                if (response.getStatus() == 202) {
+                    accepted++;
+                } else {
+                    assertThat(Long.parseLong(response.getHeader(HttpHeaders.RETRY_AFTER))).isPositive();
+                }
+            }
+            assertThat(accepted).isEqualTo(USERS * MAX_PER_USER);
+        }
+        for (Long userId : userIds) {
+            assertThat(videoJobRepository.countByUser_IdAndStatusIn(userId, ACTIVE)).isEqualTo(MAX_PER_USER);
+        }
+    }
+
+    @Test
+    void globalLimitRejectsWhenAllSlotsAreTaken() throws Exception {
+        List<Long> userIds = createUsers(MAX_ACTIVE / MAX_PER_USER + 1);
+        int accepted = 0;
+        int rejected = 0;
+        for (Long userId : userIds) {
+            for (int i = 0; i < MAX_PER_USER; i++) {
+                if (submit(userId).getStatus() == 202) {
+                    accepted++;
+                } else {
+                    rejected++;
+                }
+            }
+        }
+
+        assertThat(accepted).isEqualTo(MAX_ACTIVE);
+        assertThat(rejected).isEqualTo(MAX_PER_USER);
+        assertThat(videoJobRepository.countByStatusIn(ACTIVE)).isEqualTo(MAX_ACTIVE);
+    }
+
+    /**
+     * 사용자마다 클라이언트가 429 를 무시하고 계속 보내는 동안 작업을 일정한 속도로 끝낸다. 접수는 완료 수 + 한도를 넘지 않고,
+     * 대기열은 비지 않으며(완료 속도만큼 계속 접수), 그 사이 사용자별 한도를 넘는 순간이 없어야 한다.
+     */
+    @Test
+    void admissionsTrackDrainRateUnderOverload() throws Exception {
+        List<Long> userIds = createUsers(USERS);
+        Map<Long, AtomicInteger> admitted = new ConcurrentHashMap<>();
+        Set<Integer> statuses = ConcurrentHashMap.newKeySet();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger maxUserActive = new AtomicInteger();
+        Duration duration = Duration.ofSeconds(3);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(USERS + 1)) {
+            List<Future<?>> clients = new ArrayList<>();
+            for (Long userId : userIds) {
+                clients.add(executor.submit(() -> {
+                    while (running.get()) {
+                        MockHttpServletResponse response = submit(userId);
+                        statuses.add(response.getStatus());
+                        if (response.getStatus() == 202) {
+                            admitted.computeIfAbsent(userId, id -> new AtomicInteger()).incrementAndGet();
+                        } else {
+                            Thread.sleep(5);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            Future<?> drainer = executor.submit(() -> {
+                while (running.get()) {
+                    for (Long userId : userIds) {
+                        maxUserActive.accumulateAndGet(
+                                (int) videoJobRepository.countByUser_IdAndStatusIn(userId, ACTIVE), Math::max);
+                    }
+                    if (completeOldest()) {
+                        completed.incrementAndGet();
+                    }
+                    Thread.sleep(20);
+                }
+                return null;
+            });
+
+            Thread.sleep(duration.toMillis());
+            running.set(false);
+            drainer.get();
+            for (Future<?> client : clients) {
+                client.get();
+            }
+        }
+
+        int totalAdmitted = admitted.values().stream().mapToInt(AtomicInteger::get).sum();
+        assertThat(statuses).containsOnly(202, 429);
+        assertThat(maxUserActive.get()).isLessThanOrEqualTo(MAX_PER_USER);
+        assertThat(completed.get()).isPositive();
+        assertThat(totalAdmitted).isBetween(completed.get(), completed.get() + USERS * MAX_PER_USER);
+        assertThat(admitted).hasSize(USERS); // 모든 사용자가 처리 기회를 얻었다
+
+        // 완료 속도를 알게 됐으니 Retry-After 는 기본값(30s)이 아니라 남은 작업이 빠지는 시간으로 계산된다.
+        // 마지막 완료 뒤 다시 채우기 전에 멈췄을 수 있으므로 한도까지 채운 뒤 확인한다.
+        MockHttpServletResponse rejected;
+        do {
+            rejected = submit(userIds.get(0));
+        } while (rejected.getStatus() == 202);
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(rejected.getHeader(HttpHeaders.RETRY_AFTER))).isBetween(1L, 5L);
+    }
+
+    private boolean completeOldest() {
+        for (VideoJob job : videoJobRepository.findAll(Sort.by("id"))) {
+            if (job.getStatus() == VideoJobStatus.PENDING) {
+                job.markSuccess("video-" + job.getId(), "https://www.youtube.com/shorts/" + job.getId());
+                videoJobRepository.save(job);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private MockHttpServletResponse submit(Long userId) throws Exception {
+        return mockMvc.perform(post("/videos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":" + userId + ",\"title\":\"title\",\"authorName\":\"author\"}"))
+                .andReturn()
+                .getResponse();
+    }
+
+    private List<Long> createUsers(int count) {
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            userIds.add(userRepository.save(new Users("user-" + i, "google-" + UUID.randomUUID(), null, null)).getId());
+        }
+        return userIds;
+    }
+}
@@ -0,0 +1,119 @@
+package backend.aihkt.domain.video.service;
+
+import backend.aihkt.domain.user.entity.Users;
+import backend.aihkt.domain.user.repository.UserRepository;
+import backend.aihkt.domain.video.dto.VideoRequest;
+import backend.aihkt.domain.video.dto.VideoResponse;
+import backend.aihkt.domain.video.entity.VideoJob;
+import backend.aihkt.domain.video.entity.VideoJobPriority;
+import backend.aihkt.domain.video.entity.VideoJobStatus;
+import backend.aihkt.domain.video.repository.VideoJobRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 일괄 접수가 사용자를 한 번만 읽고 작업 행을 JDBC 배치로 넣는지, 한도를 넘으면 하나도 넣지 않는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "video.job.worker.enabled=false",
+        "video.job.admission.max-active-per-user-batch=" + VideoJobBatchTest.BOOKS,
+        "video.job.batch.max-size=" + VideoJobBatchTest.BOOKS,
+        "spring.datasource.url=jdbc:h2:mem:video-job-batch" // 다른 테스트 컨텍스트가 만든 작업이 한도에 섞이지 않게
+})
+@TestPropertySource(locations = "classpath:application-test.properties")
+class VideoJobBatchTest {
+
+    static final int BOOKS = 120;
+
+    @Autowired
+    private VideoService videoService;
+
+    @Autowired
+    private VideoJobRepository videoJobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        videoJobRepository.deleteAll();
+        userId = userRepository.save(new Users("catalog", "google-" + UUID.randomUUID(), null, null)).getId();
+    }
+
+    @Test
+    void batchInsertsAllJobsInFewStatements() {
+        List<VideoRequest.Book> books = books(BOOKS);
+
+        statistics.clear();
+        VideoResponse.CreateBatch result = videoService.createVideosBatch(userId, books, VideoJobPriority.LOW);
+
+        assertThat(result.jobs()).hasSize(BOOKS)
+                .allSatisfy(job -> assertThat(job.status()).isEqualTo(VideoJobStatus.PENDING));
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(BOOKS);
+        // 사용자 조회 1 + 사용자 행 잠금 1 + 접수 한도 확인 2 + ID 블록(50개씩) 3 + insert 배치(50개씩) 3
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(10);
+
+        List<Long> jobIds = result.jobs().stream().map(VideoResponse.CreateJob::jobId).toList();
+        List<VideoJob> saved = videoJobRepository.findAllById(jobIds);
+        assertThat(saved).hasSize(BOOKS)
+                .allSatisfy(job -> assertThat(job.getPriority()).isEqualTo(VideoJobPriority.LOW));
+        assertThat(jobIds).isSorted(); // 요청 순서대로
+        assertThat(videoJobRepository.findById(jobIds.get(7)).orElseThrow().getTitle()).isEqualTo("title-7");
+    }
+
+    @Test
+    void batchOverLimitInsertsNothing() {
+        videoService.createVideosBatch(userId, books(BOOKS - 1), null);
+
+        assertThatThrownBy(() -> videoService.createVideosBatch(userId, books(2), null))
+                .isInstanceOf(VideoJobAdmission.Rejected.class);
+        assertThat(videoJobRepository.count()).isEqualTo(BOOKS - 1);
+    }
+
+    @Test
+    void otherUsersAreStillAdmittedAfterOneUserFillsBatchAllowance() {
+        videoService.createVideosBatch(userId, books(BOOKS), null);
+        assertThatThrownBy(() -> videoService.createVideosBatch(userId, books(1), null))
+                .isInstanceOf(VideoJobAdmission.Rejected.class);
+
+        Long otherUserId = userRepository.save(new Users("other", "google-" + UUID.randomUUID(), null, null)).getId();
+
+        assertThat(videoService.createVideos(otherUserId, "title", "author", null).status())
+                .isEqualTo(VideoJobStatus.PENDING);
+        assertThat(videoService.createVideosBatch(otherUserId, books(2), null).jobs()).hasSize(2);
+    }
+
+    @Test
+    void unknownUserIsRejected() {
+        assertThatThrownBy(() -> videoService.createVideosBatch(-1L, books(1), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("사용자를 찾을 수 없습니다");
+    }
+
+    private static List<VideoRequest.Book> books(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new VideoRequest.Book("title-" + i, "author"))
+                .toList();
+    }
+}
@@ -0,0 +1,137 @@
+package backend.aihkt.domain.video.service;
+
+import backend.aihkt.domain.user.entity.Users;
+import backend.aihkt.domain.user.repository.UserRepository;
+import backend.aihkt.domain.video.entity.VideoJob;
+import backend.aihkt.domain.video.entity.VideoJobPriority;
+import backend.aihkt.domain.video.repository.VideoJobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작업을 많이 넣은 사용자가 다른 사용자의 작업을 뒤로 밀지 않고, 우선순위가 높은 작업이 같은 몫으로 더 자주 뽑히는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "video.job.worker.enabled=false",
+        "video.job.scheduler.scan-size=" + VideoJobQueueFairnessTest.SCAN_SIZE,
+        "spring.datasource.url=jdbc:h2:mem:video-job-fairness" // 다른 테스트 컨텍스트가 만든 사용자/작업과 섞이지 않게
+})
+@TestPropertySource(locations = "classpath:application-test.properties")
+class VideoJobQueueFairnessTest {
+
+    static final int SCAN_SIZE = 20;
+
+    @Autowired
+    private VideoJobQueue videoJobQueue;
+
+    @Autowired
+    private VideoJobRepository videoJobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        videoJobRepository.deleteAll();
+    }
+
+    @Test
+    void heavyUserDoesNotBlockOthers() {
+        Users heavy = createUser();
+        List<Long> heavyJobs = submit(heavy, 10, VideoJobPriority.NORMAL);
+        List<Long> lightJobs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            lightJobs.addAll(submit(createUser(), 1, VideoJobPriority.NORMAL));
+        }
+
+        List<Long> first = videoJobQueue.claim(4);
+        assertThat(first).containsExactlyInAnyOrder(heavyJobs.get(0), lightJobs.get(0), lightJobs.get(1), lightJobs.get(2));
+
+        // 실행 중인 작업도 몫에 들어가므로, 새로 들어온 사용자가 이미 한 자리를 쓰는 사용자보다 먼저다.
+        Long latecomer = submit(createUser(), 1, VideoJobPriority.NORMAL).get(0);
+        assertThat(videoJobQueue.claim(1)).containsExactly(latecomer);
+        assertThat(videoJobQueue.claim(2)).containsExactly(heavyJobs.get(1), heavyJobs.get(2));
+    }
+
+    @Test
+    void userWithMoreJobsThanScanSizeDoesNotHideOthers() {
+        Users heavy = createUser();
+        List<Long> heavyJobs = submit(heavy, SCAN_SIZE * 2, VideoJobPriority.NORMAL);
+        Long light = submit(createUser(), 1, VideoJobPriority.NORMAL).get(0);
+
+        assertThat(videoJobQueue.claim(2)).containsExactlyInAnyOrder(heavyJobs.get(0), light);
+        // 후보로만 읽힌 작업은 점유되지 않고 대기 중으로 남는다.
+        assertThat(videoJobRepository.findById(heavyJobs.get(1)).orElseThrow().getLeaseOwner()).isNull();
+    }
+
+    @Test
+    void higherPriorityGetsLargerShare() {
+        Users low = createUser();
+        Users high = createUser();
+        List<Long> lowJobs = submit(low, 4, VideoJobPriority.LOW); // 먼저 들어왔어도
+        List<Long> highJobs = submit(high, 4, VideoJobPriority.HIGH);
+
+        // HIGH cost 1, LOW cost 4: 한 사용자의 LOW 하나가 다른 사용자의 HIGH 넷과 같은 몫이다.
+        assertThat(videoJobQueue.claim(5)).containsExactlyInAnyOrder(
+                highJobs.get(0), highJobs.get(1), highJobs.get(2), highJobs.get(3), lowJobs.get(0));
+    }
+
+    @Test
+    void lowPriorityIsNotStarved() {
+        Users low = createUser();
+        Users high = createUser();
+        Long lowJob = submit(low, 1, VideoJobPriority.LOW).get(0);
+        submit(high, 10, VideoJobPriority.HIGH);
+
+        assertThat(videoJobQueue.claim(5)).contains(lowJob);
+    }
+
+    @Test
+    void sameUserRunsHigherPriorityFirst() {
+        Users user = createUser();
+        List<Long> normal = submit(user, 2, VideoJobPriority.NORMAL);
+        List<Long> high = submit(user, 1, VideoJobPriority.HIGH);
+
+        assertThat(videoJobQueue.claim(2)).containsExactly(high.get(0), normal.get(0));
+    }
+
+    @Test
+    void queueWaitIsRecordedPerPriority() {
+        submit(createUser(), 1, VideoJobPriority.HIGH);
+        long before = waitCount("high");
+
+        videoJobQueue.claim(1);
+
+        assertThat(waitCount("high")).isEqualTo(before + 1);
+    }
+
+    private long waitCount(String priority) {
+        var timer = meterRegistry.find("video.job.queue.wait").tag("priority", priority).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private List<Long> submit(Users user, int count, VideoJobPriority priority) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(videoJobRepository.save(VideoJob.pending(user, "title-" + i, "author", priority)).getId());
+        }
+        return ids;
+    }
+
+    private Users createUser() {
+        return userRepository.save(new Users("user", "google-" + UUID.randomUUID(), null, null));
+    }
+}
@@ -0,0 +1,164 @@
+package backend.aihkt.domain.video.service;
+
+import backend.aihkt.domain.user.entity.Users;
+import backend.aihkt.domain.user.repository.UserRepository;
+import backend.aihkt.domain.video.entity.VideoJob;
+import backend.aihkt.domain.video.entity.VideoJobPriority;
+import backend.aihkt.domain.video.entity.VideoJobStage;
+import backend.aihkt.domain.video.entity.VideoJobStatus;
+import backend.aihkt.domain.video.repository.VideoJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리스가 살아 있는 작업은 다시 점유되지 않고, 만료되면 회수되며, 하트비트는 자기 리스만 연장하고,
+ * 재시도 한도를 넘긴 작업은 실패 처리되는지 확인한다. 다른 노드의 점유나 시간 경과는 행을 직접 고쳐서 흉내 낸다.
+ */
+@SpringBootTest(properties = {
+        "video.job.worker.enabled=false",
+        "video.job.lease-duration=2m",
+        "video.job.max-attempts=3",
+        "spring.datasource.url=jdbc:h2:mem:video-job-lease" // 다른 테스트 컨텍스트가 만든 작업과 섞이지 않게
+})
+@TestPropertySource(locations = "classpath:application-test.properties")
+class VideoJobQueueLeaseTest {
+
+    @Autowired
+    private VideoJobQueue videoJobQueue;
+
+    @Autowired
+    private VideoJobRepository videoJobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Users user;
+
+    @BeforeEach
+    void setUp() {
+        videoJobRepository.deleteAll();
+        user = userRepository.save(new Users("user", "google-" + UUID.randomUUID(), null, null));
+    }
+
+    @Test
+    void liveLeaseIsNotClaimedTwice() {
+        Long jobId = submit();
+
+        assertThat(videoJobQueue.claim(1)).containsExactly(jobId);
+        assertThat(videoJobQueue.claim(1)).isEmpty();
+
+        VideoJob job = find(jobId);
+        assertThat(job.getStatus()).isEqualTo(VideoJobStatus.PROCESSING);
+        assertThat(job.getAttempts()).isEqualTo(1);
+        assertThat(job.getLeaseExpiresAt()).isAfter(Instant.now().plus(Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void expiredLeaseOfDeadNodeIsReclaimed() {
+        Long jobId = submit();
+        videoJobQueue.claim(1);
+        String owner = find(jobId).getLeaseOwner();
+        leasedBy(jobId, "dead-node", Instant.now().minusSeconds(1));
+
+        assertThat(videoJobQueue.claim(1)).containsExactly(jobId);
+
+        VideoJob job = find(jobId);
+        assertThat(job.getLeaseOwner()).isEqualTo(owner);
+        assertThat(job.getAttempts()).isEqualTo(2);
+        assertThat(job.getLeaseExpiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    void reclaimedJobRestartsStageTimerInsteadOfKeepingDeadAttemptsStage() {
+        Long jobId = submit();
+        Instant createdAt = find(jobId).getCreatedAt();
+        videoJobQueue.claim(1);
+        assertThat(find(jobId).getStageStartedAt()).isEqualTo(createdAt);
+
+        // 죽은 노드가 업로드 도중 멈췄다.
+        Instant deadAttempt = Instant.now().minus(Duration.ofHours(1));
+        jdbcTemplate.update("update video_job set stage = 'UPLOADING', stage_started_at = ?, progress_bytes = 1024 where id = ?",
+                Timestamp.from(deadAttempt), jobId);
+        leasedBy(jobId, "dead-node", Instant.now().minusSeconds(1));
+        Instant beforeReclaim = Instant.now();
+
+        videoJobQueue.claim(1);
+
+        VideoJob job = find(jobId);
+        assertThat(job.getStage()).isEqualTo(VideoJobStage.QUEUED);
+        assertThat(job.getStageStartedAt()).isAfterOrEqualTo(beforeReclaim.truncatedTo(ChronoUnit.MILLIS));
+        assertThat(job.getProgressBytes()).isNull();
+    }
+
+    @Test
+    void heartbeatExtendsOnlyOwnLeases() {
+        Long mine = submit();
+        Long others = submit();
+        videoJobQueue.claim(2);
+        Instant soon = Instant.now().plusSeconds(5);
+        leasedBy(mine, find(mine).getLeaseOwner(), soon);
+        leasedBy(others, "other-node", soon);
+
+        videoJobQueue.heartbeat(List.of(mine, others));
+
+        assertThat(find(mine).getLeaseExpiresAt()).isAfter(Instant.now().plus(Duration.ofMinutes(1)));
+        assertThat(find(others).getLeaseExpiresAt()).isBefore(Instant.now().plusSeconds(10));
+    }
+
+    @Test
+    void jobOverMaxAttemptsIsFailedInsteadOfClaimed() {
+        Long jobId = submit();
+        videoJobQueue.claim(1);
+        jdbcTemplate.update("update video_job set attempts = 3 where id = ?", jobId);
+        leasedBy(jobId, "dead-node", Instant.now().minusSeconds(1));
+
+        assertThat(videoJobQueue.claim(1)).isEmpty();
+
+        VideoJob job = find(jobId);
+        assertThat(job.getStatus()).isEqualTo(VideoJobStatus.FAILED);
+        assertThat(job.getMessage()).contains("재시도 횟수 초과");
+        assertThat(job.getLeaseOwner()).isNull();
+    }
+
+    @Test
+    void releasedJobIsClaimableAgainWithoutUsingAnAttempt() {
+        Long jobId = submit();
+        videoJobQueue.claim(1);
+
+        videoJobQueue.release(jobId);
+
+        VideoJob released = find(jobId);
+        assertThat(released.getStatus()).isEqualTo(VideoJobStatus.PENDING);
+        assertThat(released.getAttempts()).isZero();
+        assertThat(videoJobQueue.claim(1)).containsExactly(jobId);
+    }
+
+    private Long submit() {
+        return videoJobRepository.save(VideoJob.pending(user, "title", "author", VideoJobPriority.NORMAL)).getId();
+    }
+
+    private VideoJob find(Long jobId) {
+        return videoJobRepository.findById(jobId).orElseThrow();
+    }
+
+    private void leasedBy(Long jobId, String owner, Instant expiresAt) {
+        jdbcTemplate.update("update video_job set lease_owner = ?, lease_expires_at = ? where id = ?",
+                owner, Timestamp.from(expiresAt), jobId);
+    }
+}
@@ -0,0 +1,196 @@
+package backend.aihkt.domain.video.service;
+
+import backend.aihkt.domain.user.entity.Users;
+import backend.aihkt.domain.user.repository.UserRepository;
+import backend.aihkt.domain.video.dto.VideoResponse;
+import backend.aihkt.domain.video.entity.VideoJob;
+import backend.aihkt.domain.video.entity.VideoJobPriority;
+import backend.aihkt.domain.video.entity.VideoJobStage;
+import backend.aihkt.domain.video.entity.VideoJobStatus;
+import backend.aihkt.domain.video.repository.VideoJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.UnsupportedEncodingException;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SSE 구독이 현재 상태를 바로 보내고, 이 노드의 상태 전이와 진행 상황을 밀어주며, 끝나면 스트림을 닫는지 확인한다.
+ * 이벤트가 오지 않는 변경(다른 노드)은 행을 직접 고쳐 흉내 내고 resync 로 맞춰지는지 본다.
+ */
+@SpringBootTest(properties = {
+        "video.job.worker.enabled=false",
+        "cors.allowed.origin=http://localhost",
+        "spring.datasource.url=jdbc:h2:mem:video-job-events" // 다른 테스트 컨텍스트가 만든 작업과 섞이지 않게
+})
+@TestPropertySource(locations = "classpath:application-test.properties")
+class VideoJobStatusBroadcasterTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private VideoJobStatusBroadcaster broadcaster;
+
+    @Autowired
+    private VideoJobRepository videoJobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+    private Users user;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        user = userRepository.save(new Users("user", "google-" + UUID.randomUUID(), null, null));
+    }
+
+    @Test
+    void streamSendsCurrentStatusThenPushesChangesUntilTerminal() throws Exception {
+        VideoJob job = videoJobRepository.save(VideoJob.pending(user, "title", "author", VideoJobPriority.NORMAL));
+
+        MvcResult result = mockMvc.perform(get("/videos/jobs/{jobId}/events", job.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(body(result)).contains("event:status").contains("\"status\":\"PENDING\"");
+
+        job.claim("this-node", Instant.now().plusSeconds(60));
+        videoJobRepository.save(job);
+        eventPublisher.publishEvent(new VideoJobProgressTracker.ProgressChanged(
+                job.getId(), VideoJobStage.UPLOADING, Instant.now(), 1024L, 4096L));
+        job.markSuccess("video", "https://www.youtube.com/shorts/video");
+        videoJobRepository.save(job);
+
+        String events = body(result);
+        assertThat(events.indexOf("\"status\":\"PENDING\""))
+                .isLessThan(events.indexOf("\"status\":\"PROCESSING\""));
+        assertThat(events).contains("\"progressBytes\":1024");
+        assertThat(events.indexOf("\"progressBytes\":1024"))
+                .isLessThan(events.indexOf("\"status\":\"SUCCESS\""));
+        // SUCCESS 를 보낸 뒤 스트림을 닫았다.
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+    }
+
+    @Test
+    void multiJobStreamClosesOnlyAfterEveryJobEnds() throws Exception {
+        VideoJob first = videoJobRepository.save(VideoJob.pending(user, "first", "author", VideoJobPriority.NORMAL));
+        VideoJob second = videoJobRepository.save(VideoJob.pending(user, "second", "author", VideoJobPriority.NORMAL));
+
+        MvcResult result = mockMvc.perform(get("/videos/jobs/events")
+                        .param("jobIds", first.getId() + "," + second.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        first.markFailure("트레일러 API 실패");
+        videoJobRepository.save(first);
+        assertThat(body(result)).contains("\"status\":\"FAILED\"");
+        // 아직 끝나지 않은 작업이 있으니 스트림은 열려 있다.
+        assertThatThrownBy(() -> result.getAsyncResult(0)).isInstanceOf(IllegalStateException.class);
+
+        second.markSuccess("video", "https://www.youtube.com/shorts/video");
+        videoJobRepository.save(second);
+        assertThat(body(result)).contains("\"status\":\"SUCCESS\"");
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+    }
+
+    @Test
+    void resyncPushesChangesMadeByAnotherNode() throws Exception {
+        VideoJob job = videoJobRepository.save(VideoJob.pending(user, "title", "author", VideoJobPriority.NORMAL));
+        MvcResult result = mockMvc.perform(get("/videos/jobs/{jobId}/events", job.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // 다른 노드가 점유하면 이 노드에는 이벤트가 오지 않는다.
+        jdbcTemplate.update("update video_job set status = 'PROCESSING', lease_owner = 'other-node' where id = ?", job.getId());
+        assertThat(body(result)).doesNotContain("\"status\":\"PROCESSING\"");
+
+        broadcaster.resync();
+
+        assertThat(body(result)).contains("\"status\":\"PROCESSING\"");
+    }
+
+    @Test
+    void statusOfJobProcessedHereIsServedFromMemory() {
+        VideoJob job = videoJobRepository.save(VideoJob.pending(user, "title", "author", VideoJobPriority.NORMAL));
+        job.claim("this-node", Instant.now().plusSeconds(60));
+        videoJobRepository.save(job);
+
+        // 이 노드의 이벤트로 알고 있는 PROCESSING 은 DB 를 다시 읽지 않는다.
+        jdbcTemplate.update("update video_job set message = 'changed behind the cache' where id = ?", job.getId());
+        VideoResponse.JobStatus status = broadcaster.getStatus(job.getId());
+
+        assertThat(status.status()).isEqualTo(VideoJobStatus.PROCESSING);
+        assertThat(status.message()).isNull();
+    }
+
+    @Test
+    void statusIsReadFromDatabaseOnceThisNodesLeaseExpires() {
+        VideoJob job = videoJobRepository.save(VideoJob.pending(user, "title", "author", VideoJobPriority.NORMAL));
+        job.claim("this-node", Instant.now().minusSeconds(1));
+        videoJobRepository.save(job);
+
+        // 리스가 끝난 뒤 다른 노드가 가져가 끝냈다.
+        jdbcTemplate.update("update video_job set status = 'SUCCESS', lease_owner = null where id = ?", job.getId());
+
+        assertThat(broadcaster.getStatus(job.getId()).status()).isEqualTo(VideoJobStatus.SUCCESS);
+    }
+
+    @Test
+    void heartbeatKeepsStatusOfJobProcessedHereInMemory() {
+        VideoJob job = videoJobRepository.save(VideoJob.pending(user, "title", "author", VideoJobPriority.NORMAL));
+        job.claim("this-node", Instant.now().minusSeconds(1));
+        videoJobRepository.save(job);
+
+        eventPublisher.publishEvent(new VideoJobQueue.LeasesExtended(List.of(job.getId()), Instant.now().plusSeconds(60)));
+        jdbcTemplate.update("update video_job set message = 'changed behind the cache' where id = ?", job.getId());
+
+        assertThat(broadcaster.getStatus(job.getId()).message()).isNull();
+    }
+
+    @Test
+    void pendingStatusIsReadFromDatabase() {
+        VideoJob job = videoJobRepository.save(VideoJob.pending(user, "title", "author", VideoJobPriority.NORMAL));
+        broadcaster.getStatus(job.getId());
+
+        jdbcTemplate.update("update video_job set status = 'PROCESSING', lease_owner = 'other-node' where id = ?", job.getId());
+
+        assertThat(broadcaster.getStatus(job.getId()).status()).isEqualTo(VideoJobStatus.PROCESSING);
+    }
+
+    @Test
+    void unknownJobIsRejected() {
+        assertThatThrownBy(() -> broadcaster.subscribe(List.of(-1L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("영상 생성 작업을 찾을 수 없습니다");
+    }
+
+    private static String body(MvcResult result) throws UnsupportedEncodingException {
+        return result.getResponse().getContentAsString();
+    }
+}
@@ -0,0 +1,121 @@
+package backend.aihkt.domain.video.service;
+
+import backend.aihkt.domain.user.entity.Users;
+import backend.aihkt.domain.video.entity.VideoJob;
+import backend.aihkt.domain.video.entity.VideoJobPriority;
+import backend.aihkt.domain.video.repository.VideoJobRepository;
+import backend.aihkt.youtube.entity.YoutubeUploadSession;
+import backend.aihkt.youtube.service.YoutubeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 기동 시 점검이 끝난 작업의 세션은 정리하고, 다른 노드가 쥔 작업은 건드리지 않으며, 리스가 만료된 작업은
+ * 커밋 위치를 다시 기록하거나(이어 올릴 수 있으면) 세션을 버리는지 확인한다.
+ */
+class VideoUploadRecoveryTest {
+
+    private final Users user = new Users("user", "google-id", "access-token", null);
+
+    private YoutubeService youtubeService;
+    private VideoJobRepository videoJobRepository;
+    private VideoService videoService;
+    private VideoUploadRecovery recovery;
+
+    @BeforeEach
+    void setUp() {
+        youtubeService = mock(YoutubeService.class);
+        videoJobRepository = mock(VideoJobRepository.class);
+        videoService = mock(VideoService.class);
+        recovery = new VideoUploadRecovery(youtubeService, videoJobRepository, videoService);
+    }
+
+    @Test
+    void sessionOfFinishedOrMissingJobIsCleanedUp() {
+        VideoJob finished = job();
+        finished.markSuccess("video", "https://www.youtube.com/shorts/video");
+        sessions(session(1L), session(2L));
+        when(videoJobRepository.findById(1L)).thenReturn(Optional.of(finished));
+        when(videoJobRepository.findById(2L)).thenReturn(Optional.empty());
+
+        recovery.recover();
+
+        verify(videoService).cleanupJobFiles(1L);
+        verify(videoService).cleanupJobFiles(2L);
+        verify(youtubeService, never()).refreshCommittedOffset(any());
+    }
+
+    @Test
+    void jobLeasedByAnotherNodeIsLeftAlone() {
+        VideoJob leased = job();
+        leased.claim("other-node", Instant.now().plus(Duration.ofMinutes(1)));
+        sessions(session(1L));
+        when(videoJobRepository.findById(1L)).thenReturn(Optional.of(leased));
+
+        recovery.recover();
+
+        verify(youtubeService, never()).refreshCommittedOffset(any());
+        verify(youtubeService, never()).discardSessions(anyLong());
+        verify(videoService, never()).cleanupJobFiles(anyLong());
+    }
+
+    @Test
+    void expiredJobRefreshesOffsetOrDiscardsUnresumableSession() {
+        YoutubeUploadSession resumable = session(1L);
+        YoutubeUploadSession unresumable = session(2L);
+        sessions(resumable, unresumable);
+        when(videoJobRepository.findById(anyLong())).thenAnswer(invocation -> Optional.of(expiredJob()));
+        when(youtubeService.refreshCommittedOffset(resumable)).thenReturn(true);
+        when(youtubeService.refreshCommittedOffset(unresumable)).thenReturn(false);
+
+        recovery.recover();
+
+        verify(youtubeService, never()).discardSessions(1L);
+        verify(youtubeService).discardSessions(2L);
+    }
+
+    @Test
+    void failureOnOneSessionDoesNotStopTheOthers() {
+        YoutubeUploadSession broken = session(1L);
+        YoutubeUploadSession unresumable = session(2L);
+        sessions(broken, unresumable);
+        when(videoJobRepository.findById(anyLong())).thenAnswer(invocation -> Optional.of(expiredJob()));
+        when(youtubeService.refreshCommittedOffset(broken)).thenThrow(new IllegalStateException("업로드 상태 조회 실패"));
+        when(youtubeService.refreshCommittedOffset(unresumable)).thenReturn(false);
+
+        recovery.recover();
+
+        verify(youtubeService).discardSessions(2L);
+    }
+
+    private void sessions(YoutubeUploadSession... sessions) {
+        when(youtubeService.findVideoJobSessions()).thenReturn(List.of(sessions));
+    }
+
+    private YoutubeUploadSession session(Long jobId) {
+        return YoutubeUploadSession.create("https://upload.example/session-" + jobId, "trailer.mp4", 1024,
+                "video/mp4", user, "/tmp/trailer_" + jobId + ".mp4", jobId);
+    }
+
+    private VideoJob job() {
+        return VideoJob.pending(user, "title", "author", VideoJobPriority.NORMAL);
+    }
+
+    private VideoJob expiredJob() {
+        VideoJob job = job();
+        job.claim("dead-node", Instant.now().minusSeconds(1));
+        return job;
+    }
+}
@@ -0,0 +1,43 @@
+package backend.aihkt.global.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * platform 모드의 영상 작업 풀이 워커 동시 실행 수만큼의 작업을 큐에 쌓지 않고 모두 바로 실행하는지 확인한다.
+ */
+class AsyncConfigTest {
+
+    private static final int CONCURRENCY = 4;
+
+    @Test
+    void claimedJobsAllStartRunning() throws InterruptedException {
+        Executor executor = new AsyncConfig().videoTaskExecutor("platform", CONCURRENCY);
+        CountDownLatch started = new CountDownLatch(CONCURRENCY);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                executor.execute(() -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(((ThreadPoolTaskExecutor) executor).getQueueSize()).isZero();
+        } finally {
+            release.countDown();
+            ((ThreadPoolTaskExecutor) executor).shutdown();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package backend.aihkt.infra.google;
+
+import backend.aihkt.infra.http.RetryExecutor;
+import backend.aihkt.infra.http.RetryPolicy;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GET 본문이 메모리에 모이지 않고 도착하는 대로 reader 에 넘어가는지(코덱 한도보다 큰 응답 포함), 상태 코드 재시도가
+ * 본문을 읽기 전에 끝나는지 확인한다.
+ */
+class GoogleApiClientTest {
+
+    private static final int LARGE_BODY = 5 * 1024 * 1024;
+    private static final int FIRST_PART = 64 * 1024;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final CountDownLatch firstPartRead = new CountDownLatch(1);
+    private final AtomicBoolean restWaitedForReader = new AtomicBoolean();
+
+    private HttpServer server;
+    private GoogleApiClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/large", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(new byte[LARGE_BODY]);
+            }
+        });
+        // 앞부분을 보낸 뒤 reader 가 그 부분을 읽을 때까지 나머지를 보내지 않는다.
+        server.createContext("/slow", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(new byte[FIRST_PART]);
+                out.flush();
+                try {
+                    restWaitedForReader.set(firstPartRead.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                out.write(new byte[FIRST_PART]);
+            }
+        });
+        // 처음 한 번은 503, 그 뒤로는 200
+        server.createContext("/flaky", exchange -> {
+            if (requests.incrementAndGet() == 1) {
+                exchange.sendResponseHeaders(503, -1);
+            } else {
+                byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            }
+            exchange.close();
+        });
+        server.start();
+        // 운영 설정처럼 코덱 한도를 2MB 로 둔다. get 은 이 한도와 상관없이 읽어야 한다.
+        WebClient webClient = WebClient.builder()
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(2 * 1024 * 1024))
+                .build();
+        RetryExecutor retryExecutor = new RetryExecutor(new RetryPolicy(3, Duration.ofMillis(10), Duration.ofMillis(50),
+                Duration.ofSeconds(5), 1.0, 100, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+        client = new GoogleApiClient(webClient, retryExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void readsBodyLargerThanCodecLimit() {
+        Long read = client.get(url("/large"), "token", Duration.ofSeconds(10), GoogleApiClientTest::count).block();
+
+        assertThat(read).isEqualTo(LARGE_BODY);
+    }
+
+    @Test
+    void readerReceivesBodyBeforeResponseEnds() {
+        String[] readerThread = new String[1];
+
+        Long read = client.get(url("/slow"), "token", Duration.ofSeconds(10), body -> {
+            readerThread[0] = Thread.currentThread().getName();
+            long total = body.readNBytes(FIRST_PART).length;
+            firstPartRead.countDown();
+            return total + count(body);
+        }).block();
+
+        assertThat(read).isEqualTo(2L * FIRST_PART);
+        assertThat(restWaitedForReader).isTrue();
+        // 블로킹 읽기는 이벤트 루프가 아닌 스레드에서 돈다.
+        assertThat(readerThread[0]).contains("boundedElastic");
+    }
+
+    @Test
+    void retriesStatusBeforeReadingBody() {
+        AtomicInteger reads = new AtomicInteger();
+
+        String body = client.get(url("/flaky"), "token", Duration.ofSeconds(5), in -> {
+            reads.incrementAndGet();
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }).block();
+
+        assertThat(body).isEqualTo("ok");
+        assertThat(requests).hasValue(2);
+        assertThat(reads).hasValue(1);
+    }
+
+    private static long count(InputStream body) throws IOException {
+        byte[] buffer = new byte[8192];
+        long total = 0;
+        for (int n; (n = body.read(buffer)) != -1; ) {
+            total += n;
+        }
+        return total;
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+}
@@ -0,0 +1,212 @@
+package backend.aihkt.infra.http;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * WebClient 호출 재시도가 상태 코드와 멱등성 규칙, Retry-After 와 호스트별 재시도 예산을 지키고,
+ * 백오프 동안 호출 스레드를 잡지 않는지 확인한다. 직접 루프를 도는 호출부용 awaitRetry 도 같은 규칙을 따른다.
+ */
+class RetryExecutorTest {
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final WebClient webClient = WebClient.create();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HttpServer server;
+    private RetryExecutor retryExecutor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        // 처음 두 번은 503, 그 뒤로는 200
+        server.createContext("/flaky", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(requests.incrementAndGet() <= 2 ? 503 : 200, -1);
+            exchange.close();
+        });
+        // 처음 한 번은 429 + Retry-After: 1
+        server.createContext("/throttled", exchange -> {
+            if (requests.incrementAndGet() == 1) {
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                exchange.sendResponseHeaders(429, -1);
+            } else {
+                exchange.sendResponseHeaders(200, -1);
+            }
+            exchange.close();
+        });
+        server.start();
+        retryExecutor = new RetryExecutor(new RetryPolicy(4, Duration.ofMillis(50), Duration.ofMillis(200),
+                Duration.ofSeconds(5), 1.0, 100, Duration.ofMinutes(1)), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void retriesRetryableStatusUntilSuccess() {
+        ResponseEntity<Void> response = retryExecutor.exchange("stub", true, () -> webClient.get()
+                .uri(url("/flaky"))
+                .exchangeToMono(ClientResponse::toBodilessEntity)).block();
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(requests).hasValue(3);
+    }
+
+    @Test
+    void doesNotRetryNonIdempotentRequestOnServerError() {
+        assertThatThrownBy(() -> retryExecutor.execute("stub", false, () -> webClient.post()
+                .uri(url("/flaky"))
+                .retrieve()
+                .toBodilessEntity()).block())
+                .isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void retriesConnectionFailureEvenForNonIdempotentRequest() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryExecutor.execute("refused", false, () -> {
+            attempts.incrementAndGet();
+            return webClient.post().uri(URI.create("http://127.0.0.1:1/")).retrieve().toBodilessEntity();
+        }).block()).isInstanceOf(WebClientRequestException.class);
+        assertThat(attempts).hasValue(4);
+    }
+
+    @Test
+    void concurrentCallsBackOffWithoutBlockingTheSubscriber() {
+        int calls = 50;
+        server.removeContext("/flaky");
+        server.createContext("/flaky", exchange -> {
+            exchange.sendResponseHeaders(exchange.getRequestURI().getQuery().endsWith("retried") ? 200 : 503, -1);
+            exchange.close();
+        });
+
+        // 구독은 한 스레드에서 하고 백오프는 타이머로 기다리므로, 호출 수만큼 스레드가 없어도 모두 끝난다.
+        List<Integer> statuses = Flux.range(0, calls)
+                .flatMap(i -> {
+                    AtomicInteger attempt = new AtomicInteger();
+                    return retryExecutor.exchange("stub-" + i, true, () -> webClient.get()
+                            .uri(url("/flaky?call=" + i + (attempt.incrementAndGet() > 1 ? "&retried" : "")))
+                            .exchangeToMono(ClientResponse::toBodilessEntity));
+                })
+                .map(response -> response.getStatusCode().value())
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(statuses).hasSize(calls).containsOnly(200);
+    }
+
+    @Test
+    void retryAfterIsWaitedOutEvenForNonIdempotentRequest() {
+        long startedAt = System.nanoTime();
+
+        ResponseEntity<Void> response = retryExecutor.exchange("stub", false, () -> webClient.post()
+                .uri(url("/throttled"))
+                .exchangeToMono(ClientResponse::toBodilessEntity)).block();
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(requests).hasValue(2);
+        // 백오프 상한(200ms)보다 긴 Retry-After 를 따랐다.
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(Duration.ofMillis(900));
+    }
+
+    @Test
+    void parsesRetryAfterSecondsAndHttpDate() {
+        String inOneMinute = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusMinutes(1));
+        String past = "Wed, 21 Oct 2015 07:28:00 GMT";
+
+        assertThat(RetryExecutor.parseRetryAfter(Optional.of("3"))).isEqualTo(Duration.ofSeconds(3));
+        assertThat(RetryExecutor.parseRetryAfter(Optional.of("-5"))).isEqualTo(Duration.ZERO);
+        assertThat(RetryExecutor.parseRetryAfter(Optional.of(inOneMinute)))
+                .isBetween(Duration.ofSeconds(50), Duration.ofMinutes(1));
+        assertThat(RetryExecutor.parseRetryAfter(Optional.of(past))).isEqualTo(Duration.ZERO);
+        assertThat(RetryExecutor.parseRetryAfter(Optional.of("soon"))).isNull();
+        assertThat(RetryExecutor.parseRetryAfter(Optional.empty())).isNull();
+    }
+
+    @Test
+    void awaitRetryStopsAtMaxAttemptsAndTooLongRetryAfter() throws InterruptedException {
+        assertThat(retryExecutor.awaitRetry("upload", 1, "status_503", Optional.empty())).isTrue();
+        assertThat(retryExecutor.awaitRetry("upload", 3, "status_503", Optional.of("0"))).isTrue();
+        assertThat(retryExecutor.awaitRetry("upload", 4, "status_503", Optional.empty())).isFalse();
+        // max-retry-after(5s)보다 길게 기다리라고 하면 기다리지 않고 포기한다.
+        assertThat(retryExecutor.awaitRetry("upload", 1, "status_429", Optional.of("60"))).isFalse();
+
+        assertThat(exhausted("upload", "attempts")).isEqualTo(1);
+        assertThat(exhausted("upload", "retry_after")).isEqualTo(1);
+    }
+
+    @Test
+    void retryBudgetCapsRetriesPerHost() throws InterruptedException {
+        // 윈도마다 최소 2회 + 요청 수의 50% 까지만 재시도한다.
+        RetryExecutor budgeted = new RetryExecutor(new RetryPolicy(10, Duration.ofMillis(1), Duration.ofMillis(1),
+                Duration.ofSeconds(5), 0.5, 2, Duration.ofMinutes(1)), meterRegistry);
+
+        assertThat(budgeted.awaitRetry("busy", 1, "io_error", Optional.empty())).isTrue();
+        assertThat(budgeted.awaitRetry("busy", 1, "io_error", Optional.empty())).isTrue();
+        assertThat(budgeted.awaitRetry("busy", 1, "io_error", Optional.empty())).isFalse();
+        // 다른 호스트의 예산은 따로다.
+        assertThat(budgeted.awaitRetry("quiet", 1, "io_error", Optional.empty())).isTrue();
+
+        for (int i = 0; i < 4; i++) {
+            budgeted.recordRequest("busy");
+        }
+        assertThat(budgeted.awaitRetry("busy", 1, "io_error", Optional.empty())).isTrue();
+        assertThat(budgeted.awaitRetry("busy", 1, "io_error", Optional.empty())).isTrue();
+        assertThat(budgeted.awaitRetry("busy", 1, "io_error", Optional.empty())).isFalse();
+        assertThat(exhausted("busy", "budget")).isEqualTo(2);
+    }
+
+    @Test
+    void exhaustedBudgetStopsWebClientRetries() {
+        RetryExecutor budgeted = new RetryExecutor(new RetryPolicy(4, Duration.ofMillis(1), Duration.ofMillis(1),
+                Duration.ofSeconds(5), 0.0, 1, Duration.ofMinutes(1)), meterRegistry);
+
+        // 예산이 한 번뿐이라 503 두 번 중 첫 번째만 재시도하고, 두 번째 503 을 그대로 돌려준다.
+        ResponseEntity<Void> response = budgeted.exchange("flaky-host", true, () -> webClient.get()
+                .uri(url("/flaky"))
+                .exchangeToMono(ClientResponse::toBodilessEntity)).block();
+
+        assertThat(response.getStatusCode().value()).isEqualTo(503);
+        assertThat(requests).hasValue(2);
+        assertThat(exhausted("flaky-host", "budget")).isEqualTo(1);
+    }
+
+    private double exhausted(String host, String cause) {
+        Counter counter = meterRegistry.find("http.client.retries.exhausted").tag("host", host).tag("cause", cause).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private URI url(String path) {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + path);
+    }
+}
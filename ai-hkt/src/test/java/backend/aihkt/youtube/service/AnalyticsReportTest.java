@@ -0,0 +1,100 @@
+package backend.aihkt.youtube.service;
+
+import backend.aihkt.youtube.dto.VideoStatResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Analytics 리포트 응답의 컬럼이 columnHeaders 순서대로 요청 컬럼에 대응되고, 숫자 셀이 Jackson 과 같은 값으로 읽히는지 확인한다.
+ */
+class AnalyticsReportTest {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Test
+    void mapsColumnsByHeaderNameAndSkipsUnrequestedCells() throws IOException {
+        String json = """
+                {"kind": "youtubeAnalytics#resultTable",
+                 "columnHeaders": [
+                   {"name": "views", "columnType": "METRIC", "dataType": "INTEGER"},
+                   {"name": "extra"},
+                   {"name": "day", "columnType": "DIMENSION"},
+                   {"name": "averageViewPercentage"},
+                   {"name": "averageViewDuration"},
+                   {"name": "estimatedMinutesWatched"}],
+                 "rows": [
+                   [12, {"nested": [1, 2]}, "2025-01-02", 70.57, 0.1, -3.5e2],
+                   [3, null, "2025-01-03", 50, 7, 2]]}
+                """;
+
+        List<VideoStatResponse.DailyMetric> rows = YoutubeStatsService.DAILY_REPORT.read(jsonFactory, stream(json));
+
+        assertThat(rows).containsExactly(
+                new VideoStatResponse.DailyMetric("2025-01-02", 12, -350, 0.1, 70.57),
+                new VideoStatResponse.DailyMetric("2025-01-03", 3, 2, 7.0, 50.0));
+    }
+
+    @Test
+    void readsColumnsInRequestedOrderWithoutHeaders() throws IOException {
+        String json = """
+                {"rows": [["2025-01-02", 12, 30, 45.5, 60.25]]}
+                """;
+
+        List<VideoStatResponse.DailyMetric> rows = YoutubeStatsService.DAILY_REPORT.read(jsonFactory, stream(json));
+
+        assertThat(rows).containsExactly(new VideoStatResponse.DailyMetric("2025-01-02", 12, 30, 45.5, 60.25));
+    }
+
+    @Test
+    void missingAndMistypedCellsReadAsZeroOrEmpty() throws IOException {
+        String json = """
+                {"columnHeaders": [{"name": "day"}, {"name": "views"}],
+                 "rows": [[null, "12"], [7]]}
+                """;
+
+        List<VideoStatResponse.DailyMetric> rows = YoutubeStatsService.DAILY_REPORT.read(jsonFactory, stream(json));
+
+        assertThat(rows).containsExactly(
+                new VideoStatResponse.DailyMetric("", 0, 0, 0.0, 0.0),
+                new VideoStatResponse.DailyMetric("", 0, 0, 0.0, 0.0));
+    }
+
+    @Test
+    void decimalCellsMatchJacksonParsing() throws IOException {
+        String[] cells = {
+                "0.1", "-0.3", "70.57", "123456789.123456", "1e3", "-3.5e2", "2.5E-4",
+                "12345678901234567.5", "0.00000000000000000000001", "9007199254740993.0"
+        };
+        AnalyticsReport<Double> report = AnalyticsReport.of(row -> row.doubleValue(0), "value");
+        StringBuilder json = new StringBuilder("{\"rows\": [");
+        for (int i = 0; i < cells.length; i++) {
+            json.append(i == 0 ? "" : ",").append('[').append(cells[i]).append(']');
+        }
+        json.append("]}");
+
+        List<Double> values = report.read(jsonFactory, stream(json.toString()));
+
+        for (int i = 0; i < cells.length; i++) {
+            assertThat(values.get(i)).as(cells[i]).isEqualTo(Double.parseDouble(cells[i]));
+        }
+    }
+
+    @Test
+    void rejectsNonObjectResponse() {
+        assertThatThrownBy(() -> YoutubeStatsService.DAILY_REPORT.read(jsonFactory, stream("[]")))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("JSON 객체가 아닙니다");
+    }
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,145 @@
+package backend.aihkt.youtube.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 유튜브 resumable 업로드 프로토콜을 흉내 내는 로컬 서버. 세션 생성(POST), 청크 PUT, 상태 조회(빈 PUT)를 받고,
+ * 지정한 순번의 청크 PUT 을 503 으로 실패시키거나, 앞 256KB 만 커밋(308)하게 하거나, 응답 없이 붙잡아 둘 수 있다.
+ */
+final class ResumableUploadStub implements AutoCloseable {
+
+    static final String VIDEO_ID = "stub-video";
+    private static final int GRANULARITY = 256 * 1024;
+
+    /** 이 순번(1부터)의 청크 PUT 은 503 으로 실패한다. */
+    final Set<Integer> failPuts = ConcurrentHashMap.newKeySet();
+    /** 이 순번의 청크 PUT 은 앞 256KB 만 커밋한다. */
+    final Set<Integer> partialPuts = ConcurrentHashMap.newKeySet();
+    /** 이 순번의 청크 PUT 은 커밋하지 않고 응답도 보내지 않는다. */
+    final Set<Integer> stalledPuts = ConcurrentHashMap.newKeySet();
+    /** 청크 PUT 마다 받은 바이트 수. */
+    final List<Integer> chunkSizes = new CopyOnWriteArrayList<>();
+    final AtomicInteger statusQueries = new AtomicInteger();
+    volatile boolean expired;
+
+    private final HttpServer server;
+    private final ByteArrayOutputStream committed = new ByteArrayOutputStream();
+    private final AtomicInteger puts = new AtomicInteger();
+    private volatile long total = -1;
+
+    ResumableUploadStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/upload/youtube/v3/videos", this::initiate);
+        server.createContext("/session", this::put);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    String sessionUrl() {
+        return baseUrl() + "/session";
+    }
+
+    synchronized byte[] committed() {
+        return committed.toByteArray();
+    }
+
+    /**
+     * 프로세스가 죽기 전에 이미 length 바이트가 커밋된 세션처럼 만든다.
+     */
+    synchronized void preCommit(byte[] content, int length) {
+        committed.write(content, 0, length);
+        total = content.length;
+    }
+
+    private void initiate(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        String length = exchange.getRequestHeaders().getFirst("X-Upload-Content-Length");
+        if (length != null) {
+            total = Long.parseLong(length);
+        }
+        exchange.getResponseHeaders().add("Location", sessionUrl());
+        exchange.sendResponseHeaders(200, -1);
+        exchange.close();
+    }
+
+    private synchronized void put(HttpExchange exchange) throws IOException {
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        // bytes <first>-<last>/<total|*> 또는 상태 조회용 bytes */<total|*>
+        String[] range = exchange.getRequestHeaders().getFirst("Content-Range").substring("bytes ".length()).split("/");
+        if (!range[1].equals("*")) {
+            total = Long.parseLong(range[1]);
+        }
+        if (range[0].equals("*")) {
+            statusQueries.incrementAndGet();
+            if (expired) {
+                reply(exchange, 404);
+                return;
+            }
+            replyWithProgress(exchange);
+            return;
+        }
+
+        int put = puts.incrementAndGet();
+        if (failPuts.contains(put)) {
+            reply(exchange, 503);
+            return;
+        }
+        if (stalledPuts.contains(put)) {
+            return; // 연결은 서버를 멈출 때 닫힌다.
+        }
+        long first = Long.parseLong(range[0].split("-")[0]);
+        if (first != committed.size()) {
+            reply(exchange, 400);
+            return;
+        }
+        chunkSizes.add(body.length);
+        if (partialPuts.contains(put) && body.length > GRANULARITY) {
+            committed.write(body, 0, GRANULARITY);
+            exchange.getResponseHeaders().add("Range", "bytes=0-" + (committed.size() - 1));
+            reply(exchange, 308);
+            return;
+        }
+        committed.write(body, 0, body.length);
+        replyWithProgress(exchange);
+    }
+
+    private void replyWithProgress(HttpExchange exchange) throws IOException {
+        if (total >= 0 && committed.size() == total) {
+            byte[] body = ("{\"id\":\"" + VIDEO_ID + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+            return;
+        }
+        if (committed.size() > 0) {
+            exchange.getResponseHeaders().add("Range", "bytes=0-" + (committed.size() - 1));
+        }
+        reply(exchange, 308);
+    }
+
+    private static void reply(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,289 @@
+package backend.aihkt.youtube.service;
+
+import backend.aihkt.domain.user.entity.Users;
+import backend.aihkt.domain.user.repository.UserRepository;
+import backend.aihkt.infra.google.GoogleApiClient;
+import backend.aihkt.infra.google.GoogleTokenManager;
+import backend.aihkt.infra.http.RetryExecutor;
+import backend.aihkt.infra.http.RetryPolicy;
+import backend.aihkt.youtube.dto.YoutubeUploadRequest;
+import backend.aihkt.youtube.dto.YoutubeUploadResponse;
+import backend.aihkt.youtube.entity.YoutubeUploadSession;
+import backend.aihkt.youtube.repository.YoutubeUploadSessionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 resumable 스텁을 상대로 청크 업로드가 실패/부분 커밋 뒤에도 원본을 빠짐없이 한 번씩 올리고,
+ * 스트림 업로드가 만든 spill 임시 파일을 성공/실패와 관계없이 지우는지, 남은 세션을 커밋된 위치부터 이어 올리는지 확인한다.
+ */
+class YoutubeServiceUploadTest {
+
+    private static final int KB_256 = 256 * 1024;
+    private static final long JOB_ID = 7L;
+    private static final YoutubeUploadRequest REQUEST =
+            new YoutubeUploadRequest("title", "description", null, null, "private", true, null);
+
+    @TempDir
+    Path tempDir;
+
+    private ResumableUploadStub stub;
+    private YoutubeUploadSessionRepository sessionRepository;
+    private Users user;
+    private YoutubeService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new ResumableUploadStub();
+        sessionRepository = mock(YoutubeUploadSessionRepository.class);
+        when(sessionRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        user = new Users("user", "google-id", "access-token", null);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
+        GoogleTokenManager tokenManager = mock(GoogleTokenManager.class);
+        when(tokenManager.getAccessToken(anyLong())).thenReturn("access-token");
+
+        RetryExecutor retryExecutor = new RetryExecutor(new RetryPolicy(4, Duration.ofMillis(10), Duration.ofMillis(50),
+                Duration.ofSeconds(5), 1.0, 100, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+        GoogleApiClient googleApiClient = new GoogleApiClient(WebClient.create(), retryExecutor);
+        service = new YoutubeService(sessionRepository, userRepository, tokenManager, new ObjectMapper(),
+                new SimpleMeterRegistry(), retryExecutor, googleApiClient, event -> {
+        });
+        ReflectionTestUtils.setField(service, "apiBaseUrl", stub.baseUrl());
+        ReflectionTestUtils.setField(service, "maxChunkSize", DataSize.ofMegabytes(1));
+        ReflectionTestUtils.setField(service, "targetChunkDuration", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(service, "checkpointInterval", Duration.ZERO);
+        ReflectionTestUtils.setField(service, "responseTimeout", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(service, "requestDeadline", Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    void streamOfUnknownLengthIsUploadedInGranularChunks() {
+        byte[] content = content(KB_256 * 9 + 1000);
+
+        YoutubeUploadResponse response = service.uploadStream(1L, REQUEST, new ByteArrayInputStream(content),
+                "trailer.mp4", "video/mp4", -1, null);
+
+        assertThat(response.videoId()).isEqualTo(ResumableUploadStub.VIDEO_ID);
+        assertThat(response.uploadedBytes()).isEqualTo(content.length);
+        assertThat(stub.committed()).isEqualTo(content);
+        // 마지막 청크를 뺀 나머지는 256KB 배수이고 상한(1MB)을 넘지 않는다.
+        List<Integer> sizes = stub.chunkSizes;
+        assertThat(sizes.subList(0, sizes.size() - 1))
+                .allSatisfy(size -> assertThat(size % KB_256).isZero())
+                .allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(1024 * 1024));
+        assertThat(sizes.getLast()).isEqualTo(content.length - sizes.stream().limit(sizes.size() - 1).mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    void streamEndingOnChunkBoundaryIsCompleted() {
+        byte[] content = content(KB_256 * 2);
+
+        YoutubeUploadResponse response = service.uploadStream(1L, REQUEST, new ByteArrayInputStream(content),
+                "trailer.mp4", "video/mp4", -1, null);
+
+        assertThat(response.videoId()).isEqualTo(ResumableUploadStub.VIDEO_ID);
+        assertThat(stub.committed()).isEqualTo(content);
+    }
+
+    @Test
+    void failedStreamChunkIsResentFromSpillFileWhichIsThenDeleted() throws IOException {
+        Set<Path> spillsBefore = spillFiles();
+        byte[] content = content(KB_256 * 9 + 5);
+        stub.partialPuts.add(3);
+        stub.failPuts.add(5);
+
+        YoutubeUploadResponse response = service.uploadStream(1L, REQUEST, new ByteArrayInputStream(content),
+                "trailer.mp4", "video/mp4", -1, null);
+
+        assertThat(response.videoId()).isEqualTo(ResumableUploadStub.VIDEO_ID);
+        assertThat(stub.committed()).isEqualTo(content);
+        assertThat(stub.statusQueries).hasValue(1);
+        assertThat(spillFiles()).isEqualTo(spillsBefore);
+    }
+
+    @Test
+    void spillFileIsDeletedWhenUploadFailsAfterSpilling() throws IOException {
+        Set<Path> spillsBefore = spillFiles();
+        stub.failPuts.add(2);
+        stub.expired = true;
+
+        assertThatThrownBy(() -> service.uploadStream(1L, REQUEST, new ByteArrayInputStream(content(KB_256 * 4)),
+                "trailer.mp4", "video/mp4", -1, null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("만료");
+        assertThat(spillFiles()).isEqualTo(spillsBefore);
+    }
+
+    @Test
+    void fileUploadResendsUncommittedTailAfterPartialCommitAndFailure() throws IOException {
+        byte[] content = content(5 * 1024 * 1024 + 11);
+        Path file = Files.write(tempDir.resolve("trailer.mp4"), content);
+        stub.failPuts.add(3);
+        stub.partialPuts.add(5);
+
+        YoutubeUploadResponse response = service.upload(1L, REQUEST, fileBacked(file, content.length));
+
+        assertThat(response.videoId()).isEqualTo(ResumableUploadStub.VIDEO_ID);
+        assertThat(stub.committed()).isEqualTo(content);
+    }
+
+    @Test
+    void chunkWithoutResponseTimesOutAndIsResent() throws IOException {
+        ReflectionTestUtils.setField(service, "responseTimeout", Duration.ofMillis(200));
+        byte[] content = content(KB_256 * 4 + 17);
+        Path file = Files.write(tempDir.resolve("trailer.mp4"), content);
+        stub.stalledPuts.add(2);
+
+        YoutubeUploadResponse response = service.upload(1L, REQUEST, fileBacked(file, content.length));
+
+        assertThat(response.videoId()).isEqualTo(ResumableUploadStub.VIDEO_ID);
+        assertThat(stub.committed()).isEqualTo(content);
+        assertThat(stub.statusQueries).hasValue(1);
+    }
+
+    @Test
+    void inMemoryMultipartIsUploaded() {
+        byte[] content = content(KB_256 * 4 + 3);
+
+        YoutubeUploadResponse response = service.upload(1L, REQUEST,
+                new MockMultipartFile("file", "trailer.mp4", "video/mp4", content));
+
+        assertThat(response.videoId()).isEqualTo(ResumableUploadStub.VIDEO_ID);
+        assertThat(stub.committed()).isEqualTo(content);
+    }
+
+    @Test
+    void resumeContinuesFromCommittedOffset() throws IOException {
+        byte[] content = content(KB_256 * 6 + 9);
+        YoutubeUploadSession session = persistedSession(content);
+        stub.preCommit(content, KB_256 * 2);
+
+        Optional<YoutubeUploadResponse> response = service.resumeUpload(JOB_ID);
+
+        assertThat(response).map(YoutubeUploadResponse::videoId).contains(ResumableUploadStub.VIDEO_ID);
+        assertThat(stub.committed()).isEqualTo(content);
+        // 스텁은 커밋된 위치가 아닌 곳에서 시작하는 청크를 400 으로 거절하므로, 여기까지 왔으면 2번째 256KB 뒤부터 보낸 것이다.
+        assertThat(stub.chunkSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(content.length - KB_256 * 2);
+        verify(sessionRepository, atLeastOnce()).updateCommittedOffset(eq(session.getSessionId()), anyLong());
+        verify(sessionRepository).deleteById(session.getSessionId());
+    }
+
+    @Test
+    void resumeOfAlreadyFinishedUploadReturnsResultWithoutSendingChunks() throws IOException {
+        byte[] content = content(KB_256 * 3);
+        persistedSession(content);
+        stub.preCommit(content, content.length);
+
+        Optional<YoutubeUploadResponse> response = service.resumeUpload(JOB_ID);
+
+        assertThat(response).map(YoutubeUploadResponse::videoId).contains(ResumableUploadStub.VIDEO_ID);
+        assertThat(stub.chunkSizes).isEmpty();
+    }
+
+    @Test
+    void resumeDiscardsSessionWhoseLocalFileIsGone() throws IOException {
+        byte[] content = content(KB_256 * 3);
+        YoutubeUploadSession session = persistedSession(content);
+        Files.delete(Path.of(session.getLocalPath()));
+
+        assertThat(service.resumeUpload(JOB_ID)).isEmpty();
+        assertThat(stub.statusQueries).hasValue(0);
+        verify(sessionRepository).deleteById(session.getSessionId());
+    }
+
+    @Test
+    void resumeDiscardsExpiredSession() throws IOException {
+        YoutubeUploadSession session = persistedSession(content(KB_256 * 3));
+        stub.expired = true;
+
+        assertThat(service.resumeUpload(JOB_ID)).isEmpty();
+        assertThat(stub.chunkSizes).isEmpty();
+        verify(sessionRepository).deleteById(session.getSessionId());
+    }
+
+    @Test
+    void resumeWithoutSessionDoesNothing() {
+        when(sessionRepository.findByVideoJobId(JOB_ID)).thenReturn(List.of());
+
+        assertThat(service.resumeUpload(JOB_ID)).isEmpty();
+        assertThat(stub.statusQueries).hasValue(0);
+    }
+
+    /**
+     * 프로세스가 죽기 전에 남긴 것처럼 로컬 파일과 세션을 만든다.
+     */
+    private YoutubeUploadSession persistedSession(byte[] content) throws IOException {
+        Path file = Files.write(tempDir.resolve("trailer_" + JOB_ID + ".mp4"), content);
+        YoutubeUploadSession session = YoutubeUploadSession.create(stub.sessionUrl(), "trailer.mp4", content.length,
+                "video/mp4", user, file.toString(), JOB_ID);
+        when(sessionRepository.findByVideoJobId(JOB_ID)).thenReturn(List.of(session));
+        return session;
+    }
+
+    private static MockMultipartFile fileBacked(Path file, long size) {
+        return new MockMultipartFile("file", "trailer.mp4", "video/mp4", new byte[1]) {
+            @Override
+            public long getSize() {
+                return size;
+            }
+
+            @Override
+            public Resource getResource() {
+                return new FileSystemResource(file);
+            }
+        };
+    }
+
+    private static Set<Path> spillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(path -> path.getFileName().toString().startsWith("upload_spill_"))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    private static byte[] content(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+}
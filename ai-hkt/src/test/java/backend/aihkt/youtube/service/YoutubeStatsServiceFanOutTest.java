@@ -0,0 +1,216 @@
+package backend.aihkt.youtube.service;
+
+import backend.aihkt.infra.google.GoogleApiClient;
+import backend.aihkt.infra.google.GoogleTokenManager;
+import backend.aihkt.infra.http.RetryExecutor;
+import backend.aihkt.infra.http.RetryPolicy;
+import backend.aihkt.youtube.dto.VideoStatResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 스텁 서버를 상대로 getVideoStats 가 보내는 구글 요청 수, 동시에 진행 중인 요청 수, 캐시 적중 시 호출 여부를 확인한다.
+ * 순차/동시 호출의 실제 지연 비교는 jmh 의 {@code YoutubeStatsFetchBenchmark} 에서 한다.
+ */
+class YoutubeStatsServiceFanOutTest {
+
+    private static final int QUERIES_PER_CALL = 8; // Data API 1 + Analytics 7
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final AtomicBoolean gateTimedOut = new AtomicBoolean();
+
+    /** null 이 아니면 스텁이 응답하기 전에 이 래치가 열릴 때까지 요청을 붙잡아 둔다. */
+    private volatile CountDownLatch gate;
+
+    private HttpServer server;
+    private YoutubeStatsService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/youtube/v3/videos", exchange -> respond(exchange,
+                "{\"items\":[{\"statistics\":{\"viewCount\":\"10\",\"likeCount\":\"2\"},"
+                        + "\"contentDetails\":{\"duration\":\"PT1M5S\"}}]}"));
+        server.createContext("/v2/reports", exchange -> {
+            String query = exchange.getRequestURI().getQuery();
+            // 국가별 쿼리만 쿼리 타임아웃보다 오래 걸리게 만들어 부분 결과를 확인한다.
+            if (query.contains("dimensions=country") && query.contains("slow")) {
+                sleep(3_000);
+            }
+            respond(exchange, "{\"rows\":[[\"2025-01-01\",5,3,40.0,55.5]]}");
+        });
+        server.start();
+
+        GoogleTokenManager tokenManager = mock(GoogleTokenManager.class);
+        when(tokenManager.getAccessToken(anyLong())).thenReturn("access-token");
+
+        RetryExecutor retryExecutor = new RetryExecutor(RetryPolicy.defaults(), new SimpleMeterRegistry());
+        GoogleApiClient googleApiClient = new GoogleApiClient(WebClient.create(), retryExecutor);
+        service = new YoutubeStatsService(tokenManager, new ObjectMapper(), googleApiClient, new SimpleMeterRegistry(), null);
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        ReflectionTestUtils.setField(service, "dataApiBaseUrl", baseUrl);
+        ReflectionTestUtils.setField(service, "analyticsApiBaseUrl", baseUrl);
+        ReflectionTestUtils.setField(service, "queryTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(service, "queryDeadline", Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (gate != null) {
+            gate.countDown();
+        }
+        server.stop(0);
+    }
+
+    @Test
+    void sequentialFetchSendsOneQueryAtATime() {
+        ReflectionTestUtils.setField(service, "concurrentFetch", false);
+
+        VideoStatResponse response = service.getVideoStats(1L, "sequential");
+
+        assertThat(response.viewCount()).isEqualTo(10);
+        assertThat(requests).hasValue(QUERIES_PER_CALL);
+        assertThat(peakInFlight).hasValue(1);
+    }
+
+    @Test
+    void concurrentFetchSendsAllQueriesAtOnce() {
+        ReflectionTestUtils.setField(service, "concurrentFetch", true);
+        gate = new CountDownLatch(1);
+
+        CompletableFuture<VideoStatResponse> response =
+                CompletableFuture.supplyAsync(() -> service.getVideoStats(1L, "concurrent"));
+        // 첫 응답이 나가기 전에 8개 요청이 모두 스텁에 도착해야 한다.
+        awaitTrue(() -> inFlight.get() == QUERIES_PER_CALL);
+        gate.countDown();
+
+        assertThat(response.join().dailyMetrics()).hasSize(1);
+        assertThat(requests).hasValue(QUERIES_PER_CALL);
+        assertThat(peakInFlight).hasValue(QUERIES_PER_CALL);
+        assertThat(gateTimedOut).isFalse();
+    }
+
+    @Test
+    void concurrentFetchReturnsPartialResultWhenQueryTimesOut() {
+        ReflectionTestUtils.setField(service, "concurrentFetch", true);
+
+        VideoStatResponse response = service.getVideoStats(1L, "slow");
+
+        assertThat(response.viewCount()).isEqualTo(10);
+        assertThat(response.durationSeconds()).isEqualTo(65);
+        assertThat(response.dailyMetrics()).hasSize(1);
+        assertThat(response.countryMetrics()).isEmpty();
+    }
+
+    @Test
+    void cachedStatsSkipGoogleCallsOnRepeatedPolls() {
+        enableCache(Duration.ofHours(1));
+
+        service.getVideoStats(1L, "dashboard");
+        assertThat(requests).hasValue(QUERIES_PER_CALL);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(service.getVideoStats(1L, "dashboard").viewCount()).isEqualTo(10);
+        }
+        assertThat(requests).hasValue(QUERIES_PER_CALL);
+    }
+
+    @Test
+    void staleEntryIsServedWhileRefreshingInBackground() {
+        enableCache(Duration.ofMillis(200));
+        service.getVideoStats(1L, "stale");
+        sleep(300);
+
+        // 갱신 요청은 래치가 열릴 때까지 스텁에 묶여 있으므로, 이 호출은 갱신을 기다리지 않아야 끝난다.
+        requests.set(0);
+        gate = new CountDownLatch(1);
+        VideoStatResponse response = service.getVideoStats(1L, "stale");
+        assertThat(response.viewCount()).isEqualTo(10);
+
+        awaitTrue(() -> requests.get() == QUERIES_PER_CALL);
+        gate.countDown();
+        awaitTrue(() -> inFlight.get() == 0);
+        assertThat(gateTimedOut).isFalse();
+    }
+
+    private void enableCache(Duration ttl) {
+        ReflectionTestUtils.setField(service, "cacheEnabled", true);
+        ReflectionTestUtils.setField(service, "videoTtl", ttl);
+        ReflectionTestUtils.setField(service, "dailyTtl", ttl);
+        ReflectionTestUtils.setField(service, "breakdownTtl", ttl);
+        ReflectionTestUtils.setField(service, "bulkTtl", ttl);
+        ReflectionTestUtils.setField(service, "maxStale", Duration.ofDays(1));
+        ReflectionTestUtils.setField(service, "failureTtl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(service, "maximumSize", DataSize.ofMegabytes(1));
+        service.initCaches();
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        requests.incrementAndGet();
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            CountDownLatch current = gate;
+            if (current != null && !current.await(5, TimeUnit.SECONDS)) {
+                gateTimedOut.set(true);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // 응답을 보내기 전에 빼야 순차 호출의 다음 요청과 겹쳐 세지 않는다.
+            inFlight.decrementAndGet();
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        } catch (IOException ignored) {
+            // 타임아웃으로 클라이언트가 먼저 끊은 경우
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건을 5초 안에 만족하지 못함").isLessThan(deadline);
+            sleep(10);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
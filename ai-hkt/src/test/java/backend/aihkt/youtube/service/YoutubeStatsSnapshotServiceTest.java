@@ -0,0 +1,119 @@
+package backend.aihkt.youtube.service;
+
+import backend.aihkt.youtube.dto.VideoAnalyticsResponse;
+import backend.aihkt.youtube.dto.VideoStatResponse;
+import backend.aihkt.youtube.repository.VideoDailyMetricRepository;
+import backend.aihkt.youtube.repository.VideoStatSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 적재한 스냅샷을 같은 응답으로 다시 읽고, 다른 사용자나 쌓이지 않은 기간은 스냅샷으로 답하지 않는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "video.job.worker.enabled=false",
+        "youtube.stats.ingestion.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:stats-snapshot" // 다른 테스트 컨텍스트가 만든 스냅샷과 섞이지 않게
+})
+@TestPropertySource(locations = "classpath:application-test.properties")
+class YoutubeStatsSnapshotServiceTest {
+
+    private static final LocalDate END = LocalDate.now();
+    private static final LocalDate START = END.minusDays(6);
+
+    @Autowired
+    private YoutubeStatsSnapshotService snapshotService;
+
+    @Autowired
+    private VideoStatSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private VideoDailyMetricRepository dailyMetricRepository;
+
+    @BeforeEach
+    void setUp() {
+        dailyMetricRepository.deleteAll();
+        snapshotRepository.deleteAll();
+    }
+
+    @Test
+    void savedSnapshotIsReadBackAsTheSameResponse() {
+        VideoStatResponse stats = stats("video-1");
+
+        snapshotService.save(7L, stats, START, END);
+        snapshotService.save(7L, stats, START, END); // 다시 적재해도 일별 행이 늘지 않는다.
+
+        assertThat(snapshotService.findVideoStats(7L, "video-1")).contains(stats);
+        assertThat(dailyMetricRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void snapshotOfAnotherUserIsNotServed() {
+        snapshotService.save(7L, stats("video-1"), START, END);
+
+        assertThat(snapshotService.findVideoStats(8L, "video-1")).isEmpty();
+        assertThat(snapshotService.findBulkAnalytics(8L, List.of("video-1"), START, END)).isEmpty();
+    }
+
+    @Test
+    void bulkAnalyticsIsSummedFromDailyRowsWhenWindowIsCovered() {
+        snapshotService.save(7L, stats("video-1"), START, END);
+
+        VideoAnalyticsResponse bulk = snapshotService.findBulkAnalytics(7L, List.of("video-1"), START, START.plusDays(1))
+                .orElseThrow();
+
+        assertThat(bulk.rows()).singleElement().satisfies(row -> {
+            assertThat(row.views()).isEqualTo(20);
+            assertThat(row.estimatedMinutesWatched()).isEqualTo(9);
+            // 조회수 가중 평균: (5 × 40 + 15 × 20) / 20
+            assertThat(row.averageViewDurationSeconds()).isEqualTo(25.0);
+        });
+    }
+
+    @Test
+    void bulkAnalyticsFallsBackWhenWindowIsNotCovered() {
+        snapshotService.save(7L, stats("video-1"), START, END);
+
+        assertThat(snapshotService.findBulkAnalytics(7L, List.of("video-1"), START.minusDays(1), START.plusDays(1))).isEmpty();
+        assertThat(snapshotService.findBulkAnalytics(7L, List.of("video-1", "video-2"), START, START.plusDays(1))).isEmpty();
+        assertThat(snapshotService.findBulkAnalytics(7L, List.of(), START, START.plusDays(1))).isEmpty();
+    }
+
+    @Test
+    void bulkAnalyticsFallsBackWhenDailyRowsHaveAGap() {
+        // 수집이 하루 빠졌다: START 와 START + 2 만 있다.
+        snapshotService.save(7L, stats("video-1", List.of(
+                new VideoStatResponse.DailyMetric(START.toString(), 5, 3, 40, 50),
+                new VideoStatResponse.DailyMetric(START.plusDays(2).toString(), 15, 6, 20, 50))), START, END);
+
+        assertThat(snapshotService.findBulkAnalytics(7L, List.of("video-1"), START, START.plusDays(2))).isEmpty();
+        assertThat(snapshotService.findBulkAnalytics(7L, List.of("video-1"), START.plusDays(2), START.plusDays(2)))
+                .hasValueSatisfying(bulk -> assertThat(bulk.rows()).singleElement()
+                        .satisfies(row -> assertThat(row.views()).isEqualTo(15)));
+    }
+
+    private static VideoStatResponse stats(String videoId) {
+        return stats(videoId, List.of(
+                new VideoStatResponse.DailyMetric(START.toString(), 5, 3, 40, 50),
+                new VideoStatResponse.DailyMetric(START.plusDays(1).toString(), 15, 6, 20, 50)));
+    }
+
+    private static VideoStatResponse stats(String videoId, List<VideoStatResponse.DailyMetric> dailyMetrics) {
+        return new VideoStatResponse(videoId, 10, 2, 1, 0, 65,
+                dailyMetrics,
+                new VideoStatResponse.SummaryAnalytics(1, 0.5, 20, 30, 50, 9, 1, 0, 2, 1, 0),
+                List.of(new VideoStatResponse.CountryMetric("KR", 20, 100, 0.2)),
+                List.of(),
+                List.of(),
+                List.of(),
+                List.of(new VideoStatResponse.AgeGenderMetric("age18-24", "male", 50)));
+    }
+}